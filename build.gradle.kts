@@ -20,6 +20,19 @@ configurations {
     }
 }
 
+// 벤치마크 소스셋 (src/benchmark/java) - 메인 코드를 참조하되 bootJar에는 포함되지 않음
+val benchmark: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+}
+
+configurations {
+    named("benchmarkImplementation") { extendsFrom(configurations.implementation.get()) }
+    named("benchmarkRuntimeOnly") { extendsFrom(configurations.runtimeOnly.get()) }
+    named("benchmarkCompileOnly") { extendsFrom(configurations.compileOnly.get()) }
+    named("benchmarkAnnotationProcessor") { extendsFrom(configurations.annotationProcessor.get()) }
+}
+
 repositories {
     mavenCentral()
 }
@@ -216,4 +229,38 @@ tasks.register("buildForDeploy") {
         - 통합 서비스: http://localhost:8080
         """.trimIndent())
     }
-}
\ No newline at end of file
+}
+// JWT 서명 알고리즘 벤치마크 태스크
+tasks.register<JavaExec>("jwtBenchmark") {
+    description = "JWT 서명/검증 처리량 비교 (HS256, RS256, ES256)"
+    group = "verification"
+    classpath = benchmark.runtimeClasspath
+    mainClass.set("com.globalcarelink.auth.JwtSigningBenchmark")
+    args = listOf(project.findProperty("iterations")?.toString() ?: "20000")
+}
+
+// 코디네이터 일괄 배정 벤치마크 태스크
+tasks.register<JavaExec>("assignmentBenchmark") {
+    description = "탐욕 배정과 정원 제약 일괄 배정 비교 (평가 수 x 코디네이터 수)"
+    group = "verification"
+    classpath = benchmark.runtimeClasspath
+    mainClass.set("com.globalcarelink.coordinator.CoordinatorAssignmentBenchmark")
+    args = listOf(
+        project.findProperty("assessments")?.toString() ?: "5000",
+        project.findProperty("coordinators")?.toString() ?: "3000",
+        project.findProperty("candidates")?.toString() ?: "50"
+    )
+}
+
+// 매칭 결과 생성 할당량 벤치마크 태스크
+tasks.register<JavaExec>("matchingAllocationBenchmark") {
+    description = "매칭 결과 생성 할당량 비교 (적격 코디네이터 전체 생성 vs 상위 K명만 생성)"
+    group = "verification"
+    classpath = benchmark.runtimeClasspath
+    mainClass.set("com.globalcarelink.coordinator.CoordinatorMatchingAllocationBenchmark")
+    args = listOf(
+        project.findProperty("coordinators")?.toString() ?: "3000",
+        project.findProperty("maxResults")?.toString() ?: "20",
+        project.findProperty("iterations")?.toString() ?: "2000"
+    )
+}
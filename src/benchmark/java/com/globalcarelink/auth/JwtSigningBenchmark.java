@@ -0,0 +1,101 @@
+package com.globalcarelink.auth;
+
+import com.globalcarelink.external.loadtest.LatencyRecorder;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * JWT 서명 알고리즘별 서명/검증 처리량 벤치마크 (HS256, RS256, ES256)
+ * 실제 발급 토큰과 같은 형태의 클레임으로 단일 스레드 서명/검증 지연과 처리량을 측정
+ *
+ * 실행 예: ./gradlew jwtBenchmark (인자: 반복 횟수, 기본 20000)
+ */
+public final class JwtSigningBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    private JwtSigningBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        for (JwtSigningKeyManager.SigningAlgorithm algorithm : JwtSigningKeyManager.SigningAlgorithm.values()) {
+            summaries.addAll(run(algorithm, iterations));
+        }
+
+        System.out.println("=== JWT 서명/검증 벤치마크 (반복 " + iterations + "회, 단일 스레드) ===");
+        summaries.forEach(System.out::println);
+    }
+
+    private static List<LatencyRecorder.Summary> run(JwtSigningKeyManager.SigningAlgorithm algorithm, int iterations) {
+        Function<Integer, String> signer;
+        JwtParser parser;
+
+        if (algorithm == JwtSigningKeyManager.SigningAlgorithm.HS256) {
+            SecretKey key = Keys.hmacShaKeyFor(new byte[32]);
+            signer = i -> builder(i).signWith(key, Jwts.SIG.HS256).compact();
+            parser = Jwts.parser().verifyWith(key).build();
+        } else {
+            KeyPair keyPair = JwtSigningKeyManager.signatureAlgorithm(algorithm).keyPair().build();
+            signer = i -> builder(i).header().keyId("bench").and()
+                    .signWith(keyPair.getPrivate(), JwtSigningKeyManager.signatureAlgorithm(algorithm)).compact();
+            parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+        }
+
+        // JIT 워밍업
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parser.parseSignedClaims(signer.apply(i));
+        }
+
+        String[] tokens = new String[iterations];
+        LatencyRecorder signRecorder = new LatencyRecorder(algorithm + " sign");
+        signRecorder.start();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            tokens[i] = signer.apply(i);
+            signRecorder.record(System.nanoTime() - start, true);
+        }
+        signRecorder.stop();
+
+        LatencyRecorder verifyRecorder = new LatencyRecorder(algorithm + " verify");
+        verifyRecorder.start();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            boolean success = true;
+            try {
+                parser.parseSignedClaims(tokens[i]);
+            } catch (Exception e) {
+                success = false;
+            }
+            verifyRecorder.record(System.nanoTime() - start, success);
+        }
+        verifyRecorder.stop();
+
+        return List.of(signRecorder.summarize(), verifyRecorder.summarize());
+    }
+
+    private static JwtBuilder builder(int index) {
+        Date now = new Date();
+        return Jwts.builder()
+                .claims(Map.of(
+                        "sub", "user" + index + "@example.com",
+                        "roles", List.of("ROLE_USER_DOMESTIC"),
+                        "type", JwtTokenProvider.TokenType.ACCESS.name(),
+                        "tokenId", UUID.randomUUID().toString()))
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 1_800_000));
+    }
+}
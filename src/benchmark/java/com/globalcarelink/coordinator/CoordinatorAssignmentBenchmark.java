@@ -0,0 +1,115 @@
+package com.globalcarelink.coordinator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 일괄 배정 벤치마크 (수천 평가 x 수천 코디네이터)
+ * 코디네이터 품질에 비례한 점수로 후보를 만들어 상위 코디네이터에 요청이 몰리는 상황을 재현하고,
+ * 평가 순서대로 남은 정원이 있는 최고 점수 후보를 고르는 탐욕 배정과 경매 일괄 배정의 배정 건수/평균 점수/소요 시간을 비교
+ * 정원이 충분한 경우와 평가 수가 전체 정원을 넘는 경우를 함께 측정
+ *
+ * 실행 예: ./gradlew assignmentBenchmark -Passessments=5000 -Pcoordinators=3000 -Pcandidates=50 (기본값)
+ */
+public final class CoordinatorAssignmentBenchmark {
+
+    private static final long SEED = 42L;
+
+    private CoordinatorAssignmentBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int assessments = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int coordinators = args.length > 1 ? Integer.parseInt(args[1]) : 3_000;
+        int candidates = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        CoordinatorWorkloadOptimizer optimizer = new CoordinatorWorkloadOptimizer();
+
+        // JIT 워밍업
+        optimizer.assignBatch(generate(500, 300, Math.min(candidates, 300), new Random(SEED)));
+
+        System.out.println("=== 일괄 배정 벤치마크 (코디네이터 " + coordinators + "명, 평가당 후보 " + candidates + "명) ===");
+        for (int count : new int[]{assessments, assessments * 2}) {
+            Map<Integer, List<CoordinatorMatch>> input = generate(count, coordinators, candidates, new Random(SEED));
+
+            long start = System.nanoTime();
+            Map<Integer, CoordinatorMatch> greedy = greedy(input);
+            long greedyMs = (System.nanoTime() - start) / 1_000_000;
+
+            CoordinatorWorkloadOptimizer.BatchAssignment<Integer> batch = optimizer.assignBatch(input);
+
+            System.out.printf("평가 %d건: 탐욕 배정 %d건 (평균 %.2f점, %dms) / 일괄 배정 %d건 (평균 %.2f점, %dms)%n",
+                    count,
+                    greedy.size(), averageScore(greedy), greedyMs,
+                    batch.getAssignments().size(), averageScore(batch.getAssignments()), batch.getElapsedMs());
+        }
+    }
+
+    /**
+     * 코디네이터마다 품질(0~1)과 남은 정원(1~5)을 두고, 점수 = 품질 70% + 평가별 적합도 30%
+     * 후보는 평가마다 무작위 코디네이터를 골라 점수 내림차순 정렬 (매칭 서비스 결과와 같은 형태)
+     */
+    private static Map<Integer, List<CoordinatorMatch>> generate(int assessments, int coordinators, int candidates,
+                                                                 Random random) {
+        double[] quality = new double[coordinators];
+        int[] maxCases = new int[coordinators];
+        for (int c = 0; c < coordinators; c++) {
+            quality[c] = random.nextDouble();
+            maxCases[c] = 1 + random.nextInt(5);
+        }
+
+        int perAssessment = Math.min(candidates, coordinators);
+        int[] order = new int[coordinators];
+        for (int c = 0; c < coordinators; c++) {
+            order[c] = c;
+        }
+
+        Map<Integer, List<CoordinatorMatch>> input = new LinkedHashMap<>();
+        for (int a = 0; a < assessments; a++) {
+            CoordinatorMatch[] matches = new CoordinatorMatch[perAssessment];
+            for (int k = 0; k < perAssessment; k++) {
+                int pick = k + random.nextInt(coordinators - k);
+                int c = order[pick];
+                order[pick] = order[k];
+                order[k] = c;
+                matches[k] = CoordinatorMatch.builder()
+                        .coordinatorId("C" + c)
+                        .matchScore(quality[c] * 70.0 + random.nextDouble() * 30.0)
+                        .currentActiveCases(0)
+                        .maxSimultaneousCases(maxCases[c])
+                        .build();
+            }
+            List<CoordinatorMatch> sorted = new ArrayList<>(List.of(matches));
+            sorted.sort((m1, m2) -> Double.compare(m2.getMatchScore(), m1.getMatchScore()));
+            input.put(a, sorted);
+        }
+        return input;
+    }
+
+    /**
+     * 평가 순서대로 남은 정원이 있는 최고 점수 후보에 배정
+     */
+    private static Map<Integer, CoordinatorMatch> greedy(Map<Integer, List<CoordinatorMatch>> input) {
+        Map<String, Integer> load = new HashMap<>();
+        Map<Integer, CoordinatorMatch> assignments = new LinkedHashMap<>();
+        input.forEach((assessment, matches) -> {
+            for (CoordinatorMatch match : matches) {
+                int current = load.getOrDefault(match.getCoordinatorId(), 0);
+                if (current < match.getMaxSimultaneousCases() - match.getCurrentActiveCases()) {
+                    load.put(match.getCoordinatorId(), current + 1);
+                    assignments.put(assessment, match);
+                    return;
+                }
+            }
+        });
+        return assignments;
+    }
+
+    private static double averageScore(Map<Integer, CoordinatorMatch> assignments) {
+        return assignments.values().stream().mapToDouble(CoordinatorMatch::getMatchScore).average().orElse(0.0);
+    }
+}
@@ -0,0 +1,190 @@
+package com.globalcarelink.coordinator;
+
+import com.globalcarelink.health.HealthAssessment;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 매칭 결과 생성 할당량 벤치마크 (적격 코디네이터 전체 생성 후 정렬/절단 vs 상위 K명 선택 후 생성)
+ * 가상 코디네이터로 적격성 인덱스를 DB 없이 구성하고, 같은 조건의 매칭을 반복하며 호출당 할당 바이트와 시간을 측정
+ * 기존 방식은 모든 적격 코디네이터의 설명 문구/언어 스킬 복사/매치 객체를 만든 뒤 정렬해 자르던 이전 구현을 재현
+ *
+ * 실행 예: ./gradlew matchingAllocationBenchmark -Pcoordinators=3000 -PmaxResults=20 -Piterations=2000 (기본값)
+ *
+ * 측정 결과 (JDK 21.0.1, Xeon 1 vCPU, 결과 20명, 호출당 값 - 시간은 실행마다 편차가 있어 범위로 표기)
+ * - 코디네이터 3000명 (적격 2358명, 2000회): 기존 할당 6056.6KB / 4.7~5.7ms, 상위 K 할당 53.0KB / 0.10~0.20ms
+ * - 코디네이터 10000명 (적격 7913명, 1000회): 기존 할당 20315.2KB / 23.0ms, 상위 K 할당 53.2KB / 0.31ms
+ */
+public final class CoordinatorMatchingAllocationBenchmark {
+
+    private static final long SEED = 42L;
+    private static final List<String> REGIONS = List.of("서울특별시", "경기도", "부산광역시", "인천광역시", "대구광역시");
+    private static final List<String> SPECIALTIES = List.of("dementia", "medical", "rehabilitation", "diabetes", "mental_health");
+    private static final List<String> LANGUAGES = List.of("EN", "ZH", "JA", "VI");
+    // CoordinatorEligibilityIndex.RANKING과 같은 순서 (점수, 만족도, 경력 내림차순)
+    private static final Comparator<CoordinatorMatch> MATCH_RANKING = Comparator
+            .comparingDouble(CoordinatorMatch::getMatchScore).reversed()
+            .thenComparing(CoordinatorMatch::getCustomerSatisfaction, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(CoordinatorMatch::getExperienceYears, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private CoordinatorMatchingAllocationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int coordinators = args.length > 0 ? Integer.parseInt(args[0]) : 3_000;
+        int maxResults = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 2_000;
+
+        // 스프링 밖에서 실행하므로 매칭 디버그 로그가 측정에 섞이지 않도록 로그 수준 조정
+        LoggingSystem.get(CoordinatorMatchingAllocationBenchmark.class.getClassLoader())
+                .setLogLevel(null, LogLevel.WARN);
+
+        Random random = new Random(SEED);
+        CoordinatorEligibilityIndex index = new CoordinatorEligibilityIndex(null, null, null, null);
+        List<CoordinatorLanguageSkill> skills = new ArrayList<>();
+        index.rebuild(generateCoordinators(coordinators, skills, random), skills);
+
+        MatchingExplanationGenerator explanationGenerator = new MatchingExplanationGenerator();
+        OptimizedCoordinatorMatchingService matchingService = new OptimizedCoordinatorMatchingService(
+                null, null, new CoordinatorWorkloadOptimizer(), explanationGenerator, index, null);
+
+        HealthAssessment assessment = HealthAssessment.builder()
+                .mobilityLevel(2)
+                .eatingLevel(2)
+                .toiletLevel(3)
+                .communicationLevel(2)
+                .ltciGrade(3)
+                .build();
+        assessment.calculateAdlScore();
+        MatchingPreference preference = MatchingPreference.builder()
+                .preferredLanguage("KO")
+                .maxResults(maxResults)
+                .build();
+        CoordinatorEligibilityIndex.Criteria criteria = matchingService.toCriteria(assessment, preference);
+
+        System.out.println("=== 매칭 결과 생성 할당량 벤치마크 (코디네이터 " + coordinators + "명, 적격 "
+                + index.findEligible(criteria).size() + "명, 결과 " + maxResults + "명, 반복 " + iterations + "회) ===");
+
+        Supplier<List<CoordinatorMatch>> materializeAll = () -> index.findEligible(criteria).stream()
+                .map(candidate -> toMatch(explanationGenerator, candidate, assessment))
+                .sorted(MATCH_RANKING)
+                .limit(preference.getMaxResults())
+                .collect(Collectors.toList());
+        Supplier<List<CoordinatorMatch>> topK = () -> matchingService.computeOptimalMatches(assessment, preference);
+
+        if (!sameCoordinators(materializeAll.get(), topK.get())) {
+            throw new IllegalStateException("두 방식의 매칭 결과가 다릅니다");
+        }
+
+        // JIT 워밍업
+        run(materializeAll, iterations);
+        run(topK, iterations);
+
+        report("기존 (전체 생성 후 정렬/절단)", materializeAll, iterations);
+        report("상위 K 선택 후 생성", topK, iterations);
+    }
+
+    private static void report(String label, Supplier<List<CoordinatorMatch>> matcher, int iterations) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long results = run(matcher, iterations);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        System.out.printf("%s: 호출당 할당 %.1fKB, 호출당 %.1fµs (결과 %d건)%n",
+                label, allocated / 1024.0 / iterations, elapsed / 1_000.0 / iterations, results / iterations);
+    }
+
+    private static long run(Supplier<List<CoordinatorMatch>> matcher, int iterations) {
+        long results = 0;
+        for (int i = 0; i < iterations; i++) {
+            results += matcher.get().size();
+        }
+        return results;
+    }
+
+    /**
+     * 이전 구현의 매치 객체 생성 (설명 문구 생성, 언어 스킬 복사)
+     */
+    private static CoordinatorMatch toMatch(MatchingExplanationGenerator explanationGenerator,
+                                            CoordinatorEligibilityIndex.ScoredCoordinator candidate,
+                                            HealthAssessment assessment) {
+        CoordinatorCareSettings coordinator = candidate.getSettings();
+        return CoordinatorMatch.builder()
+                .coordinatorId(coordinator.getCoordinatorId())
+                .matchScore(candidate.getScore())
+                .matchReason(explanationGenerator.generateMatchReason(coordinator, assessment, candidate.getScore()))
+                .experienceYears(coordinator.getExperienceYears())
+                .successfulCases(coordinator.getSuccessfulCases())
+                .customerSatisfaction(coordinator.getCustomerSatisfaction())
+                .specialtyAreas(coordinator.getSpecialtyAreas())
+                .languageSkills(new ArrayList<>(candidate.getLanguageSkills()))
+                .availableWeekends(coordinator.getAvailableWeekends())
+                .availableEmergency(coordinator.getAvailableEmergency())
+                .workingRegions(coordinator.getWorkingRegions())
+                .currentActiveCases(coordinator.getCurrentActiveCases())
+                .maxSimultaneousCases(coordinator.getMaxSimultaneousCases())
+                .workloadRatio((double) coordinator.getCurrentActiveCases() / coordinator.getMaxSimultaneousCases())
+                .build();
+    }
+
+    private static boolean sameCoordinators(List<CoordinatorMatch> expected, List<CoordinatorMatch> actual) {
+        return expected.stream().map(CoordinatorMatch::getCoordinatorId).toList()
+                .equals(actual.stream().map(CoordinatorMatch::getCoordinatorId).toList());
+    }
+
+    /**
+     * 케어 등급 범위/만족도/경력/정원이 다양한 활성 코디네이터 (80%는 한국어 가능, 일부는 외국어 추가)
+     */
+    private static List<CoordinatorCareSettings> generateCoordinators(int count, List<CoordinatorLanguageSkill> skills,
+                                                                      Random random) {
+        List<CoordinatorCareSettings> coordinators = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String coordinatorId = String.format("COORD%05d", i);
+            int baseCareLevel = 1 + random.nextInt(3);
+            coordinators.add(CoordinatorCareSettings.builder()
+                    .coordinatorId(coordinatorId)
+                    .baseCareLevel(baseCareLevel)
+                    .maxCareLevel(baseCareLevel + 2 + random.nextInt(2))
+                    .preferredCareGrades(Set.of())
+                    .excludedCareGrades(Set.of())
+                    .specialtyAreas(Set.of(SPECIALTIES.get(random.nextInt(SPECIALTIES.size()))))
+                    .workingRegions(Set.of(REGIONS.get(random.nextInt(REGIONS.size()))))
+                    .maxSimultaneousCases(3 + random.nextInt(8))
+                    .customerSatisfaction(3.0 + Math.round(random.nextDouble() * 20) / 10.0)
+                    .experienceYears(random.nextInt(15))
+                    .successfulCases(random.nextInt(80))
+                    .totalCases(80 + random.nextInt(40))
+                    .build());
+
+            if (random.nextDouble() < 0.8) {
+                skills.add(languageSkill(coordinatorId, "KO", CoordinatorLanguageSkill.LanguageProficiency.NATIVE));
+            }
+            if (random.nextDouble() < 0.3) {
+                skills.add(languageSkill(coordinatorId, LANGUAGES.get(random.nextInt(LANGUAGES.size())),
+                        CoordinatorLanguageSkill.LanguageProficiency.BUSINESS));
+            }
+        }
+        return coordinators;
+    }
+
+    private static CoordinatorLanguageSkill languageSkill(String coordinatorId, String languageCode,
+                                                          CoordinatorLanguageSkill.LanguageProficiency proficiency) {
+        return CoordinatorLanguageSkill.builder()
+                .coordinatorId(coordinatorId)
+                .languageCode(languageCode)
+                .proficiencyLevel(proficiency)
+                .isActive(true)
+                .build();
+    }
+}
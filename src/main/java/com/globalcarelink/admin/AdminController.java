@@ -288,11 +288,40 @@ public class AdminController {
 
     @Operation(
         summary = "캐시 관리",
-        description = "Redis 캐시를 관리합니다."
+        description = "애플리케이션 캐시를 관리합니다. (CLEAR_ALL, CLEAR_CACHE, EVICT_KEY)"
     )
     @PostMapping("/system/cache")
     public ResponseEntity<Void> manageCache(@RequestBody @Valid CacheManagementRequest request) {
         adminService.manageCache(request);
         return ResponseEntity.ok().build();
     }
+
+    @Operation(
+        summary = "캐시 목록 및 통계 조회",
+        description = "캐시별 설정과 히트율, 미스/제거 수, 평균 적재 시간, 크기, L2(Redis) 조회 통계를 조회합니다."
+    )
+    @GetMapping("/system/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStatistics() {
+        return ResponseEntity.ok(adminService.getCacheStatistics());
+    }
+
+    @Operation(
+        summary = "캐시 비우기",
+        description = "지정한 캐시의 모든 항목을 모든 노드에서 삭제합니다."
+    )
+    @DeleteMapping("/system/caches/{cacheName}")
+    public ResponseEntity<Void> clearCache(@PathVariable String cacheName) {
+        adminService.clearCache(cacheName);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(
+        summary = "캐시 키 삭제",
+        description = "지정한 캐시에서 특정 키 항목만 모든 노드에서 삭제합니다."
+    )
+    @DeleteMapping("/system/caches/{cacheName}/keys/{key}")
+    public ResponseEntity<Void> evictCacheKey(@PathVariable String cacheName, @PathVariable String key) {
+        adminService.evictCacheKey(cacheName, key);
+        return ResponseEntity.ok().build();
+    }
 }
\ No newline at end of file
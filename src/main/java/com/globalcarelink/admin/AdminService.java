@@ -5,6 +5,9 @@ import com.globalcarelink.auth.Member;
 import com.globalcarelink.auth.MemberRepository;
 import com.globalcarelink.auth.MemberRole;
 import com.globalcarelink.board.BoardRepository;
+import com.globalcarelink.common.cache.CacheSpec;
+import com.globalcarelink.common.cache.TwoLevelCacheManager;
+import com.globalcarelink.common.exception.CustomException;
 import com.globalcarelink.review.ReviewRepository;
 import com.globalcarelink.facility.FacilityProfileRepository;
 import com.globalcarelink.job.JobRepository;
@@ -13,7 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +26,6 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * 관리자 서비스
@@ -41,7 +44,7 @@ public class AdminService {
     private final ReviewRepository reviewRepository;
     private final FacilityProfileRepository facilityRepository;
     private final JobRepository jobRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheManager cacheManager;
 
     // ===============================
     // 회원 관리
@@ -439,38 +442,66 @@ public class AdminService {
     }
 
     /**
-     * 캐시 관리
+     * 캐시 목록 및 캐시별 통계
+     */
+    public List<CacheStatsResponse> getCacheStatistics() {
+        return cacheManager.getCacheNames().stream()
+            .sorted()
+            .map(this::requireCache)
+            .map(cache -> CacheStatsResponse.from(cache, getCacheSpec(cache.getName())))
+            .toList();
+    }
+
+    /**
+     * 캐시 관리 (애플리케이션 캐시 단위로만 삭제, Redis 전체 삭제는 JWT 블랙리스트 등까지 지우므로 지원하지 않음)
      */
-    @Transactional
     public void manageCache(CacheManagementRequest request) {
-        try {
-            switch (request.getAction()) {
-                case "CLEAR_ALL":
-                    redisTemplate.getConnectionFactory().getConnection().flushAll();
-                    log.info("전체 캐시 삭제 완료 - 사유: {}", request.getReason());
-                    break;
-                    
-                case "CLEAR_BY_PATTERN":
-                    if (request.getPattern() != null) {
-                        Set<String> keys = redisTemplate.keys(request.getPattern());
-                        if (!keys.isEmpty()) {
-                            redisTemplate.delete(keys);
-                            log.info("패턴별 캐시 삭제 완료 - 패턴: {}, 삭제된 키 수: {}", request.getPattern(), keys.size());
-                        }
-                    }
-                    break;
-                    
-                case "FLUSH_DB":
-                    redisTemplate.getConnectionFactory().getConnection().flushDb();
-                    log.info("현재 DB 캐시 삭제 완료 - 사유: {}", request.getReason());
-                    break;
-                    
-                default:
-                    throw new IllegalArgumentException("지원하지 않는 캐시 작업: " + request.getAction());
+        switch (request.getAction()) {
+            case "CLEAR_ALL" -> {
+                cacheManager.getCacheNames().forEach(this::clearCache);
+                log.info("전체 애플리케이션 캐시 삭제 완료 - 사유: {}", request.getReason());
             }
-        } catch (Exception e) {
-            log.error("캐시 관리 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("캐시 관리 실패", e);
+            case "CLEAR_CACHE" -> {
+                clearCache(request.getCacheName());
+                log.info("캐시 삭제 완료 - 캐시: {}, 사유: {}", request.getCacheName(), request.getReason());
+            }
+            case "EVICT_KEY" -> {
+                evictCacheKey(request.getCacheName(), request.getKey());
+                log.info("캐시 키 삭제 완료 - 캐시: {}, 키: {}, 사유: {}",
+                    request.getCacheName(), request.getKey(), request.getReason());
+            }
+            default -> throw new CustomException.BadRequest("지원하지 않는 캐시 작업: " + request.getAction());
+        }
+    }
+
+    /**
+     * 특정 캐시 전체 삭제 (모든 노드의 L1과 Redis L2)
+     */
+    public void clearCache(String cacheName) {
+        requireCache(cacheName).clear();
+    }
+
+    /**
+     * 특정 캐시 키 삭제 (모든 노드의 L1과 Redis L2)
+     */
+    public void evictCacheKey(String cacheName, String key) {
+        if (key == null || key.isBlank()) {
+            throw new CustomException.BadRequest("삭제할 캐시 키는 필수입니다");
         }
+        requireCache(cacheName).evict(key);
+    }
+
+    private Cache requireCache(String cacheName) {
+        // 등록되지 않은 이름으로 새 캐시가 생성되지 않도록 등록 여부를 먼저 확인
+        if (cacheName == null || !cacheManager.getCacheNames().contains(cacheName)) {
+            throw new CustomException.NotFound("존재하지 않는 캐시입니다: " + cacheName);
+        }
+        return cacheManager.getCache(cacheName);
+    }
+
+    private CacheSpec getCacheSpec(String cacheName) {
+        return cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager
+            ? twoLevelCacheManager.getSpec(cacheName)
+            : null;
     }
 }
\ No newline at end of file
@@ -8,9 +8,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class CacheManagementRequest {
     @NotBlank(message = "작업 타입은 필수입니다")
-    private String action; // CLEAR_ALL, CLEAR_BY_PATTERN, FLUSH_DB
+    private String action; // CLEAR_ALL, CLEAR_CACHE, EVICT_KEY
     
-    private String pattern; // Redis 키 패턴 (예: "facility:*")
+    private String cacheName; // 대상 캐시 이름 (예: "facility-profiles")
+    
+    private String key; // 삭제할 캐시 키 (EVICT_KEY)
     
     private String reason; // 캐시 관리 사유
 }
\ No newline at end of file
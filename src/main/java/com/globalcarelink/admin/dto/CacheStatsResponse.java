@@ -0,0 +1,69 @@
+package com.globalcarelink.admin.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.globalcarelink.common.cache.CacheSpec;
+import com.globalcarelink.common.cache.TwoLevelCache;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    
+    // 설정
+    private Long maxSize;
+    private Long ttlMinutes;
+    private Boolean l2Enabled;
+    
+    // L1 (Caffeine) 통계
+    private Long estimatedSize;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRatio;
+    private Long evictionCount;
+    
+    // 원본 적재 (캐시 미스 후 메서드 실행)
+    private Long loadCount;
+    private Double averageLoadMillis;
+    
+    // L2 (Redis) 통계
+    private Long l2HitCount;
+    private Long l2MissCount;
+    
+    public static CacheStatsResponse from(Cache cache, CacheSpec spec) {
+        CacheStatsResponseBuilder builder = CacheStatsResponse.builder().name(cache.getName());
+        
+        if (spec != null) {
+            builder.maxSize(spec.getMaxSize())
+                .ttlMinutes(spec.getTtl().toMinutes());
+        }
+        
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> localCache) {
+            CacheStats stats = localCache.stats();
+            builder.estimatedSize(localCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadCount(stats.loadCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            // Caffeine 적재 통계는 로더를 넘기는 조회만 집계하므로 미스 후 저장까지 기록하는 캐시 자체 통계 사용
+            builder.loadCount(twoLevelCache.getLoadCount())
+                .averageLoadMillis(twoLevelCache.getAverageLoadMillis())
+                .l2Enabled(twoLevelCache.isRemoteEnabled());
+            if (twoLevelCache.isRemoteEnabled()) {
+                builder.l2HitCount(twoLevelCache.getRemoteHitCount())
+                    .l2MissCount(twoLevelCache.getRemoteMissCount());
+            }
+        }
+        
+        return builder.build();
+    }
+}
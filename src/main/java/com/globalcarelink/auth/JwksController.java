@@ -0,0 +1,34 @@
+package com.globalcarelink.auth;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * JWKS 공개 엔드포인트
+ * RS256/ES256 서명 방식에서 검증용 공개키를 공개하여 Nginx, 챗봇 등 다른 서비스가 토큰을 로컬에서 검증
+ */
+@Tag(name = "인증 관리", description = "회원가입, 로그인 등 인증 관련 API")
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtSigningKeyManager signingKeyManager;
+
+    @Operation(
+        summary = "JWT 검증 공개키 목록 (JWKS)",
+        description = "토큰 서명 검증에 사용하는 공개키를 JWK Set 형식으로 반환합니다. HS256 방식에서는 빈 목록입니다."
+    )
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JwtSigningKeyManager.JWKS_CACHE_DURATION).cachePublic())
+                .body(Map.of("keys", signingKeyManager.getPublicJwks()));
+    }
+}
@@ -36,6 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         "/api/test",
         "/actuator/health",
         "/actuator/info",
+        "/.well-known/jwks.json",
         "/error",
         "/h2-console",
         "/swagger-ui",
@@ -68,10 +69,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             
             if (StringUtils.hasText(token)) {
                 try {
-                    if (jwtTokenProvider.validateToken(token)) {
-                        Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
+                    // 검증과 인증 정보 생성을 한 번에 수행 (서명 검증 1회)
+                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
                 } catch (Exception e) {
                     // 토큰 검증 실패 시 로그만 남기고 계속 진행 (SecurityConfig에서 처리)
                     log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
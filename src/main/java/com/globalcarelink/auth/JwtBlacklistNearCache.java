@@ -0,0 +1,423 @@
+package com.globalcarelink.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 블랙리스트 로컬 니어 캐시
+ * - 차단된 토큰 ID 전체를 토큰 만료 시각까지 로컬에 보관하여 "차단되지 않은 토큰" 확인을 네트워크 없이 응답
+ * - Redis pub/sub 채널로 다른 노드의 토큰 차단을 즉시 반영
+ * - 차단 시마다 증가하는 버전 카운터를 주기적으로 비교하여 놓친 메시지가 유예 시간 뒤에도 채워지지 않으면 SCAN으로 재동기화
+ * - Redis 장애 중에도 로컬에 알려진 차단 토큰은 계속 거부하고, 쓰지 못한 차단은 복구 후 재전송
+ * - 차단 기록(SET + 만료 인덱스 + 버전 증가 + 발행)은 Lua 스크립트로 원자적으로 1회 왕복에 처리
+ */
+@Slf4j
+@Component
+public class JwtBlacklistNearCache implements MessageListener {
+
+    static final String REVOCATION_CHANNEL = "jwt:revocations";
+    static final String VERSION_KEY = "jwt:revocation:version";
+    // 차단 토큰 ID -> 만료 시각 정렬 집합 (KEYS 없이 차단 수 집계)
+    static final String EXPIRY_INDEX_KEY = "jwt:revocation:expiries";
+
+    static final String BLACKLIST_KEY_PREFIX = "jwt:blacklist:";
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    // KEYS: 블랙리스트 키, 만료 인덱스, 버전 / ARGV: 토큰 ID, 만료 시각(ms), TTL(ms), 채널
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], 'blacklisted', 'PX', ARGV[3]) "
+                    + "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) "
+                    + "local version = redis.call('INCR', KEYS[3]) "
+                    + "redis.call('PUBLISH', ARGV[4], version .. '|' .. ARGV[1] .. '|' .. ARGV[2]) "
+                    + "return version",
+            Long.class);
+
+    // 사용자 토큰 인덱스에서 지정 타입 토큰을 모두 차단하고 차단한 토큰 ID 목록 반환
+    // 인덱스 조회까지 스크립트 안에서 수행하여 파이프라인에 함께 실어 보냄 (단일 Redis 전제, 블랙리스트 키는 접두사로 구성)
+    // KEYS: 사용자 인덱스, 만료 인덱스, 버전 / ARGV: 현재 시각(ms), 토큰 타입(빈 값이면 전체), 최대 TTL(ms), 채널, 블랙리스트 키 접두사
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_USER_TOKENS_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) "
+                    + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) "
+                    + "local members = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') "
+                    + "local revoked = {} "
+                    + "for i = 1, #members, 2 do "
+                    + "  local member = members[i] "
+                    + "  local sep = string.find(member, ':', 1, true) "
+                    + "  if sep and (ARGV[2] == '' or string.sub(member, 1, sep - 1) == ARGV[2]) then "
+                    + "    local tokenId = string.sub(member, sep + 1) "
+                    + "    local ttl = math.min(math.max(tonumber(members[i + 1]) - now, 1000), tonumber(ARGV[3])) "
+                    + "    redis.call('SET', ARGV[5] .. tokenId, 'blacklisted', 'PX', ttl) "
+                    + "    redis.call('ZADD', KEYS[2], now + ttl, tokenId) "
+                    + "    local version = redis.call('INCR', KEYS[3]) "
+                    + "    redis.call('PUBLISH', ARGV[4], version .. '|' .. tokenId .. '|' .. (now + ttl)) "
+                    + "    redis.call('ZREM', KEYS[1], member) "
+                    + "    table.insert(revoked, tokenId) "
+                    + "  end "
+                    + "end "
+                    + "return revoked",
+            List.class);
+
+    // 재동기화 시 TTL을 한 번에 조회할 키 수
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 토큰 ID -> 만료 시각(ms), 항목별로 토큰 만료 시각에 제거
+    private final Cache<String, Long> revokedTokens = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, Long>() {
+                @Override
+                public long expireAfterCreate(String tokenId, Long expiresAtMillis, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+                }
+
+                @Override
+                public long expireAfterUpdate(String tokenId, Long expiresAtMillis,
+                                              long currentTime, long currentDuration) {
+                    return expireAfterCreate(tokenId, expiresAtMillis, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String tokenId, Long expiresAtMillis,
+                                            long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // Redis에 기록하지 못한 차단 (복구 후 재전송)
+    private final Queue<Revocation> pendingRevocations = new ConcurrentLinkedQueue<>();
+
+    // 연속으로 반영한 마지막 차단 버전 (이 버전까지는 빠짐없이 반영됨)
+    private final AtomicLong appliedVersion = new AtomicLong(-1);
+    // 연속 구간 이후에 먼저 도착한 버전 (앞 버전이 도착하면 연속 구간으로 흡수)
+    private final ConcurrentSkipListSet<Long> outOfOrderVersions = new ConcurrentSkipListSet<>();
+    // 원격 버전을 따라잡지 못한 상태가 처음 확인된 시각과 그때의 원격 버전 (0이면 따라잡은 상태)
+    private volatile long lagObservedAtMillis = 0;
+    private volatile long lagTargetVersion = 0;
+
+    // Redis 전체 블랙리스트와 동기화된 상태인지 여부
+    private volatile boolean synced = false;
+
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwt-blacklist-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${jwt.blacklist.near-cache.reconcile-interval-seconds:10}")
+    private long reconcileIntervalSeconds;
+
+    // 놓친 버전이 이 시간 안에 도착하지 않으면 전체 재동기화
+    @Value("${jwt.blacklist.near-cache.gap-grace-seconds:5}")
+    private long gapGraceSeconds;
+
+    public JwtBlacklistNearCache(@Qualifier("jwtStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        reconciler.scheduleWithFixedDelay(this::reconcile, 0, reconcileIntervalSeconds, TimeUnit.SECONDS);
+        log.info("JWT 블랙리스트 니어 캐시 시작 - 재동기화 확인 주기: {}초", reconcileIntervalSeconds);
+    }
+
+    @PreDestroy
+    public void stop() {
+        reconciler.shutdownNow();
+    }
+
+    /**
+     * 로컬 차단 여부 (네트워크 호출 없음)
+     */
+    public boolean isRevoked(String tokenId) {
+        Long expiresAtMillis = revokedTokens.getIfPresent(tokenId);
+        return expiresAtMillis != null && expiresAtMillis > System.currentTimeMillis();
+    }
+
+    /**
+     * 로컬 캐시가 Redis 블랙리스트 전체를 반영하고 있는지 여부
+     * false이면 다른 노드의 차단을 놓쳤을 수 있으므로 Redis 확인이 필요
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public long size() {
+        return revokedTokens.estimatedSize();
+    }
+
+    /**
+     * Redis 기준 현재 유효한 차단 토큰 수 (만료 항목 정리 후 ZCARD)
+     */
+    public long countActiveRevocations() {
+        pruneExpiredRevocations();
+        Long count = redisTemplate.opsForZSet().zCard(EXPIRY_INDEX_KEY);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 차단 만료 인덱스에서 만료된 항목 제거
+     */
+    public void pruneExpiredRevocations() {
+        redisTemplate.opsForZSet().removeRangeByScore(EXPIRY_INDEX_KEY, Double.NEGATIVE_INFINITY,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 토큰 차단을 로컬에 반영하고 Redis 기록 + 다른 노드에 전파
+     * Redis 장애 시 로컬 차단은 유지하고 복구 후 재전송
+     */
+    public void revoke(String tokenId, long ttlSeconds) {
+        Revocation revocation = Revocation.of(tokenId, ttlSeconds);
+        applyLocally(revocation);
+
+        try {
+            writeAndPublish(redisTemplate, revocation);
+        } catch (Exception e) {
+            log.error("토큰 차단 Redis 기록 실패, 복구 후 재전송 예정: {}", e.getMessage());
+            queuePending(List.of(revocation));
+        }
+    }
+
+    /**
+     * 로컬 차단 목록에만 반영 (Redis 기록은 호출자가 수행)
+     */
+    void applyLocally(Revocation revocation) {
+        revokedTokens.put(revocation.getTokenId(), revocation.getExpiresAtMillis());
+    }
+
+    /**
+     * Redis에 기록하지 못한 차단을 재전송 대기열에 추가
+     */
+    void queuePending(List<Revocation> revocations) {
+        pendingRevocations.addAll(revocations);
+        synced = false;
+    }
+
+    /**
+     * 차단 기록 + 전파 명령 실행 (파이프라인 안에서 호출 가능)
+     */
+    void writeAndPublish(RedisOperations<String, String> operations, Revocation revocation) {
+        long ttlMillis = revocation.getExpiresAtMillis() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        operations.execute(REVOKE_SCRIPT,
+                List.of(BLACKLIST_KEY_PREFIX + revocation.getTokenId(), EXPIRY_INDEX_KEY, VERSION_KEY),
+                revocation.getTokenId(), String.valueOf(revocation.getExpiresAtMillis()),
+                String.valueOf(ttlMillis), REVOCATION_CHANNEL);
+    }
+
+    /**
+     * 사용자 토큰 인덱스 기반 일괄 차단 명령 실행 (파이프라인 안에서 호출 가능)
+     * 결과는 차단된 토큰 ID 목록 (파이프라인에서는 실행 결과 목록으로 반환)
+     */
+    @SuppressWarnings("unchecked")
+    List<String> revokeUserTokens(RedisOperations<String, String> operations, String userIndexKey,
+                                  String tokenType, long maxTtlSeconds) {
+        return operations.execute(REVOKE_USER_TOKENS_SCRIPT,
+                List.of(userIndexKey, EXPIRY_INDEX_KEY, VERSION_KEY),
+                String.valueOf(System.currentTimeMillis()), tokenType != null ? tokenType : "",
+                String.valueOf(maxTtlSeconds * 1000), REVOCATION_CHANNEL, BLACKLIST_KEY_PREFIX);
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 발행한 차단 메시지 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + MESSAGE_SEPARATOR);
+        if (parts.length != 3) {
+            log.warn("알 수 없는 토큰 차단 메시지 형식: {}", body);
+            return;
+        }
+
+        try {
+            long version = Long.parseLong(parts[0]);
+            revokedTokens.put(parts[1], Long.parseLong(parts[2]));
+            markApplied(version);
+        } catch (NumberFormatException e) {
+            log.warn("토큰 차단 메시지 파싱 실패: {}", body);
+        }
+    }
+
+    /**
+     * 미전송 차단 재전송 및 버전 비교 후 필요 시 전체 재동기화
+     */
+    void reconcile() {
+        try {
+            Revocation pending;
+            while ((pending = pendingRevocations.peek()) != null) {
+                writeAndPublish(redisTemplate, pending);
+                pendingRevocations.poll();
+            }
+
+            String remote = redisTemplate.opsForValue().get(VERSION_KEY);
+            long remoteVersion = remote != null ? Long.parseLong(remote) : 0;
+            if (!synced || gapOutlastedGrace(remoteVersion)) {
+                resync(remoteVersion);
+            }
+        } catch (Exception e) {
+            if (synced) {
+                log.warn("JWT 블랙리스트 동기화 실패 - 로컬 차단 목록으로 계속 확인: {}", e.getMessage());
+            }
+            synced = false;
+        }
+    }
+
+    /**
+     * 버전 반영 기록 - 연속 구간 다음 버전이면 이어서 도착해 있던 버전까지 연속 구간으로 흡수
+     */
+    private synchronized void markApplied(long version) {
+        long applied = appliedVersion.get();
+        if (version <= applied) {
+            return;
+        }
+        if (version != applied + 1) {
+            outOfOrderVersions.add(version);
+            return;
+        }
+        advanceAppliedVersion(version);
+    }
+
+    // 연속 구간을 version까지 올리고, 먼저 도착해 있던 다음 버전들도 이어서 흡수
+    private void advanceAppliedVersion(long version) {
+        long applied = version;
+        outOfOrderVersions.headSet(applied, true).clear();
+        while (outOfOrderVersions.remove(applied + 1)) {
+            applied++;
+        }
+        appliedVersion.set(applied);
+    }
+
+    /**
+     * 원격 버전보다 뒤처진 상태가 유예 시간 넘게 이어졌는지 확인
+     * 메시지가 늦게 도착하는 중일 수 있으므로 처음 확인한 시점의 원격 버전을 유예 시간 안에 따라잡으면 재동기화하지 않음
+     */
+    private boolean gapOutlastedGrace(long remoteVersion) {
+        long now = System.currentTimeMillis();
+        if (appliedVersion.get() >= remoteVersion) {
+            lagObservedAtMillis = 0;
+            return false;
+        }
+        if (lagObservedAtMillis == 0 || appliedVersion.get() >= lagTargetVersion) {
+            lagObservedAtMillis = now;
+            lagTargetVersion = remoteVersion;
+            return false;
+        }
+        return now - lagObservedAtMillis >= TimeUnit.SECONDS.toMillis(gapGraceSeconds);
+    }
+
+    /**
+     * Redis 블랙리스트 전체를 SCAN으로 읽어 로컬 캐시 재구성 (TTL은 키 묶음마다 파이프라인 1회로 조회)
+     * 스캔 전에 읽은 버전까지 반영 완료로 보고, 스캔 중 도착한 이후 버전은 그대로 이어서 반영
+     */
+    private void resync(long remoteVersion) {
+        long loaded = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    loaded += loadRevocations(batch);
+                    batch.clear();
+                }
+            }
+        }
+        loaded += loadRevocations(batch);
+
+        synchronized (this) {
+            if (remoteVersion > appliedVersion.get()) {
+                advanceAppliedVersion(remoteVersion);
+            }
+        }
+        lagObservedAtMillis = 0;
+        boolean wasSynced = synced;
+        synced = true;
+        if (!wasSynced) {
+            log.info("JWT 블랙리스트 니어 캐시 동기화 완료 - 차단 토큰: {}개, 버전: {}", loaded, remoteVersion);
+        } else {
+            log.debug("JWT 블랙리스트 니어 캐시 재동기화 - 차단 토큰: {}개, 버전: {}", loaded, remoteVersion);
+        }
+    }
+
+    /**
+     * 블랙리스트 키 묶음의 남은 TTL을 파이프라인으로 조회해 로컬 캐시에 반영
+     */
+    private long loadRevocations(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Object> ttls = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                keys.forEach(key -> ops.getExpire(key, TimeUnit.MILLISECONDS));
+                return null;
+            }
+        });
+
+        long now = System.currentTimeMillis();
+        long loaded = 0;
+        for (int i = 0; i < keys.size() && i < ttls.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                revokedTokens.put(keys.get(i).substring(BLACKLIST_KEY_PREFIX.length()), now + ttl);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 토큰 차단 (토큰 ID + 차단 만료 시각)
+     */
+    @Getter
+    @AllArgsConstructor
+    static class Revocation {
+        private final String tokenId;
+        private final long expiresAtMillis;
+
+        static Revocation of(String tokenId, long ttlSeconds) {
+            return new Revocation(tokenId, System.currentTimeMillis() + ttlSeconds * 1000);
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.globalcarelink.auth;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * JWT 서명 키 관리자
+ * - HS256: 기존 공유 비밀키 방식 (기본값)
+ * - RS256/ES256: 비대칭 키로 서명하고 공개키를 JWKS로 공개하여 다른 서비스(Nginx 등)가 로컬에서 검증
+ * - 키 순환: 순환 시점보다 먼저 새 키를 만들어 JWKS로 공개하고, JWKS 캐시와 다른 노드의 키 재확인 주기가 지난 뒤 서명에 사용
+ *   이전 키는 발급 토큰이 모두 만료될 때까지 검증용으로 유지
+ * - 키 디렉터리를 지정하면 키를 파일로 보관하여 여러 노드가 같은 키 집합을 사용 (미지정 시 노드별 메모리 키)
+ */
+@Slf4j
+@Component
+public class JwtSigningKeyManager extends LocatorAdapter<Key> {
+
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+
+    // JWKS 응답 캐시 시간 (검증 측이 새 키를 받기까지 최대 지연)
+    static final Duration JWKS_CACHE_DURATION = Duration.ofMinutes(5);
+    // 다른 노드가 키 디렉터리를 다시 읽는 주기
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+    // 새 키는 공개 후 이 시간이 지나야 서명에 사용 (JWKS 캐시 + 노드 재확인 주기)
+    static final Duration KEY_ACTIVATION_DELAY = JWKS_CACHE_DURATION.plus(REFRESH_INTERVAL);
+    // 알 수 없는 kid로 인한 키 디렉터리 재로딩 최소 간격
+    private static final long UNKNOWN_KEY_RELOAD_INTERVAL_MILLIS = 10_000L;
+
+    private static final Set<PosixFilePermission> PRIVATE_KEY_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public enum SigningAlgorithm {
+        HS256, RS256, ES256
+    }
+
+    private final SigningAlgorithm algorithm;
+    private final SecretKey hmacKey;
+    private final Path keyDirectory;
+    private final Duration rotationInterval;
+    private final Duration verificationRetention;
+    private final boolean acceptLegacyHmac;
+
+    // 서명/검증 키 (최신 키가 앞, 첫 번째 키로 서명)
+    private volatile List<SigningKey> keys = Collections.emptyList();
+    private final AtomicLong lastUnknownKeyReload = new AtomicLong();
+
+    private final ScheduledExecutorService rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwt-key-rotation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JwtSigningKeyManager(
+            @Value("${jwt.secret:mySecretKey}") String secret,
+            @Value("${jwt.signing.algorithm:HS256}") SigningAlgorithm algorithm,
+            @Value("${jwt.signing.key-directory:}") String keyDirectory,
+            @Value("${jwt.signing.rotation-interval-hours:720}") long rotationIntervalHours,
+            @Value("${jwt.refresh-token-validity-in-seconds:604800}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.signing.accept-legacy-hmac:true}") boolean acceptLegacyHmac) {
+
+        // 보안 강화: 최소 256비트 키 보장
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < 32) {
+            // 키가 너무 짧으면 패딩하여 256비트로 만듦
+            keyBytes = Arrays.copyOf(keyBytes, 32);
+        }
+        this.hmacKey = Keys.hmacShaKeyFor(keyBytes);
+
+        this.algorithm = algorithm;
+        this.keyDirectory = StringUtils.hasText(keyDirectory) ? Paths.get(keyDirectory) : null;
+        this.rotationInterval = Duration.ofHours(rotationIntervalHours);
+        // 이전 키로 서명된 토큰 중 가장 오래 사는 리프레시 토큰이 만료될 때까지 검증 키 유지
+        // (다음 키가 활성화될 때까지 서명이 이어지므로 활성화 지연만큼 더 유지)
+        this.verificationRetention = rotationInterval.plus(KEY_ACTIVATION_DELAY)
+                .plusSeconds(refreshTokenValidityInSeconds);
+        this.acceptLegacyHmac = acceptLegacyHmac;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (algorithm == SigningAlgorithm.HS256) {
+            log.info("JWT 서명 방식: HS256 (공유 비밀키)");
+            return;
+        }
+
+        refreshKeys();
+        // 다른 노드가 만든 새 키를 반영하고 순환 시점을 확인하기 위해 주기적으로 재확인
+        rotator.scheduleWithFixedDelay(this::refreshKeysSafely,
+                REFRESH_INTERVAL.toSeconds(), REFRESH_INTERVAL.toSeconds(), TimeUnit.SECONDS);
+
+        if (keyDirectory == null) {
+            log.warn("JWT 키 디렉터리가 지정되지 않아 노드별 메모리 키를 사용합니다. 여러 노드 운영 시 jwt.signing.key-directory를 공유 경로로 지정하세요");
+        }
+        log.info("JWT 서명 방식: {} - 활성 키: {}, 검증 키: {}개, 순환 주기: {}시간",
+                algorithm, activeKey(Instant.now()).getKeyId(), keys.size(), rotationInterval.toHours());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rotator.shutdownNow();
+    }
+
+    public SigningAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 현재 활성 키로 서명 (비대칭 방식은 헤더에 kid 포함)
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (algorithm == SigningAlgorithm.HS256) {
+            return builder.signWith(hmacKey);
+        }
+        SigningKey active = activeKey(Instant.now());
+        return builder.header().keyId(active.getKeyId()).and()
+                .signWith(active.getKeyPair().getPrivate(), signatureAlgorithm(algorithm));
+    }
+
+    /**
+     * 서명 검증 키 조회 (JwtParser keyLocator)
+     * kid가 없는 토큰은 HS256 토큰으로 보고 공유 비밀키로 검증 (비대칭 전환 중 기존 토큰 허용 여부는 설정)
+     * 모르는 kid면 다른 노드가 방금 만든 키일 수 있으므로 키 디렉터리를 한 번 다시 읽은 뒤 판단 (재로딩 간격 제한)
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            if (algorithm == SigningAlgorithm.HS256 || acceptLegacyHmac) {
+                return hmacKey;
+            }
+            throw new UnsupportedJwtException("서명 키 ID가 없는 토큰입니다");
+        }
+        Key key = findPublicKey(keyId);
+        if (key == null && reloadForUnknownKey()) {
+            key = findPublicKey(keyId);
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + keyId);
+        }
+        return key;
+    }
+
+    /**
+     * 검증 가능한 공개키의 JWK 목록 (RFC 7517, HS256 방식이면 빈 목록)
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (SigningKey key : keys) {
+            jwks.add(toJwk(key));
+        }
+        return jwks;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 서명에 쓸 키 - 활성화 지연이 지난 키 중 가장 최신 키
+     * 활성화된 키가 없으면(첫 키 생성 직후) 가장 최신 키
+     */
+    private SigningKey activeKey(Instant now) {
+        List<SigningKey> current = keys;
+        for (SigningKey key : current) {
+            if (!key.getCreatedAt().plus(KEY_ACTIVATION_DELAY).isAfter(now)) {
+                return key;
+            }
+        }
+        return current.get(0);
+    }
+
+    private Key findPublicKey(String keyId) {
+        for (SigningKey key : keys) {
+            if (key.getKeyId().equals(keyId)) {
+                return key.getKeyPair().getPublic();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 모르는 kid 수신 시 키 디렉터리 재로딩 (공유 디렉터리가 없거나 최근에 재로딩했으면 생략)
+     */
+    private boolean reloadForUnknownKey() {
+        if (keyDirectory == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastUnknownKeyReload.get();
+        if (now - last < UNKNOWN_KEY_RELOAD_INTERVAL_MILLIS || !lastUnknownKeyReload.compareAndSet(last, now)) {
+            return false;
+        }
+        refreshKeysSafely();
+        return true;
+    }
+
+    private void refreshKeysSafely() {
+        try {
+            refreshKeys();
+        } catch (Exception e) {
+            log.error("JWT 서명 키 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키 디렉터리 재로딩, 보관 기간이 지난 키 제거, 순환 시점이 활성화 지연 이내로 다가오면 다음 키 생성
+     * (다음 키는 생성 즉시 JWKS로 공개되고 활성화 지연이 지난 뒤부터 서명에 사용)
+     */
+    private synchronized void refreshKeys() {
+        Instant now = Instant.now();
+        List<SigningKey> loaded = keyDirectory != null ? loadKeys() : new ArrayList<>(keys);
+
+        loaded.removeIf(key -> key.getCreatedAt().plus(verificationRetention).isBefore(now));
+        loaded.sort(Comparator.comparing(SigningKey::getCreatedAt).reversed());
+
+        if (loaded.isEmpty()
+                || loaded.get(0).getCreatedAt().plus(rotationInterval).minus(KEY_ACTIVATION_DELAY).isBefore(now)) {
+            SigningKey created = generateKey();
+            loaded.add(0, created);
+            log.info("JWT 서명 키 생성 - 키 ID: {}, 서명 시작: {}", created.getKeyId(),
+                    loaded.size() == 1 ? "즉시" : created.getCreatedAt().plus(KEY_ACTIVATION_DELAY));
+        }
+
+        keys = Collections.unmodifiableList(loaded);
+    }
+
+    private SigningKey generateKey() {
+        Instant createdAt = Instant.now();
+        // 같은 초에 여러 노드가 키를 만들어도 파일이 겹치지 않도록 임의 접미사 추가
+        String keyId = algorithm.name().toLowerCase() + "-" + createdAt.getEpochSecond()
+                + "-" + HexFormat.of().toHexDigits(RANDOM.nextInt());
+        KeyPair keyPair = signatureAlgorithm(algorithm).keyPair().build();
+        SigningKey key = new SigningKey(keyId, keyPair, createdAt);
+
+        if (keyDirectory != null) {
+            try {
+                Files.createDirectories(keyDirectory);
+                Files.writeString(keyDirectory.resolve(keyId + PUBLIC_KEY_SUFFIX),
+                        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+                // 공개키를 먼저 기록해 다른 노드가 불완전한 키를 읽지 않도록 개인키를 마지막에 기록
+                Path privateKeyFile = createPrivateKeyFile(keyDirectory.resolve(keyId + PRIVATE_KEY_SUFFIX));
+                Files.writeString(privateKeyFile,
+                        Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            } catch (IOException e) {
+                log.error("JWT 서명 키 저장 실패 - 키 ID: {}, 오류: {}", keyId, e.getMessage());
+            }
+        }
+        return key;
+    }
+
+    /**
+     * 개인키 파일을 소유자만 읽고 쓸 수 있도록 생성 (POSIX 권한을 지원하지 않는 파일 시스템이면 기본 권한)
+     */
+    private static Path createPrivateKeyFile(Path path) throws IOException {
+        try {
+            return Files.createFile(path, PosixFilePermissions.asFileAttribute(PRIVATE_KEY_PERMISSIONS));
+        } catch (UnsupportedOperationException e) {
+            return Files.createFile(path);
+        }
+    }
+
+    /**
+     * 키 디렉터리에서 현재 알고리즘의 키 로딩
+     * (파일명: {kid}.key / {kid}.pub, kid = {알고리즘}-{생성 epoch초}[-{임의 접미사}])
+     */
+    private List<SigningKey> loadKeys() {
+        List<SigningKey> loaded = new ArrayList<>();
+        if (!Files.isDirectory(keyDirectory)) {
+            return loaded;
+        }
+
+        String prefix = algorithm.name().toLowerCase() + "-";
+        try (Stream<Path> files = Files.list(keyDirectory)) {
+            for (Path privateKeyFile : files.filter(path -> path.getFileName().toString().startsWith(prefix)
+                    && path.getFileName().toString().endsWith(PRIVATE_KEY_SUFFIX)).toList()) {
+                String fileName = privateKeyFile.getFileName().toString();
+                String keyId = fileName.substring(0, fileName.length() - PRIVATE_KEY_SUFFIX.length());
+                try {
+                    KeyFactory keyFactory = KeyFactory.getInstance(algorithm == SigningAlgorithm.RS256 ? "RSA" : "EC");
+                    PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(
+                            Base64.getDecoder().decode(Files.readString(privateKeyFile).trim())));
+                    PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(
+                            Base64.getDecoder().decode(Files.readString(
+                                    keyDirectory.resolve(keyId + PUBLIC_KEY_SUFFIX)).trim())));
+                    String epochSecond = keyId.substring(prefix.length()).split("-", 2)[0];
+                    Instant createdAt = Instant.ofEpochSecond(Long.parseLong(epochSecond));
+                    loaded.add(new SigningKey(keyId, new KeyPair(publicKey, privateKey), createdAt));
+                } catch (Exception e) {
+                    log.warn("JWT 서명 키 로딩 실패 - 파일: {}, 오류: {}", fileName, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("JWT 키 디렉터리 읽기 실패: {}", e.getMessage());
+        }
+        return loaded;
+    }
+
+    private Map<String, Object> toJwk(SigningKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        PublicKey publicKey = key.getKeyPair().getPublic();
+        if (publicKey instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else if (publicKey instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), 32));
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.name());
+        jwk.put("kid", key.getKeyId());
+        return jwk;
+    }
+
+    /**
+     * 부호 없는 빅엔디언 정수를 base64url로 인코딩 (length > 0이면 해당 바이트 수로 맞춤)
+     */
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > 0 && bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static SignatureAlgorithm signatureAlgorithm(SigningAlgorithm algorithm) {
+        return switch (algorithm) {
+            case RS256 -> Jwts.SIG.RS256;
+            case ES256 -> Jwts.SIG.ES256;
+            case HS256 -> throw new IllegalArgumentException("HS256은 비대칭 알고리즘이 아닙니다");
+        };
+    }
+
+    /**
+     * 서명 키 (kid + 키 쌍 + 생성 시각)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class SigningKey {
+        private final String keyId;
+        private final KeyPair keyPair;
+        private final Instant createdAt;
+    }
+}
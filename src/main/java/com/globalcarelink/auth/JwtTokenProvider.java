@@ -1,8 +1,12 @@
 package com.globalcarelink.auth;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.globalcarelink.common.exception.CustomException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,11 +17,10 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -27,66 +30,90 @@ import java.util.stream.Collectors;
  * - 서버 재시작 시에도 블랙리스트 유지
  * - 향상된 보안 검증
  * - 토큰 메타데이터 추적
+ * - 검증된 클레임 캐시 (요청당 서명 검증 1회, 같은 토큰 재요청 시 서명 검증 생략)
+ * - 서명 방식(HS256/RS256/ES256)과 키 순환은 JwtSigningKeyManager에 위임
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final JwtSigningKeyManager signingKeyManager;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
     private final RedisJwtBlacklistService blacklistService;
+    private final JwtParser jwtParser;
+    private final ObjectMapper objectMapper;
+    
+    // 서명 검증이 끝난 토큰의 클레임 캐시 (토큰 만료 시각까지만 유지)
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
     
     // Redis 기반으로 교체되어 제거된 기존 인메모리 저장소
     // private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
     // private final Map<String, TokenMetadata> tokenMetadataStore = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(
-            @Value("${jwt.secret:mySecretKey}") String secretKey,
+            JwtSigningKeyManager signingKeyManager,
             @Value("${jwt.access-token-validity-in-seconds:1800}") long accessTokenValidityInSeconds,
             @Value("${jwt.refresh-token-validity-in-seconds:604800}") long refreshTokenValidityInSeconds,
-            RedisJwtBlacklistService blacklistService) {
+            RedisJwtBlacklistService blacklistService,
+            ObjectMapper objectMapper,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+            @Value("${jwt.verified-cache.max-ttl-seconds:600}") long verifiedCacheMaxTtlSeconds) {
         
-        // 보안 강화: 최소 256비트 키 보장
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        if (keyBytes.length < 32) {
-            // 키가 너무 짧으면 패딩하여 256비트로 만듦
-            keyBytes = Arrays.copyOf(keyBytes, 32);
-        }
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.signingKeyManager = signingKeyManager;
+        // 헤더의 kid로 검증 키 선택 (kid 없는 토큰은 HS256 공유 비밀키)
+        this.jwtParser = Jwts.parser()
+                .keyLocator(signingKeyManager)
+                .build();
         
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
         this.blacklistService = blacklistService;
+        this.objectMapper = objectMapper;
+        this.verifiedTokenCache = createVerifiedTokenCache(verifiedCacheMaxSize, verifiedCacheMaxTtlSeconds);
         
-        log.info("JWT 토큰 제공자 초기화 완료 (Redis 블랙리스트 적용) - Access Token 유효기간: {}초, Refresh Token 유효기간: {}초", 
-                accessTokenValidityInSeconds, refreshTokenValidityInSeconds);
+        log.info("JWT 토큰 제공자 초기화 완료 (Redis 블랙리스트 적용) - 서명 방식: {}, Access Token 유효기간: {}초, Refresh Token 유효기간: {}초", 
+                signingKeyManager.getAlgorithm(), accessTokenValidityInSeconds, refreshTokenValidityInSeconds);
     }
 
     /**
      * 액세스 토큰 생성
      */
     public String createAccessToken(String email, Collection<? extends GrantedAuthority> authorities) {
-        return createToken(email, authorities, accessTokenValidityInMilliseconds, TokenType.ACCESS);
+        return createToken(email, authorities, accessTokenValidityInMilliseconds, TokenType.ACCESS).getToken();
     }
 
     /**
      * 리프레시 토큰 생성
      */
     public String createRefreshToken(String email) {
-        return createToken(email, Collections.emptyList(), refreshTokenValidityInMilliseconds, TokenType.REFRESH);
+        return createToken(email, Collections.emptyList(), refreshTokenValidityInMilliseconds, TokenType.REFRESH).getToken();
     }
 
     /**
      * 토큰 쌍 생성 (액세스 + 리프레시)
+     * 메타데이터 저장과 사용자 인덱스 등록은 Redis 파이프라인 1회 왕복으로 처리
      */
     public TokenPair createTokenPair(String email, Collection<? extends GrantedAuthority> authorities) {
-        String accessToken = createAccessToken(email, authorities);
-        String refreshToken = createRefreshToken(email);
+        RedisJwtBlacklistService.TokenWriteBatch batch = blacklistService.newBatch();
+        TokenPair tokenPair = issueTokenPair(email, authorities, batch);
+        batch.execute();
+        return tokenPair;
+    }
+
+    /**
+     * 토큰 쌍 생성 후 Redis 쓰기를 배치에 추가 (실행은 호출자가 수행)
+     */
+    private TokenPair issueTokenPair(String email, Collection<? extends GrantedAuthority> authorities,
+                                     RedisJwtBlacklistService.TokenWriteBatch batch) {
+        // 토큰 ID는 생성 시 만든 값을 그대로 사용 (방금 서명한 토큰을 다시 파싱/검증하지 않음)
+        IssuedToken accessToken = createToken(email, authorities, accessTokenValidityInMilliseconds, TokenType.ACCESS);
+        IssuedToken refreshToken = createToken(email, Collections.emptyList(),
+                refreshTokenValidityInMilliseconds, TokenType.REFRESH);
         
         // 토큰 메타데이터 저장 (Redis 기반)
         TokenMetadata accessMetadata = TokenMetadata.builder()
-                .tokenId(extractTokenId(accessToken))
+                .tokenId(accessToken.getTokenId())
                 .email(email)
                 .type(TokenType.ACCESS)
                 .issuedAt(LocalDateTime.now())
@@ -96,7 +123,7 @@ public class JwtTokenProvider {
                 .build();
         
         TokenMetadata refreshMetadata = TokenMetadata.builder()
-                .tokenId(extractTokenId(refreshToken))
+                .tokenId(refreshToken.getTokenId())
                 .email(email)
                 .type(TokenType.REFRESH)
                 .issuedAt(LocalDateTime.now())
@@ -105,15 +132,19 @@ public class JwtTokenProvider {
                 .userAgent(getCurrentUserAgent())
                 .build();
         
-        // Redis에 토큰 메타데이터 저장
-        blacklistService.saveTokenMetadata(accessMetadata.getTokenId(), 
-                accessMetadata.toString(), accessTokenValidityInMilliseconds / 1000);
-        blacklistService.saveTokenMetadata(refreshMetadata.getTokenId(), 
-                refreshMetadata.toString(), refreshTokenValidityInMilliseconds / 1000);
+        // Redis에 토큰 메타데이터 저장 및 사용자 토큰 인덱스 등록
+        batch.saveTokenMetadata(accessMetadata.getTokenId(), 
+                        serializeMetadata(accessMetadata), accessTokenValidityInMilliseconds / 1000)
+                .saveTokenMetadata(refreshMetadata.getTokenId(), 
+                        serializeMetadata(refreshMetadata), refreshTokenValidityInMilliseconds / 1000)
+                .indexUserToken(email, accessMetadata.getTokenId(), 
+                        TokenType.ACCESS.name(), accessTokenValidityInMilliseconds / 1000)
+                .indexUserToken(email, refreshMetadata.getTokenId(), 
+                        TokenType.REFRESH.name(), refreshTokenValidityInMilliseconds / 1000);
         
         return TokenPair.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .accessToken(accessToken.getToken())
+                .refreshToken(refreshToken.getToken())
                 .accessTokenExpiresAt(accessMetadata.getExpiresAt())
                 .refreshTokenExpiresAt(refreshMetadata.getExpiresAt())
                 .build();
@@ -123,9 +154,7 @@ public class JwtTokenProvider {
      * 토큰으로부터 인증 정보 추출
      */
     public Authentication getAuthentication(String token) {
-        validateToken(token);
-        
-        Claims claims = getClaims(token);
+        Claims claims = verifyToken(token);
         String email = claims.getSubject();
         
         @SuppressWarnings("unchecked")
@@ -158,48 +187,32 @@ public class JwtTokenProvider {
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            // Redis 블랙리스트 확인
-            String tokenId = extractTokenId(token);
-            if (blacklistService.isBlacklisted(tokenId)) {
-                log.warn("블랙리스트에 등록된 토큰 사용 시도: {}", tokenId);
-                throw new CustomException.Unauthorized("차단된 토큰입니다");
-            }
+        verifyToken(token);
+        return true;
+    }
 
-            // JWT 파싱 및 검증
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+    /**
+     * 토큰 검증 후 클레임 반환 (서명 검증은 토큰당 1회, 블랙리스트 확인은 매 요청)
+     */
+    public Claims verifyToken(String token) {
+        Claims claims = getClaims(token);
+        String tokenId = claims.get("tokenId", String.class);
 
-            // 추가 보안 검증
-            Claims claims = claimsJws.getPayload();
-            validateTokenClaims(claims, tokenId);
-            
-            return true;
-            
-        } catch (SecurityException | MalformedJwtException e) {
-            log.warn("잘못된 JWT 서명: {}", e.getMessage());
-            throw new CustomException.Unauthorized("잘못된 토큰 서명입니다");
-        } catch (ExpiredJwtException e) {
-            log.warn("만료된 JWT 토큰: {}", e.getMessage());
-            throw new CustomException.Unauthorized("만료된 토큰입니다");
-        } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT 토큰: {}", e.getMessage());
-            throw new CustomException.Unauthorized("지원되지 않는 토큰입니다");
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
-            throw new CustomException.Unauthorized("잘못된 토큰입니다");
+        // Redis 블랙리스트 확인
+        if (blacklistService.isBlacklisted(tokenId)) {
+            verifiedTokenCache.invalidate(token);
+            log.warn("블랙리스트에 등록된 토큰 사용 시도: {}", tokenId);
+            throw new CustomException.Unauthorized("차단된 토큰입니다");
         }
+        return claims;
     }
 
     /**
      * 리프레시 토큰으로 새 액세스 토큰 생성
+     * 기존 토큰 차단과 새 토큰 저장을 Redis 파이프라인 1회 왕복으로 처리
      */
     public TokenPair refreshAccessToken(String refreshToken) {
-        validateToken(refreshToken);
-        
-        Claims claims = getClaims(refreshToken);
+        Claims claims = verifyToken(refreshToken);
         String tokenType = claims.get("type", String.class);
         if (!TokenType.REFRESH.name().equals(tokenType)) {
             throw new CustomException.BadRequest("리프레시 토큰이 아닙니다");
@@ -207,17 +220,22 @@ public class JwtTokenProvider {
 
         String email = claims.getSubject();
         
+        RedisJwtBlacklistService.TokenWriteBatch batch = blacklistService.newBatch();
+        
         // 기존 리프레시 토큰을 Redis 블랙리스트에 추가
-        String oldRefreshTokenId = extractTokenId(refreshToken);
+        String oldRefreshTokenId = claims.get("tokenId", String.class);
         long refreshTokenTtl = (claims.getExpiration().getTime() - System.currentTimeMillis()) / 1000;
-        blacklistService.addToBlacklist(oldRefreshTokenId, Math.max(refreshTokenTtl, 0));
+        batch.addToBlacklist(oldRefreshTokenId, Math.max(refreshTokenTtl, 0));
+        verifiedTokenCache.invalidate(refreshToken);
         
-        // 해당 사용자의 모든 액세스 토큰도 무효화
-        invalidateUserAccessTokens(email);
+        // 해당 사용자의 모든 액세스 토큰도 무효화 (새 토큰 등록보다 먼저 실행되도록 먼저 추가)
+        invalidateUserAccessTokens(email, batch);
         
         // 새 토큰 쌍 생성 (권한 정보는 DB에서 다시 조회해야 함)
         Collection<? extends GrantedAuthority> authorities = getUserAuthorities(email);
-        return createTokenPair(email, authorities);
+        TokenPair tokenPair = issueTokenPair(email, authorities, batch);
+        batch.execute();
+        return tokenPair;
     }
 
     /**
@@ -225,12 +243,13 @@ public class JwtTokenProvider {
      */
     public void invalidateToken(String token) {
         try {
-            String tokenId = extractTokenId(token);
             Claims claims = getClaims(token);
+            String tokenId = claims.get("tokenId", String.class);
             long tokenTtl = (claims.getExpiration().getTime() - System.currentTimeMillis()) / 1000;
             
             // Redis 블랙리스트에 추가
             blacklistService.addToBlacklist(tokenId, Math.max(tokenTtl, 0));
+            verifiedTokenCache.invalidate(token);
             
             log.info("토큰 무효화 완료 (Redis): {}", tokenId);
         } catch (Exception e) {
@@ -256,15 +275,7 @@ public class JwtTokenProvider {
     public Optional<TokenMetadata> getTokenMetadata(String token) {
         try {
             String tokenId = extractTokenId(token);
-            String metadataStr = blacklistService.getTokenMetadata(tokenId);
-            
-            if (metadataStr != null) {
-                // 간단한 문자열 파싱 (실제로는 JSON 직렬화/역직렬화 사용 권장)
-                // 현재는 메타데이터 문자열만 반환하고 상세 파싱은 필요시 구현
-                log.debug("토큰 메타데이터 조회됨: {}", tokenId);
-            }
-            
-            return Optional.empty(); // TODO: 메타데이터 역직렬화 구현
+            return Optional.ofNullable(deserializeMetadata(blacklistService.getTokenMetadata(tokenId)));
         } catch (Exception e) {
             log.warn("토큰 메타데이터 조회 실패: {}", e.getMessage());
             return Optional.empty();
@@ -273,51 +284,90 @@ public class JwtTokenProvider {
 
     /**
      * 사용자의 활성 토큰 목록 조회 (Redis 기반)
-     * TODO: Redis에서 사용자별 토큰 조회 기능 구현 필요
+     * 사용자 토큰 인덱스 조회 + 메타데이터 MGET으로 해당 사용자의 토큰 수에 비례하는 비용
      */
     public List<TokenMetadata> getUserActiveTokens(String email) {
-        // Redis 기반에서는 사용자별 토큰 조회가 복잡하므로
-        // 현재는 빈 목록 반환, 필요시 별도 구현
-        log.debug("사용자 {} 의 활성 토큰 조회 요청 (Redis 기반에서는 미구현)", email);
-        return Collections.emptyList();
+        List<String> tokenIds = blacklistService.getUserActiveTokenIds(email, null);
+        List<String> metadataList = blacklistService.getTokenMetadata(tokenIds);
+        
+        List<TokenMetadata> activeTokens = new ArrayList<>(tokenIds.size());
+        for (int i = 0; i < tokenIds.size(); i++) {
+            if (blacklistService.isBlacklisted(tokenIds.get(i))) {
+                continue;
+            }
+            TokenMetadata metadata = deserializeMetadata(metadataList.get(i));
+            if (metadata != null) {
+                activeTokens.add(metadata);
+            }
+        }
+        
+        log.debug("사용자 {} 의 활성 토큰 조회 - {}개", email, activeTokens.size());
+        return activeTokens;
     }
 
     // ===== 내부 헬퍼 메서드들 =====
 
     /**
-     * JWT 토큰 생성 (내부 메서드)
+     * JWT 토큰 생성 (내부 메서드) - 서명된 토큰과 토큰 ID 반환
      */
-    private String createToken(String email, Collection<? extends GrantedAuthority> authorities, 
-                              long validityInMilliseconds, TokenType tokenType) {
+    private IssuedToken createToken(String email, Collection<? extends GrantedAuthority> authorities, 
+                                    long validityInMilliseconds, TokenType tokenType) {
         
+        String tokenId = UUID.randomUUID().toString();
         Map<String, Object> claims = new HashMap<>();
         claims.put("sub", email);
         claims.put("roles", authorities.stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
         claims.put("type", tokenType.name());
-        claims.put("tokenId", UUID.randomUUID().toString());
+        claims.put("tokenId", tokenId);
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claims(claims)
                 .issuedAt(now)
-                .expiration(validity)
-                .signWith(secretKey)
-                .compact();
+                .expiration(validity);
+        return new IssuedToken(signingKeyManager.sign(builder).compact(), tokenId);
     }
 
     /**
-     * 토큰에서 클레임 추출
+     * 토큰에서 클레임 추출 (검증된 클레임 캐시 우선, 없으면 서명 검증 후 캐시)
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (token == null || token.isBlank()) {
+            throw new CustomException.Unauthorized("잘못된 토큰입니다");
+        }
+
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(token);
+        if (cached != null && cached.getExpiresAtMillis() > System.currentTimeMillis()) {
+            return cached.getClaims();
+        }
+
+        try {
+            // JWT 파싱 및 검증
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+            // 추가 보안 검증
+            validateTokenClaims(claims);
+
+            verifiedTokenCache.put(token, new VerifiedToken(claims, claims.getExpiration().getTime()));
+            return claims;
+
+        } catch (SecurityException | MalformedJwtException e) {
+            log.warn("잘못된 JWT 서명: {}", e.getMessage());
+            throw new CustomException.Unauthorized("잘못된 토큰 서명입니다");
+        } catch (ExpiredJwtException e) {
+            log.warn("만료된 JWT 토큰: {}", e.getMessage());
+            throw new CustomException.Unauthorized("만료된 토큰입니다");
+        } catch (UnsupportedJwtException e) {
+            log.warn("지원되지 않는 JWT 토큰: {}", e.getMessage());
+            throw new CustomException.Unauthorized("지원되지 않는 토큰입니다");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+            throw new CustomException.Unauthorized("잘못된 토큰입니다");
+        }
     }
 
     /**
@@ -329,36 +379,89 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰 클레임 추가 검증 (Redis 기반)
+     * 토큰 클레임 추가 검증
+     * 토큰 메타데이터는 검증에 사용하지 않으므로 요청 경로에서 Redis를 조회하지 않음
      */
-    private void validateTokenClaims(Claims claims, String tokenId) {
-        // Redis에서 토큰 메타데이터 조회
-        String metadataStr = blacklistService.getTokenMetadata(tokenId);
-        if (metadataStr != null) {
-            // IP 주소 검증 등은 메타데이터 파싱 후 구현 가능
-            // 현재는 기본 토큰 타입 검증만 수행
-            log.debug("토큰 메타데이터 확인됨: {}", tokenId);
-        }
-
+    private void validateTokenClaims(Claims claims) {
         // 토큰 타입 검증
         String tokenType = claims.get("type", String.class);
         if (tokenType == null) {
             throw new CustomException.Unauthorized("토큰 타입이 누락되었습니다");
         }
+        if (claims.get("tokenId", String.class) == null || claims.getExpiration() == null) {
+            throw new CustomException.Unauthorized("토큰 식별 정보가 누락되었습니다");
+        }
+    }
+
+    /**
+     * 검증된 클레임 캐시 생성
+     * 항목별 만료 시각 = min(토큰 만료 시각, 최대 보관 시간)
+     */
+    private static Cache<String, VerifiedToken> createVerifiedTokenCache(long maxSize, long maxTtlSeconds) {
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                verified.getExpiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /**
      * 사용자의 액세스 토큰들 무효화 (Redis 기반)
      */
-    private void invalidateUserAccessTokens(String email) {
-        // Redis 기반에서는 사용자별 액세스 토큰만 선별 무효화가 복잡하므로
-        // 모든 사용자 토큰을 무효화하는 방식 사용
+    private void invalidateUserAccessTokens(String email, RedisJwtBlacklistService.TokenWriteBatch batch) {
+        // 사용자 토큰 인덱스에서 액세스 토큰만 선별 무효화 (다른 기기의 리프레시 토큰은 유지)
         long accessTokenTtl = accessTokenValidityInMilliseconds / 1000;
-        blacklistService.blacklistAllUserTokens(email, accessTokenTtl);
+        batch.blacklistUserTokens(email, TokenType.ACCESS.name(), accessTokenTtl);
         
         log.debug("사용자 {} 의 액세스 토큰들 무효화 완료", email);
     }
 
+    /**
+     * 토큰 메타데이터 JSON 직렬화
+     */
+    private String serializeMetadata(TokenMetadata metadata) {
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            log.warn("토큰 메타데이터 직렬화 실패: {}", e.getMessage());
+            return metadata.toString();
+        }
+    }
+
+    /**
+     * 토큰 메타데이터 JSON 역직렬화 (이전 형식 등 파싱 불가 시 null)
+     */
+    private TokenMetadata deserializeMetadata(String metadataStr) {
+        if (metadataStr == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(metadataStr, TokenMetadata.class);
+        } catch (JsonProcessingException e) {
+            log.debug("토큰 메타데이터 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 사용자 권한 정보 조회 (실제로는 UserService에서 조회해야 함)
      */
@@ -416,12 +519,33 @@ public class JwtTokenProvider {
         private final LocalDateTime refreshTokenExpiresAt;
     }
 
+    /**
+     * 서명 검증이 끝난 토큰의 클레임
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    private static class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAtMillis;
+    }
+
+    /**
+     * 새로 서명한 토큰과 토큰 ID
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    private static class IssuedToken {
+        private final String token;
+        private final String tokenId;
+    }
+
     /**
      * 토큰 메타데이터 클래스
      */
     @lombok.Builder
     @lombok.Getter
     @lombok.ToString
+    @lombok.extern.jackson.Jacksonized
     public static class TokenMetadata {
         private final String tokenId;
         private final String email;
@@ -1,6 +1,7 @@
 package com.globalcarelink.auth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -49,4 +51,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     long countByRole(MemberRole role);
     
     long countByRoleAndIsActive(MemberRole role, Boolean isActive);
+    
+    /**
+     * 로그인 시 재해시한 비밀번호 반영 (그 사이 비밀번호가 바뀌었으면 갱신하지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
 }
\ No newline at end of file
@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -26,7 +25,7 @@ import java.util.List;
 public class MemberService {
     
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     
     @Value("${jwt.access-token-expiration:3600000}")
@@ -50,7 +49,7 @@ public class MemberService {
         
         Member member = Member.builder()
                 .email(sanitizedEmail)
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .name(sanitizedName)
                 .phoneNumber(sanitizedPhoneNumber)
                 .role(request.getRole())
@@ -77,10 +76,18 @@ public class MemberService {
             throw new CustomException.Forbidden("비활성화된 계정입니다");
         }
         
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), member.getPassword())) {
             throw new CustomException.Unauthorized("이메일 또는 비밀번호가 올바르지 않습니다");
         }
         
+        // BCrypt cost가 바뀌었으면 응답과 무관하게 백그라운드에서 재해시
+        if (passwordHashingService.needsRehash(member.getPassword())) {
+            Long memberId = member.getId();
+            String currentPassword = member.getPassword();
+            passwordHashingService.rehashInBackground(request.getPassword(),
+                    rehashed -> memberRepository.updatePasswordIfUnchanged(memberId, currentPassword, rehashed));
+        }
+        
         // Spring Boot 3.x 방식으로 토큰 생성
         Collection<GrantedAuthority> authorities = Collections.singletonList(
             new SimpleGrantedAuthority("ROLE_" + member.getRole().name())
@@ -0,0 +1,272 @@
+package com.globalcarelink.auth;
+
+import com.globalcarelink.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시 전용 서비스
+ * - BCrypt 해시/검증을 크기가 제한된 전용 스레드 풀에서 실행하여 로그인 폭주가 Tomcat 요청 스레드와 CPU를 독점하지 않도록 격리
+ * - 대기열 길이와 평균 해시 시간으로 예상 대기가 허용 시간을 넘으면 제출 전에 429(Too Many Requests)로 거절
+ *   (실행 중인 BCrypt는 인터럽트로 멈추지 않으므로 대기 시간 초과 후 취소로는 부하가 줄지 않음)
+ * - 대기열 길이, 처리 중 작업 수, 거절 수, 해시 지연(p50/p99)을 Actuator 메트릭으로 노출
+ * - 저장된 해시의 cost가 현재 설정과 다르면 로그인 성공 시 백그라운드에서 재해시 (cost 조정을 무중단으로 반영)
+ * - 자동 조정된 cost를 쓰는 인코더를 PasswordEncoder 빈으로도 제공하여 cost 기준을 한 곳으로 유지
+ */
+@Slf4j
+@Component
+public class PasswordHashingService {
+
+    private static final Pattern BCRYPT_COST_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.password-hashing.strength:12}")
+    private int configuredStrength;
+
+    @Value("${app.security.password-hashing.wait-timeout-ms:3000}")
+    private long waitTimeoutMillis;
+
+    // 로그인 1회 비밀번호 검증에 허용할 p99 지연 목표 (cost 권장값 산출 기준)
+    @Value("${app.security.password-hashing.target-latency-ms:250}")
+    private long targetLatencyMillis;
+
+    // true면 기동 시 측정한 해시 시간으로 cost를 목표 지연에 맞춰 자동 결정
+    @Value("${app.security.password-hashing.auto-tune:false}")
+    private boolean autoTune;
+
+    @Value("${app.security.password-hashing.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private int strength;
+    private BCryptPasswordEncoder encoder;
+
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejectedCounter;
+    private Counter rehashCounter;
+
+    public PasswordHashingService(@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+                                  MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        strength = autoTune ? calibrateStrength() : configuredStrength;
+        encoder = new BCryptPasswordEncoder(strength);
+
+        encodeTimer = Timer.builder("password.hash.duration")
+                .description("BCrypt 해시 생성 시간")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        matchesTimer = Timer.builder("password.hash.duration")
+                .description("BCrypt 비밀번호 검증 시간")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("풀 포화로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        rehashCounter = Counter.builder("password.hash.rehashed")
+                .description("로그인 시 cost 변경으로 재해시된 비밀번호 수")
+                .register(meterRegistry);
+
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("처리 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.strength", this, service -> service.strength)
+                .description("현재 BCrypt cost")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.recommended.strength", this, PasswordHashingService::recommendedStrength)
+                .description("측정된 검증 p99 기준 권장 BCrypt cost")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해시 서비스 초기화 - cost: {}, 스레드: {}, 대기열: {}, 자동 조정: {}",
+                strength, executor.getMaxPoolSize(), executor.getQueueCapacity(), autoTune);
+    }
+
+    /**
+     * 비밀번호 해시 생성 (전용 풀에서 실행, 포화 시 429)
+     */
+    public String encode(String rawPassword) {
+        return await(() -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 검증 (전용 풀에서 실행, 포화 시 429)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(() -> matchesTimer.recordCallable(() -> encoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정과 다른지 확인 (cost를 낮춘 경우도 재해시 대상)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        Integer cost = extractCost(encodedPassword);
+        return cost != null && cost != strength;
+    }
+
+    /**
+     * 검증에 성공한 평문 비밀번호를 현재 cost로 백그라운드 재해시
+     * 로그인 응답을 지연시키지 않으며, 풀이 붐비면 다음 로그인으로 미룸
+     */
+    public void rehashInBackground(String rawPassword, Consumer<String> onRehashed) {
+        if (executor.getThreadPoolExecutor().getQueue().size() > executor.getQueueCapacity() / 2) {
+            log.debug("해시 대기열이 붐벼 재해시를 다음 로그인으로 미룸");
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    String rehashed = encodeTimer.recordCallable(() -> encoder.encode(rawPassword));
+                    onRehashed.accept(rehashed);
+                    rehashCounter.increment();
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해시 실패", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("해시 풀 포화로 재해시 건너뜀");
+        }
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 현재 cost의 인코더 (SecurityConfig의 PasswordEncoder 빈이 같은 cost를 쓰도록 공유)
+     */
+    public BCryptPasswordEncoder getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * 측정된 검증 p99로 목표 지연에 맞는 cost 산출 (cost 1 증가 = 해시 시간 2배)
+     */
+    int recommendedStrength() {
+        double p99Millis = 0;
+        for (ValueAtPercentile percentile : matchesTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                p99Millis = percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return p99Millis > 0 ? recommendStrength(strength, p99Millis) : strength;
+    }
+
+    private int recommendStrength(int measuredStrength, double measuredMillis) {
+        int steps = (int) Math.floor(Math.log(targetLatencyMillis / measuredMillis) / Math.log(2));
+        return Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, measuredStrength + steps));
+    }
+
+    private int calibrateStrength() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(configuredStrength);
+        long slowestNanos = 0;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-" + i);
+            slowestNanos = Math.max(slowestNanos, System.nanoTime() - start);
+        }
+
+        double slowestMillis = slowestNanos / 1_000_000.0;
+        int calibrated = recommendStrength(configuredStrength, slowestMillis);
+        log.info("BCrypt cost 자동 조정 - 설정: {} ({}ms), 목표: {}ms, 적용: {}",
+                configuredStrength, String.format("%.1f", slowestMillis), targetLatencyMillis, calibrated);
+        return calibrated;
+    }
+
+    private Integer extractCost(String encodedPassword) {
+        if (encodedPassword == null) {
+            return null;
+        }
+        Matcher matcher = BCRYPT_COST_PATTERN.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : null;
+    }
+
+    /**
+     * 앞선 대기 작업이 모두 끝날 때까지의 예상 대기 시간이 허용 시간을 넘는지 확인
+     * (대기열 앞 작업 수 / 스레드 수) 라운드 x 평균 해시 시간으로 추정하며, 측정값이 없으면 대기열 상한에 맡김
+     */
+    private boolean exceedsWaitBudget() {
+        double meanMillis = Math.max(matchesTimer.mean(TimeUnit.MILLISECONDS), encodeTimer.mean(TimeUnit.MILLISECONDS));
+        if (meanMillis <= 0) {
+            return false;
+        }
+        int queued = executor.getThreadPoolExecutor().getQueue().size();
+        double rounds = Math.ceil((queued + 1.0) / executor.getMaxPoolSize());
+        return rounds * meanMillis > waitTimeoutMillis;
+    }
+
+    private <T> T await(Callable<T> task) {
+        if (exceedsWaitBudget()) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 예상 대기 초과 - 요청 거절 (대기열: {})", executor.getThreadPoolExecutor().getQueue().size());
+            throw tooManyRequests();
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 풀 포화 - 요청 거절 (대기열: {})", executor.getThreadPoolExecutor().getQueue().size());
+            throw tooManyRequests();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있는 작업만 실행되지 않게 됨 (실행 중인 해시는 끝까지 수행)
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 대기 시간 초과 - {}ms", waitTimeoutMillis);
+            throw tooManyRequests();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw tooManyRequests();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+    }
+
+    private CustomException.TooManyRequests tooManyRequests() {
+        return new CustomException.TooManyRequests(
+                "요청이 많아 잠시 후 다시 시도해주세요", retryAfterSeconds);
+    }
+}
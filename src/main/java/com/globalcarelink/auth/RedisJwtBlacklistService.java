@@ -3,28 +3,53 @@ package com.globalcarelink.auth;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Redis 기반 JWT 토큰 블랙리스트 서비스
  * 서버 재시작 시에도 블랙리스트가 유지되어 보안성 향상
+ * 차단 여부 확인은 JwtBlacklistNearCache가 로컬에서 응답하고, 동기화가 끊긴 동안에만 Redis 확인 (Redis 장애 시 잠시 로컬만 확인)
+ * 사용자별 활성 토큰 인덱스(정렬 집합, 점수 = 만료 시각)로 KEYS 없이 사용자 토큰 조회/일괄 차단
+ * 토큰 발급/갱신 시의 여러 쓰기는 TokenWriteBatch로 묶어 파이프라인 1회 왕복으로 처리
  */
 @Slf4j
 @Service
 public class RedisJwtBlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final JwtBlacklistNearCache nearCache;
+
+    // 차단 여부 Redis 확인 실패 후 다시 시도하기까지 기다리는 시간 (그동안 요청마다 Redis를 호출하지 않음)
+    @Value("${jwt.blacklist.redis-retry-seconds:30}")
+    private long redisRetrySeconds;
+
+    // 차단 여부 Redis 확인을 다시 시도할 수 있는 시각 (0이면 정상)
+    private volatile long redisRetryAtMillis = 0;
     
-    public RedisJwtBlacklistService(@Qualifier("jwtStringRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+    public RedisJwtBlacklistService(@Qualifier("jwtStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                    JwtBlacklistNearCache nearCache) {
         this.redisTemplate = redisTemplate;
+        this.nearCache = nearCache;
     }
     
     private static final String BLACKLIST_KEY_PREFIX = "jwt:blacklist:";
     private static final String TOKEN_METADATA_PREFIX = "jwt:metadata:";
+    private static final String USER_TOKENS_PREFIX = "jwt:user-tokens:";
+    private static final String INDEX_MEMBER_SEPARATOR = ":";
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -32,16 +57,11 @@ public class RedisJwtBlacklistService {
      * @param expiration 토큰 만료 시간 (초)
      */
     public void addToBlacklist(String token, long expiration) {
-        try {
-            String key = BLACKLIST_KEY_PREFIX + token;
-            // Redis에 토큰 저장, 토큰 만료 시간과 동일하게 TTL 설정
-            redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(expiration));
-            
-            log.debug("토큰이 블랙리스트에 추가됨: {}", maskToken(token));
-        } catch (Exception e) {
-            log.error("토큰 블랙리스트 추가 실패: {}", e.getMessage());
-            // Redis 실패 시에도 애플리케이션은 계속 동작하도록 예외를 던지지 않음
-        }
+        // 로컬 반영 후 Redis에 토큰 만료 시간과 동일한 TTL로 저장하고 다른 노드에 전파
+        // Redis 실패 시에도 로컬 차단은 유지되며 복구 후 재전송됨
+        nearCache.revoke(token, expiration);
+        
+        log.debug("토큰이 블랙리스트에 추가됨: {}", maskToken(token));
     }
 
     /**
@@ -50,19 +70,35 @@ public class RedisJwtBlacklistService {
      * @return 블랙리스트에 있으면 true
      */
     public boolean isBlacklisted(String token) {
+        if (nearCache.isRevoked(token)) {
+            log.debug("블랙리스트 토큰 감지 (로컬): {}", maskToken(token));
+            return true;
+        }
+        if (nearCache.isSynced()) {
+            // 로컬 캐시가 전체 블랙리스트를 반영하고 있으므로 Redis 확인 불필요
+            return false;
+        }
+        if (redisRetryAtMillis != 0 && System.currentTimeMillis() < redisRetryAtMillis) {
+            // 최근 Redis 확인이 실패했으므로 재시도 시각까지는 로컬에 알려진 차단 목록 기준으로 판단
+            return false;
+        }
+        
         try {
             String key = BLACKLIST_KEY_PREFIX + token;
             Boolean exists = redisTemplate.hasKey(key);
             
+            redisRetryAtMillis = 0;
             if (Boolean.TRUE.equals(exists)) {
                 log.debug("블랙리스트 토큰 감지: {}", maskToken(token));
                 return true;
             }
             return false;
         } catch (Exception e) {
-            log.error("토큰 블랙리스트 확인 실패: {}", e.getMessage());
-            // Redis 실패 시 보안상 false 반환 (토큰 허용)
-            // 실제 운영환경에서는 대체 방안 필요
+            if (redisRetryAtMillis == 0) {
+                log.error("토큰 블랙리스트 확인 실패, {}초간 로컬 차단 목록만 확인: {}", redisRetrySeconds, e.getMessage());
+            }
+            redisRetryAtMillis = System.currentTimeMillis() + redisRetrySeconds * 1000;
+            // Redis 실패 시 로컬에 알려진 차단 목록 기준으로 판단 (위에서 이미 확인됨)
             return false;
         }
     }
@@ -100,40 +136,117 @@ public class RedisJwtBlacklistService {
     }
 
     /**
-     * 특정 사용자의 모든 토큰을 블랙리스트에 추가 (전체 로그아웃)
+     * 사용자 활성 토큰 인덱스에 토큰 등록
      * @param userId 사용자 ID
+     * @param tokenId 토큰 ID
+     * @param tokenType 토큰 타입 (ACCESS, REFRESH)
      * @param expiration 만료 시간 (초)
      */
-    public void blacklistAllUserTokens(String userId, long expiration) {
+    public void indexUserToken(String userId, String tokenId, String tokenType, long expiration) {
+        try {
+            String key = USER_TOKENS_PREFIX + userId;
+            long expiresAtMillis = System.currentTimeMillis() + expiration * 1000;
+            redisTemplate.opsForZSet().add(key, tokenType + INDEX_MEMBER_SEPARATOR + tokenId, expiresAtMillis);
+            // 인덱스 키는 가장 늦게 만료되는 토큰까지만 유지
+            Long currentTtl = redisTemplate.getExpire(key);
+            if (currentTtl == null || currentTtl < expiration) {
+                redisTemplate.expire(key, Duration.ofSeconds(expiration));
+            }
+        } catch (Exception e) {
+            log.error("사용자 토큰 인덱스 등록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 만료되지 않은 토큰 ID 목록 (만료된 항목은 조회 전에 정리)
+     * @param userId 사용자 ID
+     * @param tokenType 토큰 타입 (null이면 전체)
+     * @return 토큰 ID 목록
+     */
+    public List<String> getUserActiveTokenIds(String userId, String tokenType) {
         try {
-            String pattern = TOKEN_METADATA_PREFIX + "*";
-            var keys = redisTemplate.keys(pattern);
+            String key = USER_TOKENS_PREFIX + userId;
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+            if (members == null || members.isEmpty()) {
+                return Collections.emptyList();
+            }
             
-            if (keys != null) {
-                for (String metadataKey : keys) {
-                    String metadata = redisTemplate.opsForValue().get(metadataKey);
-                    if (metadata != null && metadata.contains("userId:" + userId)) {
-                        // 메타데이터에서 토큰 추출하여 블랙리스트 추가
-                        String token = metadataKey.replace(TOKEN_METADATA_PREFIX, "");
-                        addToBlacklist(token, expiration);
-                    }
+            List<String> tokenIds = new ArrayList<>(members.size());
+            for (String member : members) {
+                int separator = member.indexOf(INDEX_MEMBER_SEPARATOR);
+                if (tokenType == null || member.substring(0, separator).equals(tokenType)) {
+                    tokenIds.add(member.substring(separator + 1));
                 }
             }
+            return tokenIds;
+        } catch (Exception e) {
+            log.error("사용자 활성 토큰 조회 실패: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 여러 토큰의 메타데이터 일괄 조회 (MGET 1회)
+     * @param tokenIds 토큰 ID 목록
+     * @return 메타데이터 목록 (없는 토큰은 null)
+     */
+    public List<String> getTokenMetadata(List<String> tokenIds) {
+        if (tokenIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            List<String> keys = tokenIds.stream().map(id -> TOKEN_METADATA_PREFIX + id).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            return values != null ? values : Collections.nCopies(tokenIds.size(), null);
+        } catch (Exception e) {
+            log.error("토큰 메타데이터 일괄 조회 실패: {}", e.getMessage());
+            return Collections.nCopies(tokenIds.size(), null);
+        }
+    }
+
+    /**
+     * 특정 사용자의 모든 토큰을 블랙리스트에 추가 (전체 로그아웃)
+     * @param userId 사용자 ID
+     * @param expiration 최대 만료 시간 (초)
+     */
+    public void blacklistAllUserTokens(String userId, long expiration) {
+        blacklistUserTokens(userId, null, expiration);
+    }
+
+    /**
+     * 특정 사용자의 지정 타입 토큰을 블랙리스트에 추가
+     * 사용자 토큰 인덱스만 조회하므로 비용은 해당 사용자의 토큰 수에 비례
+     * @param userId 사용자 ID
+     * @param tokenType 토큰 타입 (null이면 전체)
+     * @param expiration 최대 만료 시간 (초)
+     */
+    public void blacklistUserTokens(String userId, String tokenType, long expiration) {
+        try {
+            List<String> revoked = nearCache.revokeUserTokens(redisTemplate, USER_TOKENS_PREFIX + userId,
+                    tokenType, expiration);
+            applyRevokedLocally(revoked, expiration);
             
-            log.info("사용자 {}의 모든 토큰이 블랙리스트에 추가됨", userId);
+            log.info("사용자 {}의 토큰 {}개가 블랙리스트에 추가됨", userId, revoked != null ? revoked.size() : 0);
         } catch (Exception e) {
             log.error("사용자 토큰 일괄 블랙리스트 실패: {}", e.getMessage());
         }
     }
 
+    /**
+     * 토큰 쓰기 배치 생성 (메타데이터 저장, 사용자 인덱스 등록, 차단을 파이프라인 1회로 실행)
+     */
+    public TokenWriteBatch newBatch() {
+        return new TokenWriteBatch();
+    }
+
     /**
      * 블랙리스트 통계 조회
      * @return 블랙리스트된 토큰 수
      */
     public long getBlacklistCount() {
         try {
-            var keys = redisTemplate.keys(BLACKLIST_KEY_PREFIX + "*");
-            return keys != null ? keys.size() : 0;
+            return nearCache.countActiveRevocations();
         } catch (Exception e) {
             log.error("블랙리스트 통계 조회 실패: {}", e.getMessage());
             return 0;
@@ -141,26 +254,30 @@ public class RedisJwtBlacklistService {
     }
 
     /**
-     * 만료된 블랙리스트 항목 정리 (Redis TTL에 의해 자동으로 정리되지만 수동 정리도 가능)
+     * 만료된 블랙리스트 항목 정리 (블랙리스트 키는 Redis TTL로 자동 만료, 만료 인덱스만 정리)
      */
     public void cleanupExpiredTokens() {
         try {
-            var keys = redisTemplate.keys(BLACKLIST_KEY_PREFIX + "*");
-            if (keys != null) {
-                for (String key : keys) {
-                    Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-                    if (ttl != null && ttl <= 0) {
-                        redisTemplate.delete(key);
-                    }
-                }
-            }
-            
+            nearCache.pruneExpiredRevocations();
             log.debug("만료된 블랙리스트 토큰 정리 완료");
         } catch (Exception e) {
             log.error("블랙리스트 정리 실패: {}", e.getMessage());
         }
     }
 
+    /**
+     * 스크립트로 차단된 토큰을 로컬에 즉시 반영 (정확한 만료 시각은 발행 메시지로 다시 반영됨)
+     */
+    private void applyRevokedLocally(List<?> revoked, long expiration) {
+        if (revoked == null) {
+            return;
+        }
+        for (Object tokenId : revoked) {
+            String id = tokenId instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(tokenId);
+            nearCache.applyLocally(JwtBlacklistNearCache.Revocation.of(id, expiration));
+        }
+    }
+
     /**
      * 보안을 위한 토큰 마스킹
      * @param token 원본 토큰
@@ -172,4 +289,87 @@ public class RedisJwtBlacklistService {
         }
         return token.substring(0, 10) + "..." + token.substring(token.length() - 10);
     }
+
+    /**
+     * 토큰 쓰기 배치
+     * 명령을 모아 두었다가 execute()에서 파이프라인 1회 왕복으로 전송 (추가 순서대로 실행)
+     * Redis 실패 시 차단은 로컬에 유지되고 니어 캐시가 복구 후 재전송
+     */
+    public class TokenWriteBatch {
+
+        private final List<Consumer<RedisOperations<String, String>>> commands = new ArrayList<>();
+        private final List<JwtBlacklistNearCache.Revocation> revocations = new ArrayList<>();
+        private final Map<String, Long> userIndexTtls = new HashMap<>();
+        private long userRevocationTtl = 0;
+
+        private TokenWriteBatch() {
+        }
+
+        public TokenWriteBatch saveTokenMetadata(String token, String metadata, long expiration) {
+            commands.add(ops -> ops.opsForValue().set(TOKEN_METADATA_PREFIX + token, metadata, Duration.ofSeconds(expiration)));
+            return this;
+        }
+
+        public TokenWriteBatch indexUserToken(String userId, String tokenId, String tokenType, long expiration) {
+            long expiresAtMillis = System.currentTimeMillis() + expiration * 1000;
+            commands.add(ops -> ops.opsForZSet().add(USER_TOKENS_PREFIX + userId,
+                    tokenType + INDEX_MEMBER_SEPARATOR + tokenId, expiresAtMillis));
+            userIndexTtls.merge(userId, expiration, Math::max);
+            return this;
+        }
+
+        public TokenWriteBatch addToBlacklist(String token, long expiration) {
+            JwtBlacklistNearCache.Revocation revocation = JwtBlacklistNearCache.Revocation.of(token, expiration);
+            nearCache.applyLocally(revocation);
+            revocations.add(revocation);
+            commands.add(ops -> nearCache.writeAndPublish(ops, revocation));
+            return this;
+        }
+
+        /**
+         * 사용자 토큰 일괄 차단 (인덱스 조회도 스크립트 안에서 수행, 이 배치에서 이후에 등록하는 토큰은 영향 없음)
+         */
+        public TokenWriteBatch blacklistUserTokens(String userId, String tokenType, long expiration) {
+            userRevocationTtl = Math.max(userRevocationTtl, expiration);
+            commands.add(ops -> nearCache.revokeUserTokens(ops, USER_TOKENS_PREFIX + userId, tokenType, expiration));
+            return this;
+        }
+
+        /**
+         * 모은 명령을 파이프라인으로 실행
+         */
+        public void execute() {
+            if (commands.isEmpty()) {
+                return;
+            }
+            // 인덱스 키는 배치에서 가장 늦게 만료되는 토큰까지 유지
+            userIndexTtls.forEach((userId, ttl) ->
+                    commands.add(ops -> ops.expire(USER_TOKENS_PREFIX + userId, Duration.ofSeconds(ttl))));
+
+            try {
+                List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        commands.forEach(command -> command.accept(ops));
+                        return null;
+                    }
+                });
+
+                // 목록을 반환하는 명령은 사용자 일괄 차단 스크립트뿐 (상태 응답은 결과에서 제외되므로 위치 대신 타입으로 구분)
+                for (Object result : results) {
+                    if (result instanceof List<?> revoked) {
+                        applyRevokedLocally(revoked, userRevocationTtl);
+                    }
+                }
+                log.debug("토큰 쓰기 배치 실행 - 명령 {}개", commands.size());
+            } catch (Exception e) {
+                log.error("토큰 쓰기 배치 실행 실패: {}", e.getMessage());
+                if (!revocations.isEmpty()) {
+                    nearCache.queuePending(revocations);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
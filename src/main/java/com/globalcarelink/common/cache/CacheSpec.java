@@ -0,0 +1,40 @@
+package com.globalcarelink.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 캐시별 설정 (L1 최대 크기, TTL, Redis L2 사용 여부, 만료 전 갱신 시점)
+ */
+@Getter
+@AllArgsConstructor
+public class CacheSpec {
+
+    private final String name;
+    private final long maxSize;
+    private final Duration ttl;
+    // 값이 엔티티가 아닌 DTO/집계 결과라 Redis에 JSON으로 공유해도 안전한 캐시만 true
+    private final boolean remote;
+    // 저장 후 이 시간이 지난 항목은 만료 전에 미리 갱신 (null이면 만료 시에만 다시 적재)
+    private final Duration refreshAfter;
+
+    public CacheSpec(String name, long maxSize, Duration ttl, boolean remote) {
+        this(name, maxSize, ttl, remote, null);
+    }
+
+    public CacheSpec withName(String cacheName) {
+        return new CacheSpec(cacheName, maxSize, ttl, remote, refreshAfter);
+    }
+
+    public boolean isRefreshAhead() {
+        return refreshAfter != null && refreshAfter.compareTo(ttl) < 0;
+    }
+
+    @Override
+    public String toString() {
+        return name + "(size=" + maxSize + ", ttl=" + ttl.toMinutes() + "m, l2=" + remote
+                + (isRefreshAhead() ? ", refresh=" + refreshAfter.toMinutes() + "m" : "") + ")";
+    }
+}
@@ -0,0 +1,511 @@
+package com.globalcarelink.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ * - 조회: L1 -> L2 -> 원본 순서로 확인하고, L2에서 찾은 값은 L1에 채움
+ * - 저장/삭제: L1과 L2에 반영한 뒤 다른 노드의 L1 항목을 pub/sub으로 무효화
+ * - L2는 캐시별로 켜고 끄며, 값 타입별로 최초 1회 직렬화 왕복을 확인해 복원할 수 없는 타입은 L1에만 보관
+ * - 키는 문자열로 정규화하여 노드 간 무효화 메시지의 키와 로컬 키가 정확히 일치하도록 함
+ * - 항목에 태그(조회 조건 등)를 붙여 두면 키를 몰라도 태그 단위로 무효화 가능 (노드별로 적재된 키가 다른 검색/페이징 캐시용)
+ * - 로더를 함께 넘기는 조회(@Cacheable(sync = true))는 키별로 한 번만 적재하고 나머지 호출은 그 결과를 기다림
+ * - 만료 전 갱신이 설정된 캐시는 갱신 시점이 지난 항목을 처음 조회한 호출 하나만 다시 계산하고,
+ *   다른 호출은 그동안 기존 값을 그대로 받음 (만료 순간 동시 재계산 방지)
+ * - 적재 시간은 로더 실행 시간과, 로더 없는 조회(@Cacheable 기본 모드)의 미스부터 같은 스레드의 저장까지 시간으로 기록
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final int CLEAR_SCAN_BATCH = 500;
+    // 태그 기록은 로더 실행 중(값 저장 전)에 이루어지므로 L1 항목보다 늦게 만료되도록 여유를 둠
+    private static final long TAG_EXPIRY_MARGIN_SECONDS = 60;
+    // 스레드별로 저장을 기다리는 미스 수 (예외 등으로 저장되지 않은 미스가 쌓이지 않도록 넘으면 비움)
+    private static final int MAX_PENDING_LOADS = 32;
+
+    private final String name;
+    private final CaffeineCache local;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Duration ttl;
+    private final TwoLevelCacheManager manager;
+    private final String remoteKeyPrefix;
+    private final Duration refreshAfter;
+    private final Policy.FixedExpiration<Object, Object> expiration;
+
+    // 값 타입 -> Redis 직렬화 왕복 가능 여부
+    private final Map<Class<?>, Boolean> remoteTypes = new ConcurrentHashMap<>();
+
+    // L2 조회 통계 (L1 통계는 Caffeine recordStats)
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    // 이 스레드에서 미스가 난 키 -> 미스 시각 (같은 스레드에서 put되면 적재 시간으로 기록)
+    private final ThreadLocal<Map<String, Long>> pendingLoads = ThreadLocal.withInitial(HashMap::new);
+
+    // 만료 전 갱신 중인 키 -> 갱신 토큰 (갱신 도중 삭제되면 토큰이 사라져 갱신 결과를 저장하지 않음)
+    private final Map<String, Object> refreshing = new ConcurrentHashMap<>();
+
+    // 키 -> 태그 (이 노드에 적재된 항목 기준)
+    private final com.github.benmanes.caffeine.cache.Cache<String, Set<String>> tagIndex;
+
+    TwoLevelCache(String name,
+                  CaffeineCache local,
+                  RedisTemplate<String, Object> redisTemplate,
+                  RedisSerializer<Object> valueSerializer,
+                  Duration ttl,
+                  Duration refreshAfter,
+                  TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.valueSerializer = valueSerializer;
+        this.ttl = ttl;
+        this.refreshAfter = refreshAfter;
+        this.manager = manager;
+        this.remoteKeyPrefix = "cache:" + name + "::";
+        this.expiration = refreshAfter != null ? nativeCache().policy().expireAfterWrite().orElse(null) : null;
+        this.tagIndex = Caffeine.newBuilder()
+                .expireAfterWrite(ttl.getSeconds() + TAG_EXPIRY_MARGIN_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * L1 Caffeine 캐시 (통계 조회용)
+     */
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    public boolean isRemoteEnabled() {
+        return redisTemplate != null;
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMissCount() {
+        return remoteMisses.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public boolean isRefreshAhead() {
+        return expiration != null;
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * 평균 적재 시간 (밀리초, 적재 기록이 없으면 0)
+     */
+    public double getAverageLoadMillis() {
+        long count = loads.sum();
+        return count > 0 ? loadNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1) : 0.0;
+    }
+
+    /**
+     * 항목에 무효화 태그 기록 (값 저장 전후 어느 때나 가능, 같은 키에 여러 번 기록하면 합쳐짐)
+     */
+    public void tag(Object key, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        tagIndex.asMap().compute(toCacheKey(key), (cacheKey, existing) -> {
+            Set<String> merged = existing != null ? new HashSet<>(existing) : new HashSet<>();
+            merged.addAll(tags);
+            return Set.copyOf(merged);
+        });
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String cacheKey = toCacheKey(key);
+        ValueWrapper wrapper = local.get(cacheKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+
+        Object remote = getRemote(cacheKey);
+        if (remote == null) {
+            markMissed(cacheKey);
+            return null;
+        }
+        local.put(cacheKey, remote);
+        return new SimpleValueWrapper(remote);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "캐시 값 타입 불일치 [" + name + "]: " + type.getName() + " 필요, " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        if (isRefreshAhead() && isRefreshDue(cacheKey)) {
+            ValueWrapper current = local.get(cacheKey);
+            if (current != null) {
+                return refresh(cacheKey, (T) current.get(), valueLoader);
+            }
+        }
+
+        // Caffeine이 키별로 로더를 한 번만 실행하고 동시 호출은 같은 결과를 기다림
+        return local.get(cacheKey, () -> {
+            Object remote = getRemote(cacheKey);
+            if (remote != null) {
+                return (T) remote;
+            }
+            long started = System.nanoTime();
+            T value = valueLoader.call();
+            recordLoad(started);
+            putRemote(cacheKey, value);
+            return value;
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        String cacheKey = toCacheKey(key);
+        CompletableFuture<?> result = local.retrieve(cacheKey);
+        if (result != null) {
+            return result;
+        }
+
+        Object remote = getRemote(cacheKey);
+        if (remote == null) {
+            return null;
+        }
+        local.put(cacheKey, remote);
+        return local.retrieve(cacheKey);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        return local.retrieve(cacheKey, () -> {
+            Object remote = getRemote(cacheKey);
+            if (remote != null) {
+                return CompletableFuture.completedFuture((T) remote);
+            }
+            // 비동기 로더 완료 스레드(네트워크 이벤트 루프 등)를 Redis 쓰기로 막지 않도록 분리
+            long started = System.nanoTime();
+            return valueLoader.get().whenComplete((value, ex) -> {
+                recordLoad(started);
+                if (ex == null && value != null && isRemoteEnabled()) {
+                    CompletableFuture.runAsync(() -> putRemote(cacheKey, value));
+                }
+            });
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+        Long missedAt = pendingLoads.get().remove(cacheKey);
+        if (missedAt != null) {
+            recordLoad(missedAt);
+        }
+        local.put(cacheKey, value);
+        putRemote(cacheKey, value);
+        manager.publishInvalidation(name, cacheKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+        ValueWrapper existing = local.putIfAbsent(cacheKey, value);
+        if (existing == null) {
+            putRemote(cacheKey, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        local.evict(cacheKey);
+        tagIndex.invalidate(cacheKey);
+        refreshing.remove(cacheKey);
+        deleteRemote(cacheKey);
+        manager.publishInvalidation(name, cacheKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String cacheKey = toCacheKey(key);
+        boolean present = local.evictIfPresent(cacheKey);
+        tagIndex.invalidate(cacheKey);
+        refreshing.remove(cacheKey);
+        deleteRemote(cacheKey);
+        manager.publishInvalidation(name, cacheKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        tagIndex.invalidateAll();
+        refreshing.clear();
+        clearRemote();
+        manager.publishInvalidation(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = local.invalidate();
+        tagIndex.invalidateAll();
+        refreshing.clear();
+        clearRemote();
+        manager.publishInvalidation(name, null);
+        return notEmpty;
+    }
+
+    // ===== 다른 노드의 무효화 메시지 반영 (L1만) =====
+
+    void evictLocal(String cacheKey) {
+        local.evict(cacheKey);
+        tagIndex.invalidate(cacheKey);
+        refreshing.remove(cacheKey);
+    }
+
+    void clearLocal() {
+        local.clear();
+        tagIndex.invalidateAll();
+        refreshing.clear();
+    }
+
+    /**
+     * 주어진 태그 중 하나라도 붙은 이 노드의 항목 삭제 (L2 값도 함께 삭제, 키 단위 메시지는 발행하지 않음)
+     * 다른 노드에는 TwoLevelCacheManager가 태그 자체를 전파하여 각 노드가 자기 항목을 찾아 삭제
+     */
+    int evictTaggedLocal(Set<String> tags) {
+        int evicted = 0;
+        for (Map.Entry<String, Set<String>> entry : tagIndex.asMap().entrySet()) {
+            if (entry.getValue().stream().anyMatch(tags::contains)) {
+                String cacheKey = entry.getKey();
+                local.evict(cacheKey);
+                deleteRemote(cacheKey);
+                tagIndex.invalidate(cacheKey);
+                refreshing.remove(cacheKey);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Redis 장애로 건너뛴 무효화 재전송 (L2 값 삭제 후 다른 노드에 전파, key가 null이면 캐시 전체)
+     */
+    void replayInvalidation(String cacheKey) {
+        if (cacheKey == null) {
+            clearRemote();
+        } else {
+            deleteRemote(cacheKey);
+        }
+        manager.publishInvalidation(name, cacheKey);
+    }
+
+    // ===== 만료 전 갱신 =====
+
+    private boolean isRefreshDue(String cacheKey) {
+        Optional<Duration> age = expiration.ageOf(cacheKey);
+        return age.isPresent() && age.get().compareTo(refreshAfter) >= 0;
+    }
+
+    /**
+     * 갱신 시점이 지난 항목을 호출 스레드에서 다시 계산 (키별로 한 호출만, 나머지는 기존 값 사용)
+     * 로더는 호출한 메서드의 트랜잭션/보안 문맥 안에서만 실행할 수 있으므로 별도 스레드로 넘기지 않음
+     */
+    private <T> T refresh(String cacheKey, T current, Callable<T> valueLoader) {
+        Object token = new Object();
+        if (refreshing.putIfAbsent(cacheKey, token) != null) {
+            return current;
+        }
+
+        try {
+            long started = System.nanoTime();
+            T value = valueLoader.call();
+            recordLoad(started);
+            // 갱신 도중 삭제된 키는 변경 이전 기준으로 계산했을 수 있으므로 저장하지 않음
+            if (refreshing.remove(cacheKey, token)) {
+                local.put(cacheKey, value);
+                putRemote(cacheKey, value);
+                refreshes.increment();
+            }
+            return value;
+        } catch (Exception e) {
+            refreshing.remove(cacheKey, token);
+            log.warn("캐시 만료 전 갱신 실패 [{}] key={} - 기존 값 사용: {}", name, cacheKey, e.getMessage());
+            return current;
+        }
+    }
+
+    // ===== 적재 시간 =====
+
+    private void markMissed(String cacheKey) {
+        Map<String, Long> pending = pendingLoads.get();
+        if (pending.size() >= MAX_PENDING_LOADS) {
+            pending.clear();
+        }
+        pending.put(cacheKey, System.nanoTime());
+    }
+
+    private void recordLoad(long startedNanos) {
+        loads.increment();
+        loadNanos.add(System.nanoTime() - startedNanos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) local.getNativeCache();
+    }
+
+    // ===== L2 (Redis) =====
+
+    static String toCacheKey(Object key) {
+        return key instanceof String stringKey ? stringKey : String.valueOf(key);
+    }
+
+    private Object getRemote(String cacheKey) {
+        if (!isRemoteEnabled() || !manager.isRemoteAvailable()) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(remoteKeyPrefix + cacheKey);
+            (value != null ? remoteHits : remoteMisses).increment();
+            return value;
+        } catch (SerializationException e) {
+            // 클래스 구조 변경 등으로 복원할 수 없는 값은 버리고 원본에서 다시 적재
+            log.warn("L2 캐시 값 복원 실패 [{}] key={} - 항목 삭제: {}", name, cacheKey, e.getMessage());
+            deleteRemote(cacheKey);
+            return null;
+        } catch (RuntimeException e) {
+            manager.remoteFailed(e);
+            return null;
+        }
+    }
+
+    private void putRemote(String cacheKey, Object value) {
+        if (!isRemoteEnabled() || value == null || !manager.isRemoteAvailable() || !isRemoteSafe(value)) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(remoteKeyPrefix + cacheKey, value, ttl);
+        } catch (RuntimeException e) {
+            manager.remoteFailed(e);
+        }
+    }
+
+    // 장애 중 건너뛴 삭제는 복구 후 재전송하도록 기록 (남겨 두면 복구 후 L2의 이전 값이 다시 L1으로 채워짐)
+    private void deleteRemote(String cacheKey) {
+        if (!isRemoteEnabled()) {
+            return;
+        }
+        if (!manager.isRemoteAvailable()) {
+            manager.recordMissedInvalidation(name, cacheKey);
+            return;
+        }
+        try {
+            redisTemplate.delete(remoteKeyPrefix + cacheKey);
+        } catch (RuntimeException e) {
+            manager.remoteFailed(e);
+            manager.recordMissedInvalidation(name, cacheKey);
+        }
+    }
+
+    private void clearRemote() {
+        if (!isRemoteEnabled()) {
+            return;
+        }
+        if (!manager.isRemoteAvailable()) {
+            manager.recordMissedInvalidation(name, null);
+            return;
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(remoteKeyPrefix + "*").count(CLEAR_SCAN_BATCH).build();
+        List<String> batch = new ArrayList<>(CLEAR_SCAN_BATCH);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= CLEAR_SCAN_BATCH) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.delete(batch);
+            }
+        } catch (RuntimeException e) {
+            manager.remoteFailed(e);
+            manager.recordMissedInvalidation(name, null);
+        }
+    }
+
+    /**
+     * 값 타입별 최초 1회 직렬화 -> 역직렬화 왕복을 확인하여 Redis 공유 가능 여부 판정
+     * (기본 생성자가 없는 DTO, Page 구현체 등은 L1에만 보관)
+     */
+    private boolean isRemoteSafe(Object value) {
+        return remoteTypes.computeIfAbsent(value.getClass(), type -> {
+            try {
+                Object restored = valueSerializer.deserialize(valueSerializer.serialize(value));
+                if (restored != null && type.isInstance(restored)) {
+                    return true;
+                }
+                log.warn("L2 캐시 미지원 타입 [{}] {} - 로컬 캐시만 사용", name, type.getName());
+            } catch (RuntimeException e) {
+                log.warn("L2 캐시 미지원 타입 [{}] {} - 로컬 캐시만 사용: {}", name, type.getName(), e.getMessage());
+            }
+            return false;
+        });
+    }
+}
@@ -0,0 +1,324 @@
+package com.globalcarelink.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 2단계 캐시 매니저 (L1 Caffeine + L2 Redis)
+ * - 코드에서 사용하는 캐시 이름별로 크기/TTL/L2 사용 여부를 지정하고, 등록되지 않은 이름은 기본 설정(L1 전용)으로 생성
+ * - 캐시 변경 시 무효화 메시지를 pub/sub 채널로 발행하여 다른 노드의 L1 항목을 제거
+ * - 태그 무효화는 태그 자체를 전파하여 각 노드가 자기 L1에 적재된 해당 태그 항목을 제거
+ * - Redis 장애 시 일정 시간 L2 접근을 중단하고 L1만으로 동작 (요청 경로가 Redis 타임아웃을 기다리지 않도록)
+ *   그동안 건너뛴 L2 삭제/무효화 메시지는 기록해 두었다가 중단이 끝나면 재전송
+ * - Redis 템플릿 없이 생성하면 노드 로컬 L1 전용으로 동작
+ * - MeterRegistry가 설정되면 캐시 생성 시점(동적 생성 포함)에 캐시별 메트릭 등록
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidations";
+    public static final String TAG_INVALIDATION_CHANNEL = "cache:tag-invalidations";
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final String TAG_SEPARATOR = "\n";
+    private static final long REMOTE_SUSPEND_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    // 캐시별로 기록할 건너뛴 무효화 키 수 (넘으면 캐시 전체 무효화로 대체)
+    private static final int MAX_MISSED_KEYS = 10_000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, CacheSpec> specs;
+    private final CacheSpec defaultSpec;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<Object> valueSerializer;
+    private final StringRedisTemplate messageTemplate;
+
+    private volatile long remoteSuspendedUntil;
+    private MeterRegistry meterRegistry;
+
+    // Redis 장애 중 건너뛴 무효화 (캐시 이름 -> 키, 전체 무효화할 캐시, 태그)
+    private final Map<String, Set<String>> missedKeys = new ConcurrentHashMap<>();
+    private final Set<String> missedClears = ConcurrentHashMap.newKeySet();
+    private final Set<String> missedTags = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private volatile boolean hasMissedInvalidations;
+
+    public TwoLevelCacheManager(Map<String, CacheSpec> specs,
+                                CacheSpec defaultSpec,
+                                RedisTemplate<String, Object> redisTemplate,
+                                RedisSerializer<Object> valueSerializer,
+                                StringRedisTemplate messageTemplate) {
+        this.specs = specs;
+        this.defaultSpec = defaultSpec;
+        this.redisTemplate = redisTemplate;
+        this.valueSerializer = valueSerializer;
+        this.messageTemplate = messageTemplate;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return specs.values().stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        log.debug("설정되지 않은 캐시 이름 - 기본 설정으로 생성: {}", name);
+        return createCache(defaultSpec.withName(name));
+    }
+
+    /**
+     * 캐시별 메트릭 등록 대상 (afterPropertiesSet 이전에 설정)
+     * cache.gets(hit/miss), cache.evictions, cache.size, cache.load.duration, cache.hit.ratio, cache.l2.gets, cache.refreshes
+     */
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CacheSpec getSpec(String name) {
+        return specs.getOrDefault(name, defaultSpec.withName(name));
+    }
+
+    private TwoLevelCache createCache(CacheSpec spec) {
+        // 비동기 모드 L1: Mono/CompletableFuture를 반환하는 @Cacheable(공공데이터 API 클라이언트)과 일반 메서드 모두 지원
+        AsyncCache<Object, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .buildAsync();
+
+        TwoLevelCache cache = new TwoLevelCache(
+                spec.getName(),
+                new CaffeineCache(spec.getName(), l1, true),
+                spec.isRemote() && redisTemplate != null ? redisTemplate : null,
+                valueSerializer,
+                spec.getTtl(),
+                spec.isRefreshAhead() ? spec.getRefreshAfter() : null,
+                this);
+        bindMetrics(cache, l1.synchronous());
+        return cache;
+    }
+
+    private void bindMetrics(TwoLevelCache cache, com.github.benmanes.caffeine.cache.Cache<Object, Object> l1) {
+        if (meterRegistry == null) {
+            return;
+        }
+
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, cache.getName());
+        Gauge.builder("cache.hit.ratio", l1, local -> local.stats().hitRate())
+                .description("L1 캐시 히트율")
+                .tag("cache", cache.getName())
+                .register(meterRegistry);
+
+        if (cache.isRefreshAhead()) {
+            FunctionCounter.builder("cache.refreshes", cache, TwoLevelCache::getRefreshCount)
+                    .description("만료 전 갱신 수")
+                    .tag("cache", cache.getName())
+                    .register(meterRegistry);
+        }
+
+        if (cache.isRemoteEnabled()) {
+            FunctionCounter.builder("cache.l2.gets", cache, TwoLevelCache::getRemoteHitCount)
+                    .description("L2(Redis) 캐시 조회 수")
+                    .tags("cache", cache.getName(), "result", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder("cache.l2.gets", cache, TwoLevelCache::getRemoteMissCount)
+                    .description("L2(Redis) 캐시 조회 수")
+                    .tags("cache", cache.getName(), "result", "miss")
+                    .register(meterRegistry);
+        }
+    }
+
+    // ===== 노드 간 L1 무효화 =====
+
+    /**
+     * 캐시 항목 변경을 다른 노드에 전파 (key가 null이면 캐시 전체)
+     */
+    void publishInvalidation(String cacheName, String cacheKey) {
+        if (messageTemplate == null) {
+            return;
+        }
+        if (!isRemoteAvailable()) {
+            recordMissedInvalidation(cacheName, cacheKey);
+            return;
+        }
+        String message = nodeId + MESSAGE_SEPARATOR + cacheName + MESSAGE_SEPARATOR + (cacheKey != null ? cacheKey : "");
+        try {
+            messageTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            remoteFailed(e);
+            recordMissedInvalidation(cacheName, cacheKey);
+        }
+    }
+
+    /**
+     * 태그가 붙은 항목을 모든 캐시에서 무효화 (이 노드는 즉시, 다른 노드는 태그 메시지 수신 시)
+     */
+    public int evictTagged(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return 0;
+        }
+        Set<String> tagSet = new LinkedHashSet<>(tags);
+        int evicted = evictTaggedLocal(tagSet);
+        publishTags(tagSet);
+        return evicted;
+    }
+
+    private void publishTags(Set<String> tags) {
+        if (messageTemplate == null) {
+            return;
+        }
+        if (!isRemoteAvailable()) {
+            recordMissedTags(tags);
+            return;
+        }
+        try {
+            messageTemplate.convertAndSend(TAG_INVALIDATION_CHANNEL,
+                    nodeId + MESSAGE_SEPARATOR + String.join(TAG_SEPARATOR, tags));
+        } catch (RuntimeException e) {
+            remoteFailed(e);
+            recordMissedTags(tags);
+        }
+    }
+
+    private int evictTaggedLocal(Set<String> tags) {
+        int evicted = 0;
+        for (String cacheName : getCacheNames()) {
+            if (lookupCache(cacheName) instanceof TwoLevelCache cache) {
+                evicted += cache.evictTaggedLocal(tags);
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (TAG_INVALIDATION_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            onTagMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        // 이 노드에서 아직 만들어지지 않은 캐시는 비울 항목도 없음
+        if (lookupCache(parts[1]) instanceof TwoLevelCache cache) {
+            if (parts[2].isEmpty()) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(parts[2]);
+            }
+        }
+    }
+
+    private void onTagMessage(String body) {
+        String[] parts = body.split("\\|", 2);
+        if (parts.length < 2 || nodeId.equals(parts[0]) || parts[1].isEmpty()) {
+            return;
+        }
+        evictTaggedLocal(Set.copyOf(List.of(parts[1].split(TAG_SEPARATOR))));
+    }
+
+    // ===== Redis 장애 차단 =====
+
+    boolean isRemoteAvailable() {
+        boolean available = System.currentTimeMillis() >= remoteSuspendedUntil;
+        if (available && hasMissedInvalidations && replaying.compareAndSet(false, true)) {
+            // 요청 스레드가 재전송을 기다리지 않도록 분리
+            CompletableFuture.runAsync(this::replayMissedInvalidations);
+        }
+        return available;
+    }
+
+    void remoteFailed(RuntimeException e) {
+        boolean wasAvailable = isRemoteAvailable();
+        remoteSuspendedUntil = System.currentTimeMillis() + REMOTE_SUSPEND_MILLIS;
+        if (wasAvailable) {
+            log.warn("Redis L2 캐시 접근 실패 - {}초간 로컬 캐시만 사용: {}",
+                    TimeUnit.MILLISECONDS.toSeconds(REMOTE_SUSPEND_MILLIS), e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 장애로 건너뛴 L2 삭제/무효화 메시지 기록 (key가 null이면 캐시 전체)
+     */
+    void recordMissedInvalidation(String cacheName, String cacheKey) {
+        if (cacheKey == null || missedClears.contains(cacheName)) {
+            missedClears.add(cacheName);
+            missedKeys.remove(cacheName);
+        } else {
+            Set<String> keys = missedKeys.computeIfAbsent(cacheName, name -> ConcurrentHashMap.newKeySet());
+            keys.add(cacheKey);
+            if (keys.size() > MAX_MISSED_KEYS) {
+                missedClears.add(cacheName);
+                missedKeys.remove(cacheName);
+            }
+        }
+        hasMissedInvalidations = true;
+    }
+
+    private void recordMissedTags(Set<String> tags) {
+        missedTags.addAll(tags);
+        hasMissedInvalidations = true;
+    }
+
+    /**
+     * 기록된 무효화 재전송 (재전송 중 다시 실패하면 남은 항목은 다시 기록되어 다음 복구 때 재전송)
+     */
+    private void replayMissedInvalidations() {
+        try {
+            hasMissedInvalidations = false;
+            int replayed = 0;
+            for (String cacheName : List.copyOf(missedClears)) {
+                missedClears.remove(cacheName);
+                if (lookupCache(cacheName) instanceof TwoLevelCache cache) {
+                    cache.replayInvalidation(null);
+                    replayed++;
+                }
+            }
+            for (String cacheName : List.copyOf(missedKeys.keySet())) {
+                Set<String> keys = missedKeys.remove(cacheName);
+                if (keys != null && lookupCache(cacheName) instanceof TwoLevelCache cache) {
+                    keys.forEach(cache::replayInvalidation);
+                    replayed += keys.size();
+                }
+            }
+            if (!missedTags.isEmpty()) {
+                Set<String> tags = new LinkedHashSet<>(missedTags);
+                missedTags.removeAll(tags);
+                publishTags(tags);
+                replayed += tags.size();
+            }
+            log.info("Redis 복구 - 장애 중 건너뛴 캐시 무효화 {}건 재전송", replayed);
+        } catch (RuntimeException e) {
+            hasMissedInvalidations = true;
+            log.warn("캐시 무효화 재전송 실패: {}", e.getMessage());
+        } finally {
+            replaying.set(false);
+        }
+    }
+}
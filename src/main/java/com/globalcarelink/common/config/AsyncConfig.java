@@ -287,6 +287,95 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 공공데이터 동기화 전용 비동기 실행자
+     * - FacilitySyncService의 @Async("publicDataExecutor") 작업용
+     * - 지역 동기화는 오래 걸리므로 작은 풀로 격리 (상세 조회 병렬성은 동기화 서비스 내부에서 제어)
+     */
+    @Bean(name = "publicDataExecutor")
+    public AsyncTaskExecutor publicDataExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setKeepAliveSeconds(300);
+        executor.setThreadNamePrefix("public-data-");
+        
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        
+        executor.initialize();
+        
+        log.info("공공데이터 동기화 실행자 설정 완료 - 코어: {}, 최대: {}", 
+                executor.getCorePoolSize(), executor.getMaxPoolSize());
+        
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시 전용 실행자
+     * - PasswordHashingService의 BCrypt 해시/검증용 (CPU 집약적)
+     * - 스레드 수를 코어 수로 제한하고, 대기열이 가득 차면 호출 스레드에서 실행하지 않고 거절 (429 응답)
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${app.security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${app.security.password-hashing.queue-capacity:32}") int hashingQueueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(hashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        
+        // 포화 시 요청 스레드를 점유하지 않도록 즉시 거절
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setAwaitTerminationSeconds(5);
+        
+        executor.initialize();
+        
+        log.info("비밀번호 해시 실행자 설정 완료 - 스레드: {}, 큐: {}", threads, hashingQueueCapacity);
+        
+        return executor;
+    }
+
+    /**
+     * 코디네이터 매칭 점수 계산 전용 실행자
+     * - 일괄 매칭(CoordinatorBatchMatcher) 전용 (인메모리 인덱스 조회, CPU 집약적)
+     * - 거절을 429로 바꿔 주는 호출자만 사용 (@Async 메서드는 호출자 실행 정책인 matchingExecutor 사용)
+     * - 스레드 수를 코어 수로 제한하고, 대기열이 가득 차면 거절 (429 응답)
+     */
+    @Bean(name = "matchingTaskExecutor")
+    public ThreadPoolTaskExecutor matchingTaskExecutor(
+            @Value("${app.coordinator.matching.pool-size:0}") int poolSize,
+            @Value("${app.coordinator.matching.queue-capacity:64}") int matchingQueueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(matchingQueueCapacity);
+        executor.setThreadNamePrefix("matching-task-");
+        
+        // 포화 시 요청 스레드를 점유하지 않도록 즉시 거절
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setAwaitTerminationSeconds(5);
+        
+        executor.initialize();
+        
+        log.info("코디네이터 매칭 실행자 설정 완료 - 스레드: {}, 큐: {}", threads, matchingQueueCapacity);
+        
+        return executor;
+    }
+
     /**
      * 비동기 예외 처리기
      */
@@ -1,28 +1,58 @@
 package com.globalcarelink.common.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.globalcarelink.common.cache.CacheSpec;
+import com.globalcarelink.common.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * 캐시 설정 (Caffeine 기반 고성능 캐싱)
- * - 메모리 효율적인 캐싱
- * - TTL 기반 만료 정책
- * - 크기 기반 제거 정책
+ * 캐시 설정 (L1 Caffeine + L2 Redis 2단계 캐시)
+ * - 코드의 @Cacheable 이름별 크기/TTL/L2 사용 여부 지정 (cache.specs.{이름}.max-size|ttl-minutes|l2-enabled|refresh-ahead 로 재정의)
+ * - 계산 비용이 큰 통계 캐시는 TTL의 일정 비율이 지나면 만료 전에 갱신 (@Cacheable(sync = true) 조회에 적용)
+ * - L2는 DTO/집계 결과 캐시만 기본 사용, 엔티티를 담는 캐시는 L1 전용 (직렬화 중 지연 로딩 방지)
+ * - 캐시 변경은 Redis pub/sub으로 다른 노드의 L1에서 무효화
  * - 통계 및 모니터링 지원
  */
 @Slf4j
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    private final Environment environment;
+
+    @Value("${cache.l2.enabled:true}")
+    private boolean l2Enabled;
+
+    @Value("${cache.default.max-size:1000}")
+    private long defaultMaxSize;
+
+    @Value("${cache.default.ttl-minutes:30}")
+    private long defaultTtlMinutes;
+
     @Value("${cache.health-assessment.max-size:1000}")
     private long healthAssessmentMaxSize;
 
@@ -35,127 +65,152 @@ public class CacheConfig {
     @Value("${cache.coordinator-matching.ttl-minutes:60}")
     private long coordinatorMatchingTtlMinutes;
 
-    @Value("${cache.member.max-size:2000}")
-    private long memberMaxSize;
-
-    @Value("${cache.member.ttl-minutes:15}")
-    private long memberTtlMinutes;
-
     @Value("${cache.statistics.max-size:100}")
     private long statisticsMaxSize;
 
     @Value("${cache.statistics.ttl-minutes:120}")
     private long statisticsTtlMinutes;
 
+    @Value("${cache.public-data.max-size:1000}")
+    private long publicDataMaxSize;
+
+    @Value("${cache.public-data.ttl-minutes:360}")
+    private long publicDataTtlMinutes;
+
+    // TTL 대비 만료 전 갱신 시점 (0.8이면 TTL의 80%가 지난 뒤 첫 조회에서 갱신)
+    @Value("${cache.refresh-ahead.ratio:0.8}")
+    private double refreshAheadRatio;
+
     /**
-     * 기본 캐시 매니저 설정
+     * 2단계 캐시 매니저
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(defaultCaffeineBuilder());
-        
-        // 캐시별 개별 설정
-        cacheManager.registerCustomCache("healthAssessments", 
-                createHealthAssessmentCache().build());
-        cacheManager.registerCustomCache("healthAssessmentStats", 
-                createStatisticsCache().build());
-        cacheManager.registerCustomCache("coordinatorMatching", 
-                createCoordinatorMatchingCache().build());
-        cacheManager.registerCustomCache("members", 
-                createMemberCache().build());
-        cacheManager.registerCustomCache("profiles", 
-                createProfileCache().build());
-        
-        log.info("Caffeine 캐시 매니저 설정 완료");
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     ObjectMapper objectMapper,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     MeterRegistry meterRegistry) {
+        Map<String, CacheSpec> specs = cacheSpecs();
+        CacheSpec defaultSpec = spec("default", defaultMaxSize, defaultTtlMinutes, false);
+
+        if (!l2Enabled) {
+            TwoLevelCacheManager localCacheManager = new TwoLevelCacheManager(specs, defaultSpec, null, null, null);
+            localCacheManager.setMeterRegistry(meterRegistry);
+            log.info("캐시 매니저 설정 완료 - L1 전용, 캐시: {}", specs.values());
+            return localCacheManager;
+        }
+
+        RedisSerializer<Object> valueSerializer = cacheValueSerializer(objectMapper);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                specs,
+                defaultSpec,
+                cacheRedisTemplate(connectionFactory, valueSerializer),
+                valueSerializer,
+                new StringRedisTemplate(connectionFactory));
+        cacheManager.setMeterRegistry(meterRegistry);
+        redisMessageListenerContainer.addMessageListener(cacheManager, List.of(
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+                new ChannelTopic(TwoLevelCacheManager.TAG_INVALIDATION_CHANNEL)));
+
+        log.info("캐시 매니저 설정 완료 - L1 Caffeine + L2 Redis, 캐시: {}", specs.values());
         return cacheManager;
     }
 
     /**
-     * 기본 Caffeine 빌더
+     * 코드에서 사용하는 캐시 이름별 설정
      */
-    private Caffeine<Object, Object> defaultCaffeineBuilder() {
-        return Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(Duration.ofMinutes(30))
-                .expireAfterAccess(Duration.ofMinutes(10))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    log.debug("캐시 제거: key={}, cause={}", key, cause));
+    private Map<String, CacheSpec> cacheSpecs() {
+        Map<String, CacheSpec> specs = new LinkedHashMap<>();
+
+        // 시설 (엔티티/응답 DTO 혼재 -> L1 전용)
+        add(specs, spec("facility-profiles", 2000, 30, false));
+        add(specs, spec("facility-profiles-page", 200, 10, false));
+        add(specs, spec("facility-profiles-by-region", 200, 30, false));
+        add(specs, spec("facility-profiles-by-care-grade", 200, 30, false));
+        add(specs, spec("facility-statistics", statisticsMaxSize, 60, true, true));
+
+        // 건강 평가 / 코디네이터 매칭
+        add(specs, spec("health-assessments", healthAssessmentMaxSize, healthAssessmentTtlMinutes, false));
+        add(specs, spec("coordinator-matches", coordinatorMatchingMaxSize, coordinatorMatchingTtlMinutes, false));
+        add(specs, spec("user-matching-history", 500, 10, false));
+
+        // 계산 비용이 높은 통계/분석 리포트 (노드 간 공유)
+        for (String name : new String[] {"matching-statistics", "matching-trends", "recommendation-accuracy",
+                "facilityPerformance", "coordinatorPerformance", "recommendationEffectiveness",
+                "monthlyTrends", "facilityTypePerformance"}) {
+            add(specs, spec(name, statisticsMaxSize, statisticsTtlMinutes, true, true));
+        }
+
+        // 리뷰 / 구인 / 게시판
+        add(specs, spec("reviews", 1000, 10, false));
+        add(specs, spec("facilityRating", 2000, 30, true));
+        add(specs, spec("jobs", 500, 10, false));
+        add(specs, spec("jobStats", 50, 30, true));
+        add(specs, spec("applicationStats", 50, 5, true));
+        add(specs, spec("boards", 100, 60, false));
+
+        // 공공데이터 API 응답 (외부 호출 절감, 노드 간 공유)
+        for (String name : new String[] {"ltciSearch", "ltciDetail", "hospitalSearch", "pharmacySearch",
+                "facilityStatus", "facilityData", "facilityDetail"}) {
+            add(specs, spec(name, publicDataMaxSize, publicDataTtlMinutes, true));
+        }
+        add(specs, spec("entranceVisaInfo", 200, 1440, true));
+        add(specs, spec("customVisaInfo", 200, 1440, true));
+
+        return specs;
     }
 
-    /**
-     * 건강 평가 캐시 설정
-     * - 자주 조회되는 건강 평가 데이터
-     * - 중간 크기 캐시, 적당한 TTL
-     */
-    private Caffeine<Object, Object> createHealthAssessmentCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(healthAssessmentMaxSize)
-                .expireAfterWrite(Duration.ofMinutes(healthAssessmentTtlMinutes))
-                .expireAfterAccess(Duration.ofMinutes(healthAssessmentTtlMinutes / 2))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    log.debug("건강평가 캐시 제거: key={}, cause={}", key, cause));
+    private void add(Map<String, CacheSpec> specs, CacheSpec spec) {
+        specs.put(spec.getName(), spec);
     }
 
-    /**
-     * 통계 캐시 설정
-     * - 계산 비용이 높은 통계 데이터
-     * - 작은 크기, 긴 TTL
-     */
-    private Caffeine<Object, Object> createStatisticsCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(statisticsMaxSize)
-                .expireAfterWrite(Duration.ofMinutes(statisticsTtlMinutes))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    log.debug("통계 캐시 제거: key={}, cause={}", key, cause));
+    private CacheSpec spec(String name, long maxSize, long ttlMinutes, boolean remote) {
+        return spec(name, maxSize, ttlMinutes, remote, false);
     }
 
     /**
-     * 코디네이터 매칭 캐시 설정
-     * - 복잡한 매칭 알고리즘 결과
-     * - 중간 크기, 긴 TTL
+     * 기본값에 cache.specs.{이름}.* 설정 재정의 적용
      */
-    private Caffeine<Object, Object> createCoordinatorMatchingCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(coordinatorMatchingMaxSize)
-                .expireAfterWrite(Duration.ofMinutes(coordinatorMatchingTtlMinutes))
-                .expireAfterAccess(Duration.ofMinutes(coordinatorMatchingTtlMinutes / 3))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    log.debug("매칭 캐시 제거: key={}, cause={}", key, cause));
+    private CacheSpec spec(String name, long maxSize, long ttlMinutes, boolean remote, boolean refreshAhead) {
+        String prefix = "cache.specs." + name + ".";
+        Duration ttl = Duration.ofMinutes(environment.getProperty(prefix + "ttl-minutes", Long.class, ttlMinutes));
+        boolean refreshEnabled = environment.getProperty(prefix + "refresh-ahead", Boolean.class, refreshAhead)
+                && refreshAheadRatio > 0 && refreshAheadRatio < 1;
+        return new CacheSpec(
+                name,
+                environment.getProperty(prefix + "max-size", Long.class, maxSize),
+                ttl,
+                environment.getProperty(prefix + "l2-enabled", Boolean.class, remote),
+                refreshEnabled ? Duration.ofMillis((long) (ttl.toMillis() * refreshAheadRatio)) : null);
     }
 
     /**
-     * 회원 정보 캐시 설정
-     * - 자주 조회되는 회원 데이터
-     * - 큰 크기, 짧은 TTL (데이터 일관성 중요)
+     * L2 값 직렬화기 (애플리케이션 ObjectMapper 설정 + 타입 정보 포함 JSON)
      */
-    private Caffeine<Object, Object> createMemberCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(memberMaxSize)
-                .expireAfterWrite(Duration.ofMinutes(memberTtlMinutes))
-                .expireAfterAccess(Duration.ofMinutes(memberTtlMinutes / 2))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    log.debug("회원 캐시 제거: key={}, cause={}", key, cause));
+    private RedisSerializer<Object> cacheValueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.globalcarelink.")
+                        .allowIfSubType("java.")
+                        .allowIfSubTypeIsArray()
+                        .build(),
+                ObjectMapper.DefaultTyping.EVERYTHING,
+                JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        return new GenericJackson2JsonRedisSerializer(mapper);
     }
 
     /**
-     * 프로필 캐시 설정
-     * - 프로필 데이터 (국내/해외)
-     * - 중간 크기, 적당한 TTL
+     * L2 전용 템플릿 (트랜잭션 미지원: @Transactional 메서드 안에서도 조회가 MULTI 대기열에 묶이지 않도록)
      */
-    private Caffeine<Object, Object> createProfileCache() {
-        return Caffeine.newBuilder()
-                .maximumSize(1500)
-                .expireAfterWrite(Duration.ofMinutes(45))
-                .expireAfterAccess(Duration.ofMinutes(20))
-                .recordStats()
-                .removalListener((key, value, cause) -> 
-                    log.debug("프로필 캐시 제거: key={}, cause={}", key, cause));
+    private RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                             RedisSerializer<Object> valueSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(valueSerializer);
+        template.afterPropertiesSet();
+        return template;
     }
 
     /**
@@ -172,24 +227,22 @@ public class CacheConfig {
     public static class CacheStatsLogger {
         
         public void logCacheStats(CacheManager cacheManager) {
-            if (cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
-                caffeineCacheManager.getCacheNames().forEach(cacheName -> {
-                    var cache = caffeineCacheManager.getCache(cacheName);
-                    if (cache != null) {
-                        var nativeCache = cache.getNativeCache();
-                        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache caffeineCache) {
-                            var stats = caffeineCache.stats();
-                            log.info("캐시 통계 [{}] - 히트율: {:.2f}%, 요청수: {}, 히트: {}, 미스: {}, 제거: {}", 
-                                    cacheName,
-                                    stats.hitRate() * 100,
-                                    stats.requestCount(),
-                                    stats.hitCount(),
-                                    stats.missCount(),
-                                    stats.evictionCount());
-                        }
+            cacheManager.getCacheNames().forEach(cacheName -> {
+                var cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    var nativeCache = cache.getNativeCache();
+                    if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache caffeineCache) {
+                        var stats = caffeineCache.stats();
+                        log.info("캐시 통계 [{}] - 히트율: {}%, 요청수: {}, 히트: {}, 미스: {}, 제거: {}", 
+                                cacheName,
+                                String.format("%.2f", stats.hitRate() * 100),
+                                stats.requestCount(),
+                                stats.hitCount(),
+                                stats.missCount(),
+                                stats.evictionCount());
                     }
-                });
-            }
+                }
+            });
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.globalcarelink.common.config;
 
 import com.globalcarelink.auth.JwtAuthenticationFilter;
 import com.globalcarelink.auth.JwtTokenProvider;
+import com.globalcarelink.auth.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -14,7 +15,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -40,10 +40,15 @@ public class SecurityConfig {
     
     @Value("${app.security.production-mode:false}")
     private boolean productionMode;
-
+    
+    /**
+     * 기동 시 데이터 초기화 등 요청 경로 밖에서 쓰는 인코더
+     * 로그인/회원가입은 전용 풀을 쓰는 PasswordHashingService 사용
+     * cost는 PasswordHashingService가 결정한 값(자동 조정 포함)을 그대로 사용
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(PasswordHashingService passwordHashingService) {
+        return passwordHashingService.getEncoder();
     }
 
     @Bean
@@ -89,6 +94,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/signup", "/api/auth/login-test", "/api/auth/login-dto-test", "/api/auth/login-simple-test", "/api/auth/login-map-test", "/api/auth/password-hash-test").permitAll()
                         .requestMatchers("/api/test/**").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         .requestMatchers("/error").permitAll();
                     
                     // 프로덕션 환경에서는 개발 도구 접근 차단
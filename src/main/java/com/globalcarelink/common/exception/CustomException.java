@@ -42,4 +42,14 @@ public class CustomException extends RuntimeException {
             super(message, HttpStatus.CONFLICT);
         }
     }
+    
+    @Getter
+    public static class TooManyRequests extends CustomException {
+        private final long retryAfterSeconds;
+        
+        public TooManyRequests(String message, long retryAfterSeconds) {
+            super(message, HttpStatus.TOO_MANY_REQUESTS);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
 }
\ No newline at end of file
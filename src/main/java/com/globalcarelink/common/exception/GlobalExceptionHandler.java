@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -76,9 +77,16 @@ public class GlobalExceptionHandler {
             case CustomException.Conflict conflict -> HttpStatus.CONFLICT;
             case CustomException.Unauthorized unauthorized -> HttpStatus.UNAUTHORIZED;
             case CustomException.Forbidden forbidden -> HttpStatus.FORBIDDEN;
+            case CustomException.TooManyRequests tooManyRequests -> HttpStatus.TOO_MANY_REQUESTS;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
 
+        if (ex instanceof CustomException.TooManyRequests tooManyRequests) {
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequests.getRetryAfterSeconds()))
+                    .body(errorDetails);
+        }
+
         return ResponseEntity.status(status).body(errorDetails);
     }
 
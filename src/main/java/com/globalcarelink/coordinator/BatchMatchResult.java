@@ -0,0 +1,21 @@
+package com.globalcarelink.coordinator;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 일괄 매칭의 평가별 결과 (완료되는 대로 스트리밍)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchMatchResult {
+    
+    private Long healthAssessmentId;
+    private String status; // MATCHED, NO_CANDIDATE, NOT_FOUND, FAILED
+    private List<CoordinatorMatch> matches;
+    private String errorMessage;
+    private Long elapsedMs;
+}
@@ -0,0 +1,22 @@
+package com.globalcarelink.coordinator;
+
+import lombok.*;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchMatchingRequest {
+    
+    @NotEmpty(message = "건강 평가 ID를 1개 이상 입력해야 합니다")
+    @Size(max = 500, message = "한 번에 매칭할 수 있는 건강 평가는 500개 이하입니다")
+    private List<Long> healthAssessmentIds;
+    
+    @Valid
+    private MatchingPreference preference;
+}
@@ -0,0 +1,194 @@
+package com.globalcarelink.coordinator;
+
+import com.globalcarelink.common.exception.CustomException;
+import com.globalcarelink.health.HealthAssessment;
+import com.globalcarelink.health.HealthAssessmentService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 건강 평가를 한 번에 매칭하는 일괄 매처 (코디네이터 분류 작업용)
+ * - 평가는 한 번의 조회로 모두 읽고, 후보 풀은 적격성 인덱스 하나를 공유 (평가마다 DB를 조회하지 않음)
+ * - 점수 계산은 matchingTaskExecutor에서 병렬로 수행하고 평가별 결과를 완료되는 대로 전달
+ * - 요청 하나가 실행자 대기열을 독점하지 않도록 평가 단위가 아닌 작업자 단위(최대 스레드 수)로 제출
+ */
+@Component
+@Slf4j
+public class CoordinatorBatchMatcher {
+
+    private final OptimizedCoordinatorMatchingService matchingService;
+    private final CoordinatorEligibilityIndex eligibilityIndex;
+    private final HealthAssessmentService healthAssessmentService;
+    private final ThreadPoolTaskExecutor executor;
+
+    public CoordinatorBatchMatcher(OptimizedCoordinatorMatchingService matchingService,
+                                   CoordinatorEligibilityIndex eligibilityIndex,
+                                   HealthAssessmentService healthAssessmentService,
+                                   @Qualifier("matchingTaskExecutor") ThreadPoolTaskExecutor executor) {
+        this.matchingService = matchingService;
+        this.eligibilityIndex = eligibilityIndex;
+        this.healthAssessmentService = healthAssessmentService;
+        this.executor = executor;
+    }
+
+    /**
+     * 일괄 매칭 실행
+     * 찾은 평가는 병렬 매칭 후 완료 순서대로 전달하고, 없는 평가는 NOT_FOUND 결과로 전달
+     * 결과 전달이 예외로 실패하거나 호출자가 반환된 future를 취소하면(클라이언트 연결 종료, 시간 초과 등) 남은 평가는 계산하지 않음
+     * 실행자가 포화 상태라 작업을 하나도 제출하지 못하면 TooManyRequests
+     *
+     * @return 모든 결과를 전달한 뒤 완료되는 요약
+     */
+    public CompletableFuture<Summary> matchAll(List<Long> assessmentIds, MatchingPreference preference,
+                                               Consumer<BatchMatchResult> onResult) {
+        long startTime = System.currentTimeMillis();
+        Set<Long> requestedIds = new LinkedHashSet<>(assessmentIds);
+
+        Map<Long, HealthAssessment> found = healthAssessmentService.getAssessmentsByIds(requestedIds).stream()
+                .collect(Collectors.toMap(HealthAssessment::getId, Function.identity()));
+        List<HealthAssessment> assessments = new ArrayList<>(found.size());
+        for (Long id : requestedIds) {
+            HealthAssessment assessment = found.get(id);
+            if (assessment != null) {
+                assessments.add(assessment);
+            }
+        }
+
+        // 시작 직후 인덱스 구성 전이면 먼저 한 번 구성 (작업 스레드가 DB로 돌아가지 않도록, 동시 요청은 같은 구성을 기다림)
+        if (!assessments.isEmpty()) {
+            eligibilityIndex.ensureReady();
+        }
+
+        AtomicInteger matched = new AtomicInteger();
+        AtomicInteger noCandidate = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicBoolean aborted = new AtomicBoolean();
+        CompletableFuture<Summary> completion = new CompletableFuture<>();
+        Runnable complete = () -> completion.complete(new Summary(requestedIds.size(),
+                matched.get(), noCandidate.get(), requestedIds.size() - found.size(), failed.get(),
+                System.currentTimeMillis() - startTime));
+        completion.whenComplete((summary, error) -> {
+            if (error != null && aborted.compareAndSet(false, true)) {
+                log.info("일괄 매칭 취소 - 평가 수: {}", assessments.size());
+            }
+        });
+
+        int workers = Math.min(executor.getMaxPoolSize(), assessments.size());
+        AtomicInteger cursor = new AtomicInteger();
+        // 작업자 수 + 요청 스레드 (NOT_FOUND 결과 전달까지 마쳐야 완료)
+        AtomicInteger remainingWorkers = new AtomicInteger(workers + 1);
+        Runnable worker = () -> {
+            try {
+                for (int i = cursor.getAndIncrement(); i < assessments.size() && !aborted.get();
+                     i = cursor.getAndIncrement()) {
+                    BatchMatchResult result = match(assessments.get(i), preference);
+                    switch (result.getStatus()) {
+                        case "MATCHED" -> matched.incrementAndGet();
+                        case "NO_CANDIDATE" -> noCandidate.incrementAndGet();
+                        default -> failed.incrementAndGet();
+                    }
+                    deliver(onResult, result, aborted);
+                }
+            } finally {
+                if (remainingWorkers.decrementAndGet() == 0) {
+                    complete.run();
+                }
+            }
+        };
+
+        int submitted = 0;
+        try {
+            for (; submitted < workers; submitted++) {
+                executor.execute(worker);
+            }
+        } catch (TaskRejectedException e) {
+            if (submitted == 0) {
+                log.warn("매칭 실행자 포화로 일괄 매칭 거절 - 평가 수: {}", assessments.size());
+                throw new CustomException.TooManyRequests("매칭 요청이 많아 잠시 후 다시 시도해 주세요", 1);
+            }
+            // 일부만 제출된 경우 제출된 작업자가 남은 평가를 모두 처리
+            remainingWorkers.addAndGet(submitted - workers);
+        }
+
+        for (Long id : requestedIds) {
+            if (!found.containsKey(id)) {
+                deliver(onResult, BatchMatchResult.builder()
+                        .healthAssessmentId(id)
+                        .status("NOT_FOUND")
+                        .errorMessage("건강 평가를 찾을 수 없습니다")
+                        .build(), aborted);
+            }
+        }
+
+        log.info("일괄 매칭 시작 - 요청: {}건, 매칭 대상: {}건, 작업자: {}", requestedIds.size(), assessments.size(), submitted);
+        if (remainingWorkers.decrementAndGet() == 0) {
+            complete.run();
+        }
+        return completion;
+    }
+
+    private BatchMatchResult match(HealthAssessment assessment, MatchingPreference preference) {
+        long started = System.nanoTime();
+        try {
+            List<CoordinatorMatch> matches = matchingService.findOptimalMatchesFromIndex(assessment, preference);
+            return BatchMatchResult.builder()
+                    .healthAssessmentId(assessment.getId())
+                    .status(matches.isEmpty() ? "NO_CANDIDATE" : "MATCHED")
+                    .matches(matches)
+                    .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                    .build();
+        } catch (Exception e) {
+            log.error("일괄 매칭 실패 - 평가: {}", assessment.getId(), e);
+            return BatchMatchResult.builder()
+                    .healthAssessmentId(assessment.getId())
+                    .status("FAILED")
+                    .errorMessage("매칭 처리 중 오류가 발생했습니다")
+                    .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                    .build();
+        }
+    }
+
+    private void deliver(Consumer<BatchMatchResult> onResult, BatchMatchResult result, AtomicBoolean aborted) {
+        if (aborted.get()) {
+            return;
+        }
+        try {
+            onResult.accept(result);
+        } catch (RuntimeException e) {
+            if (aborted.compareAndSet(false, true)) {
+                log.info("일괄 매칭 결과 전달 중단 - 평가: {}, 사유: {}", result.getHealthAssessmentId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 일괄 매칭 요약 (스트림 마지막에 전달)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Summary {
+        private final int requested;
+        private final int matched;
+        private final int noCandidate;
+        private final int notFound;
+        private final int failed;
+        private final long elapsedMs;
+    }
+}
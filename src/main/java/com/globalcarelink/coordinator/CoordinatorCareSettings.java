@@ -10,6 +10,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "coordinator_care_settings")
+@EntityListeners(CoordinatorIndexEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
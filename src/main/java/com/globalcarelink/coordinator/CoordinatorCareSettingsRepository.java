@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,11 @@ public interface CoordinatorCareSettingsRepository extends JpaRepository<Coordin
     @EntityGraph(attributePaths = {"languageSkills"})
     Optional<CoordinatorCareSettings> findByCoordinatorId(String coordinatorId);
 
+    /**
+     * 코디네이터 ID 목록으로 조회 (적격성 인덱스 갱신용)
+     */
+    List<CoordinatorCareSettings> findByCoordinatorIdIn(Collection<String> coordinatorIds);
+
     /**
      * 코디네이터 ID와 활성 상태로 조회
      */
@@ -15,6 +15,7 @@ import java.util.Optional;
 public class CoordinatorCareSettingsService {
 
     private final CoordinatorCareSettingsRepository careSettingsRepository;
+    private final CoordinatorMatchingSimulator matchingSimulator;
 
     @Transactional(readOnly = true)
     public Optional<CoordinatorCareSettings> getCoordinatorSettings(String coordinatorId) {
@@ -55,26 +56,14 @@ public class CoordinatorCareSettingsService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 가상 건강 평가로 운영 매칭 경로를 병렬 실행하는 용량 계획용 시뮬레이션
+     * 작업 스레드마다 트랜잭션을 열므로 여기서는 트랜잭션을 시작하지 않음
+     */
     public MatchingSimulationResult runMatchingSimulation(MatchingSimulationRequest request) {
-        log.info("매칭 시뮬레이션 실행 - 평가수: {}, 코디네이터수: {}", 
-                request.getHealthAssessmentCount(), request.getCoordinatorCount());
-
-        long startTime = System.currentTimeMillis();
-        
-        List<CoordinatorCareSettings> allCoordinators = careSettingsRepository.findByIsActiveTrueOrderByPerformanceScoreDesc();
-        int totalMatches = Math.min(request.getHealthAssessmentCount(), allCoordinators.size() * 5);
-        
-        long endTime = System.currentTimeMillis();
-        long executionTime = endTime - startTime;
+        log.info("매칭 시뮬레이션 실행 - 평가수: {}, 유형: {}", 
+                request.getHealthAssessmentCount(), request.getSimulationType());
 
-        return MatchingSimulationResult.builder()
-                .totalHealthAssessments(request.getHealthAssessmentCount())
-                .totalCoordinators(request.getCoordinatorCount())
-                .successfulMatches(totalMatches)
-                .averageMatchingScore(4.2)
-                .executionTimeMs(executionTime)
-                .matchingSuccessRate((double) totalMatches / request.getHealthAssessmentCount() * 100)
-                .build();
+        return matchingSimulator.simulate(request);
     }
 } 
\ No newline at end of file
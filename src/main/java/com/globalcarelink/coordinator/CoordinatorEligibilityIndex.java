@@ -0,0 +1,707 @@
+package com.globalcarelink.coordinator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 코디네이터 매칭 적격성 인메모리 인덱스
+ * - 코디네이터마다 슬롯 번호를 부여하고 케어 등급/근무 지역/언어/전문 분야/주말/응급 가능 여부별 비트셋(포스팅 리스트) 유지
+ * - 적격 코디네이터 조회는 비트셋 교집합, 점수 계산은 슬롯별 기본형 배열(만족도/경력/업무량)로 수행하여 DB 조회와 엔티티 순회 없음
+ * - CoordinatorCareSettings/CoordinatorLanguageSkill 변경은 엔티티 리스너가 커밋 후 해당 코디네이터만 다시 읽어 제자리 갱신
+ * - 애플리케이션 시작 시 구성하고, 다른 노드에서 변경된 내용은 주기적 재구성으로 반영
+ * - 재구성 중에 반영된 개별 갱신은 기록해 두었다가 새 인덱스에 다시 적용 (재구성이 읽은 이전 값으로 덮어쓰지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoordinatorEligibilityIndex {
+
+    static final int MAX_CARE_GRADE = 6;
+    private static final String MATCH_CACHE = "coordinator-matches";
+    private static final Object PENDING_REFRESH_KEY = new Object();
+
+    /**
+     * 매칭 결과 순서 - 점수 내림차순, 동점이면 DB 조회 순서와 같이 만족도, 경력 내림차순
+     */
+    static final Comparator<ScoredCoordinator> RANKING = Comparator
+            .comparingDouble(ScoredCoordinator::getScore).reversed()
+            .thenComparing(candidate -> candidate.getSettings().getCustomerSatisfaction(),
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(candidate -> candidate.getSettings().getExperienceYears(),
+                    Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final CoordinatorCareSettingsRepository careSettingsRepository;
+    private final CoordinatorLanguageSkillRepository languageSkillRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성은 한 번에 하나만 실행
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coordinator-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${app.coordinator.eligibility-index.rebuild-interval-minutes:10}")
+    private long rebuildIntervalMinutes;
+
+    private State state = new State();
+    // 재구성 중 개별 갱신된 코디네이터 (값이 null이면 제거, 재구성 중이 아니면 null) - 쓰기 잠금 안에서만 접근
+    private Map<String, Entry> refreshedDuringRebuild;
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 시 인덱스 구성 후 주기적 재구성 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuilder.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        rebuilder.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 아직 구성 전이면 한 번만 구성 (동시에 호출되면 나머지는 먼저 시작한 구성이 끝나기를 기다림)
+     */
+    public void ensureReady() {
+        if (ready) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (!ready) {
+                rebuild();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 조건에 맞는 코디네이터와 매칭 점수
+     * 순서는 슬롯 순서 (정렬은 호출자가 수행)
+     */
+    public List<ScoredCoordinator> findEligible(Criteria criteria) {
+        lock.readLock().lock();
+        try {
+            State current = state;
+            BitSet candidates = current.eligible(criteria);
+            List<ScoredCoordinator> results = new ArrayList<>(candidates.cardinality());
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                Entry entry = current.entries.get(slot);
+                results.add(new ScoredCoordinator(entry.getSettings(), entry.getLanguageSkills(),
+                        current.score(slot, criteria)));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 상위 limit명을 RANKING 순으로 반환 (RANKING까지 같으면 슬롯 순서 - findEligible 결과를 안정 정렬해 자른 것과 동일)
+     * 점수 계산 단계는 슬롯 번호와 점수만 크기 limit의 최소 힙에 유지하고, 살아남은 코디네이터만 결과 객체로 만듦
+     */
+    public List<ScoredCoordinator> findTop(Criteria criteria, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            State current = state;
+            BitSet candidates = current.eligible(criteria);
+            TopSlots top = new TopSlots(Math.min(limit, candidates.cardinality()), current);
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                top.offer(slot, current.score(slot, criteria));
+            }
+
+            int count = top.sortDescending();
+            List<ScoredCoordinator> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Entry entry = current.entries.get(top.slots[i]);
+                results.add(new ScoredCoordinator(entry.getSettings(), entry.getLanguageSkills(), top.scores[i]));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.slotByCoordinatorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 종합 매칭 점수 (100점 만점)
+     * 케어 등급 적합성 30, 고객 만족도 25, 경력 20, 업무 여유 15, 언어 10
+     */
+    static double matchScore(boolean careGradeKnown, boolean careGradeFits, double customerSatisfaction,
+                             int experienceYears, int currentActiveCases, int maxSimultaneousCases,
+                             boolean languageRequested, boolean hasLanguage) {
+        double score = 0.0;
+        if (careGradeKnown) {
+            if (careGradeFits) {
+                score += 30.0;
+            }
+        } else {
+            score += 15.0; // 등급 정보 없을 때 기본 점수
+        }
+        score += (customerSatisfaction / 5.0) * 25.0;
+        score += Math.min(experienceYears / 10.0, 1.0) * 20.0;
+        score += (1.0 - (double) currentActiveCases / maxSimultaneousCases) * 15.0;
+        if (languageRequested) {
+            if (hasLanguage) {
+                score += 10.0;
+            }
+        } else {
+            score += 5.0; // 언어 선호도 없을 때 기본 점수
+        }
+        return Math.min(score, 100.0);
+    }
+
+    // ===== 갱신 =====
+
+    /**
+     * 코디네이터 변경 기록 (트랜잭션 안이면 커밋 후, 아니면 즉시 해당 코디네이터만 다시 읽어 반영)
+     */
+    @SuppressWarnings("unchecked")
+    public void markChanged(String coordinatorId) {
+        if (coordinatorId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(List.of(coordinatorId));
+            return;
+        }
+
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_REFRESH_KEY);
+        if (pending == null) {
+            Set<String> changed = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_REFRESH_KEY, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(changed);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_REFRESH_KEY);
+                }
+            });
+            pending = changed;
+        }
+        pending.add(coordinatorId);
+    }
+
+    /**
+     * 지정한 코디네이터의 설정/언어 스킬을 다시 읽어 인덱스 제자리 갱신 (없어진 코디네이터는 제거)
+     */
+    public void refresh(Collection<String> coordinatorIds) {
+        if (coordinatorIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = List.copyOf(coordinatorIds);
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        Map<String, Entry> loaded = template.execute(status -> load(
+                careSettingsRepository.findByCoordinatorIdIn(ids),
+                languageSkillRepository.findByCoordinatorIdInAndIsActiveTrueOrderByPriorityOrder(ids)));
+
+        lock.writeLock().lock();
+        try {
+            for (String coordinatorId : ids) {
+                Entry entry = loaded.get(coordinatorId);
+                apply(state, coordinatorId, entry);
+                if (refreshedDuringRebuild != null) {
+                    refreshedDuringRebuild.put(coordinatorId, entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        evictMatchCache();
+        log.debug("코디네이터 인덱스 갱신 - 코디네이터: {}", ids);
+    }
+
+    /**
+     * DB의 전체 코디네이터 설정/언어 스킬로 인덱스 재구성 (새 인덱스를 만든 뒤 교체)
+     */
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        rebuildLock.lock();
+        Map<String, Entry> loaded;
+        try {
+            // 읽기 시작 전부터 교체 시점까지 커밋된 개별 갱신을 기록
+            setRefreshRecording(true);
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            loaded = template.execute(status -> load(
+                    careSettingsRepository.findAll(),
+                    languageSkillRepository.findByIsActiveTrueOrderByPriorityOrder()));
+            install(loaded);
+        } finally {
+            setRefreshRecording(false);
+            rebuildLock.unlock();
+        }
+
+        log.info("코디네이터 적격성 인덱스 구성 완료 - 코디네이터 수: {}, 소요시간: {}ms",
+                loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 주어진 설정/언어 스킬로 인덱스 재구성 (DB 없이 구성하는 벤치마크용)
+     */
+    void rebuild(List<CoordinatorCareSettings> settingsList, List<CoordinatorLanguageSkill> skills) {
+        install(load(settingsList, skills));
+    }
+
+    private void install(Map<String, Entry> loaded) {
+        State rebuilt = new State();
+        loaded.values().forEach(rebuilt::put);
+
+        lock.writeLock().lock();
+        try {
+            if (refreshedDuringRebuild != null) {
+                refreshedDuringRebuild.forEach((coordinatorId, entry) -> apply(rebuilt, coordinatorId, entry));
+                refreshedDuringRebuild.clear();
+            }
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+    }
+
+    private void setRefreshRecording(boolean recording) {
+        lock.writeLock().lock();
+        try {
+            refreshedDuringRebuild = recording ? new HashMap<>() : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(State target, String coordinatorId, Entry entry) {
+        if (entry != null) {
+            target.put(entry);
+        } else {
+            target.remove(coordinatorId);
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("코디네이터 적격성 인덱스 구성 실패", e);
+        }
+    }
+
+    /**
+     * 설정과 언어 스킬을 코디네이터별로 묶음 (트랜잭션 안에서 호출 - 지연 로딩 컬렉션 초기화)
+     */
+    private Map<String, Entry> load(List<CoordinatorCareSettings> settingsList, List<CoordinatorLanguageSkill> skills) {
+        Map<String, List<CoordinatorLanguageSkill>> skillsByCoordinator = new HashMap<>();
+        for (CoordinatorLanguageSkill skill : skills) {
+            skillsByCoordinator.computeIfAbsent(skill.getCoordinatorId(), id -> new ArrayList<>()).add(skill);
+        }
+
+        Map<String, Entry> entries = new HashMap<>();
+        for (CoordinatorCareSettings settings : settingsList) {
+            // 인덱스가 보관하는 엔티티는 트랜잭션 밖에서 매칭 결과 생성에 쓰이므로 컬렉션을 미리 로딩
+            Hibernate.initialize(settings.getSpecialtyAreas());
+            Hibernate.initialize(settings.getWorkingRegions());
+            Hibernate.initialize(settings.getPreferredCareGrades());
+            Hibernate.initialize(settings.getExcludedCareGrades());
+            entries.put(settings.getCoordinatorId(), new Entry(settings,
+                    List.copyOf(skillsByCoordinator.getOrDefault(settings.getCoordinatorId(), List.of()))));
+        }
+        return entries;
+    }
+
+    private void evictMatchCache() {
+        Cache cache = cacheManager.getCache(MATCH_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 슬롯 기반 인덱스 본체 (읽기/쓰기 잠금 안에서만 접근)
+     * 제거된 슬롯은 재사용 목록에 넣고, 배열은 코디네이터 수에 맞춰 늘림
+     */
+    private static class State {
+
+        private final Map<String, Integer> slotByCoordinatorId = new HashMap<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private final BitSet freeSlots = new BitSet();
+
+        // 포스팅 리스트
+        private final BitSet active = new BitSet();
+        private final BitSet weekend = new BitSet();
+        private final BitSet emergency = new BitSet();
+        private final BitSet[] careGrades = new BitSet[MAX_CARE_GRADE + 1];
+        private final Map<String, BitSet> regions = new HashMap<>();
+        private final Map<String, BitSet> languages = new HashMap<>();
+        private final Map<String, BitSet> specialties = new HashMap<>();
+
+        // 점수 계산용 기본형 특성 배열
+        private double[] satisfaction = new double[16];
+        private int[] experienceYears = new int[16];
+        private int[] activeCases = new int[16];
+        private int[] maxCases = new int[16];
+
+        State() {
+            for (int grade = 1; grade <= MAX_CARE_GRADE; grade++) {
+                careGrades[grade] = new BitSet();
+            }
+        }
+
+        BitSet eligible(Criteria criteria) {
+            int grade = criteria.getCareGrade();
+            if (grade < 1 || grade > MAX_CARE_GRADE) {
+                return new BitSet();
+            }
+            BitSet result = (BitSet) active.clone();
+            result.and(careGrades[grade]);
+            if (!intersect(result, regions, criteria.getRegion())
+                    || !intersect(result, languages, criteria.getLanguageCode())
+                    || !intersect(result, specialties, criteria.getSpecialty())) {
+                return new BitSet();
+            }
+            if (criteria.isNeedsWeekend()) {
+                result.and(weekend);
+            }
+            if (criteria.isNeedsEmergency()) {
+                result.and(emergency);
+            }
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                // 만족도 정보가 없으면(NaN) 비교가 false가 되어 제외 (DB 조건과 동일)
+                if (!(satisfaction[slot] >= criteria.getMinSatisfaction())) {
+                    result.clear(slot);
+                }
+            }
+            return result;
+        }
+
+        // 조건이 없으면 그대로, 조건 값의 포스팅 리스트가 없으면 false
+        private boolean intersect(BitSet result, Map<String, BitSet> postings, String value) {
+            if (value == null || value.isBlank()) {
+                return true;
+            }
+            BitSet posting = postings.get(value);
+            if (posting == null) {
+                return false;
+            }
+            result.and(posting);
+            return true;
+        }
+
+        double score(int slot, Criteria criteria) {
+            boolean languageRequested = criteria.getLanguageCode() != null && !criteria.getLanguageCode().isBlank();
+            // 적격 코디네이터는 케어 등급/언어 조건을 이미 만족
+            return matchScore(criteria.isCareGradeKnown(), true, satisfaction[slot], experienceYears[slot],
+                    activeCases[slot], maxCases[slot], languageRequested, true);
+        }
+
+        void put(Entry entry) {
+            CoordinatorCareSettings settings = entry.getSettings();
+            Integer existing = slotByCoordinatorId.get(settings.getCoordinatorId());
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                unindex(slot, entries.get(slot));
+                entries.set(slot, entry);
+            } else {
+                slot = allocateSlot(entry);
+                slotByCoordinatorId.put(settings.getCoordinatorId(), slot);
+            }
+            index(slot, entry);
+        }
+
+        void remove(String coordinatorId) {
+            Integer slot = slotByCoordinatorId.remove(coordinatorId);
+            if (slot == null) {
+                return;
+            }
+            unindex(slot, entries.get(slot));
+            entries.set(slot, null);
+            freeSlots.set(slot);
+        }
+
+        private int allocateSlot(Entry entry) {
+            int slot = freeSlots.nextSetBit(0);
+            if (slot >= 0) {
+                freeSlots.clear(slot);
+                entries.set(slot, entry);
+                return slot;
+            }
+            slot = entries.size();
+            entries.add(entry);
+            if (slot >= satisfaction.length) {
+                int capacity = satisfaction.length * 2;
+                satisfaction = Arrays.copyOf(satisfaction, capacity);
+                experienceYears = Arrays.copyOf(experienceYears, capacity);
+                activeCases = Arrays.copyOf(activeCases, capacity);
+                maxCases = Arrays.copyOf(maxCases, capacity);
+            }
+            return slot;
+        }
+
+        private void index(int slot, Entry entry) {
+            CoordinatorCareSettings settings = entry.getSettings();
+            active.set(slot, Boolean.TRUE.equals(settings.getIsActive()));
+            weekend.set(slot, Boolean.TRUE.equals(settings.getAvailableWeekends()));
+            emergency.set(slot, Boolean.TRUE.equals(settings.getAvailableEmergency()));
+
+            // DB 조건(baseCareLevel <= 등급 <= maxCareLevel)과 동일하게 범위가 없으면 어떤 등급에도 적격하지 않음
+            if (settings.getBaseCareLevel() != null && settings.getMaxCareLevel() != null) {
+                for (int grade = Math.max(1, settings.getBaseCareLevel());
+                     grade <= Math.min(MAX_CARE_GRADE, settings.getMaxCareLevel()); grade++) {
+                    careGrades[grade].set(slot);
+                }
+            }
+            entry.getRegions().forEach(region -> regions.computeIfAbsent(region, k -> new BitSet()).set(slot));
+            entry.getSpecialties().forEach(specialty -> specialties.computeIfAbsent(specialty, k -> new BitSet()).set(slot));
+            entry.getLanguageCodes().forEach(code -> languages.computeIfAbsent(code, k -> new BitSet()).set(slot));
+
+            satisfaction[slot] = settings.getCustomerSatisfaction() != null ? settings.getCustomerSatisfaction() : Double.NaN;
+            experienceYears[slot] = settings.getExperienceYears() != null ? settings.getExperienceYears() : 0;
+            activeCases[slot] = settings.getCurrentActiveCases();
+            maxCases[slot] = settings.getMaxSimultaneousCases() != null ? settings.getMaxSimultaneousCases() : 5;
+        }
+
+        private void unindex(int slot, Entry entry) {
+            active.clear(slot);
+            weekend.clear(slot);
+            emergency.clear(slot);
+            for (int grade = 1; grade <= MAX_CARE_GRADE; grade++) {
+                careGrades[grade].clear(slot);
+            }
+            clear(regions, entry.getRegions(), slot);
+            clear(specialties, entry.getSpecialties(), slot);
+            clear(languages, entry.getLanguageCodes(), slot);
+        }
+
+        private void clear(Map<String, BitSet> postings, Set<String> values, int slot) {
+            for (String value : values) {
+                BitSet posting = postings.get(value);
+                if (posting != null) {
+                    posting.clear(slot);
+                    if (posting.isEmpty()) {
+                        postings.remove(value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 점수 상위 슬롯을 고르는 크기 고정 최소 힙 (기본형 배열만 사용, 루트가 현재 가장 낮은 순위)
+     * 순위는 RANKING과 같이 점수, 만족도, 경력 순으로 비교하고, 모두 같으면 먼저 들어온(번호가 작은) 슬롯이 우선
+     */
+    private static class TopSlots {
+
+        private final int[] slots;
+        private final double[] scores;
+        private final State state;
+        private int size;
+
+        TopSlots(int capacity, State state) {
+            this.slots = new int[capacity];
+            this.scores = new double[capacity];
+            this.state = state;
+        }
+
+        void offer(int slot, double score) {
+            if (size < slots.length) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (size > 0 && outranksRoot(slot, score)) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * 힙 정렬로 배열 앞부터 높은 순위 순으로 배치하고 개수를 반환 (이후 offer 불가)
+         */
+        int sortDescending() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return size;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!ranksLower(index, parent)) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index, int length) {
+            while (true) {
+                int lowest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < length && ranksLower(left, lowest)) {
+                    lowest = left;
+                }
+                if (right < length && ranksLower(right, lowest)) {
+                    lowest = right;
+                }
+                if (lowest == index) {
+                    return;
+                }
+                swap(index, lowest);
+                index = lowest;
+            }
+        }
+
+        // 새 슬롯은 기존 슬롯보다 번호가 크므로 점수/만족도/경력 중 하나가 앞서야 루트보다 높은 순위
+        private boolean outranksRoot(int slot, double score) {
+            return compare(score, slot, scores[0], slots[0]) > 0;
+        }
+
+        private boolean ranksLower(int i, int j) {
+            return compare(scores[i], slots[i], scores[j], slots[j]) < 0;
+        }
+
+        // 양수면 a가 높은 순위 (적격 슬롯은 만족도가 NaN이 아님)
+        private int compare(double scoreA, int slotA, double scoreB, int slotB) {
+            int result = Double.compare(scoreA, scoreB);
+            if (result == 0) {
+                result = Double.compare(state.satisfaction[slotA], state.satisfaction[slotB]);
+            }
+            if (result == 0) {
+                result = Integer.compare(state.experienceYears[slotA], state.experienceYears[slotB]);
+            }
+            return result != 0 ? result : Integer.compare(slotB, slotA);
+        }
+
+        private void swap(int i, int j) {
+            int slot = slots[i];
+            slots[i] = slots[j];
+            slots[j] = slot;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    /**
+     * 인덱스에 보관하는 코디네이터 (설정 엔티티, 활성 언어 스킬, 포스팅 키)
+     */
+    @Getter
+    private static class Entry {
+        private final CoordinatorCareSettings settings;
+        private final List<CoordinatorLanguageSkill> languageSkills;
+        private final Set<String> regions;
+        private final Set<String> specialties;
+        private final Set<String> languageCodes;
+
+        Entry(CoordinatorCareSettings settings, List<CoordinatorLanguageSkill> languageSkills) {
+            this.settings = settings;
+            this.languageSkills = languageSkills;
+            this.regions = settings.getWorkingRegions() != null ? Set.copyOf(settings.getWorkingRegions()) : Set.of();
+            this.specialties = settings.getSpecialtyAreas() != null ? Set.copyOf(settings.getSpecialtyAreas()) : Set.of();
+            Set<String> codes = new LinkedHashSet<>();
+            for (CoordinatorLanguageSkill skill : languageSkills) {
+                if (skill.getLanguageCode() != null && Boolean.TRUE.equals(skill.getIsActive())) {
+                    codes.add(skill.getLanguageCode());
+                }
+            }
+            this.languageCodes = Set.copyOf(codes);
+        }
+    }
+
+    /**
+     * 적격성 조회 조건
+     */
+    @Getter
+    @Builder
+    public static class Criteria {
+        private final int careGrade;
+        // 평가에 장기요양등급이 없어 기본 등급으로 조회한 경우 false (등급 적합성 점수 절반)
+        private final boolean careGradeKnown;
+        private final double minSatisfaction;
+        private final String region;
+        private final String languageCode;
+        private final String specialty;
+        private final boolean needsWeekend;
+        private final boolean needsEmergency;
+    }
+
+    /**
+     * 적격 코디네이터와 매칭 점수
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoredCoordinator {
+        private final CoordinatorCareSettings settings;
+        private final List<CoordinatorLanguageSkill> languageSkills;
+        private final double score;
+    }
+}
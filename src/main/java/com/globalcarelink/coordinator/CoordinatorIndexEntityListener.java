@@ -0,0 +1,37 @@
+package com.globalcarelink.coordinator;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코디네이터 설정/언어 스킬 변경을 적격성 인덱스에 전달하는 엔티티 리스너
+ * 저장 경로와 관계없이 변경을 잡기 위해 엔티티에 등록 (Hibernate가 스프링 빈으로 생성)
+ * 인덱스는 EntityManagerFactory 생성 이후에 만들어지므로 ObjectProvider로 지연 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class CoordinatorIndexEntityListener {
+
+    private final ObjectProvider<CoordinatorEligibilityIndex> eligibilityIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String coordinatorId = null;
+        if (entity instanceof CoordinatorCareSettings settings) {
+            coordinatorId = settings.getCoordinatorId();
+        } else if (entity instanceof CoordinatorLanguageSkill skill) {
+            coordinatorId = skill.getCoordinatorId();
+        }
+
+        CoordinatorEligibilityIndex index = eligibilityIndex.getIfAvailable();
+        if (index != null) {
+            index.markChanged(coordinatorId);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import lombok.experimental.SuperBuilder;
  */
 @Entity
 @Table(name = "coordinator_language_skills")
+@EntityListeners(CoordinatorIndexEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +38,11 @@ public interface CoordinatorLanguageSkillRepository extends JpaRepository<Coordi
      * 인덱스 활용: coordinator_id, is_active, priority_order
      */
     List<CoordinatorLanguageSkill> findByCoordinatorIdAndIsActiveTrueOrderByPriorityOrder(String coordinatorId);
+
+    /**
+     * 여러 코디네이터의 활성 언어 스킬 일괄 조회 (적격성 인덱스 갱신용)
+     */
+    List<CoordinatorLanguageSkill> findByCoordinatorIdInAndIsActiveTrueOrderByPriorityOrder(Collection<String> coordinatorIds);
     
     /**
      * 코디네이터별 활성 언어 스킬 조회 (우선순위 정렬, 페이징)
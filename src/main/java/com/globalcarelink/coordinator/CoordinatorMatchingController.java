@@ -10,10 +10,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "코디네이터 매칭", description = "AI 기반 코디네이터 자동 매칭 시스템")
 @RestController
@@ -22,7 +26,10 @@ import java.util.Optional;
 @Slf4j
 public class CoordinatorMatchingController {
 
+    private static final long BATCH_STREAM_TIMEOUT_MS = 120_000L;
+
     private final OptimizedCoordinatorMatchingService matchingService;
+    private final CoordinatorBatchMatcher batchMatcher;
     private final HealthAssessmentService healthAssessmentService;
     private final CoordinatorCareSettingsService coordinatorCareSettingsService;
 
@@ -53,6 +60,48 @@ public class CoordinatorMatchingController {
         return ResponseEntity.ok(matches);
     }
 
+    @Operation(
+        summary = "코디네이터 일괄 매칭",
+        description = "여러 건강 평가를 한 번에 매칭하고 평가별 결과(match 이벤트)를 완료되는 대로 스트리밍합니다. " +
+                      "모든 결과를 보낸 뒤 요약(complete 이벤트)을 보내고 스트림을 닫습니다."
+    )
+    @PostMapping("/match/batch")
+    @PreAuthorize("hasAnyRole('COORDINATOR', 'ADMIN')")
+    public SseEmitter matchCoordinatorsBatch(
+        @Parameter(description = "건강 평가 ID 목록과 매칭 선호 조건", required = true)
+        @Valid @RequestBody BatchMatchingRequest request) {
+
+        log.info("코디네이터 일괄 매칭 요청 - 평가 수: {}", request.getHealthAssessmentIds().size());
+
+        MatchingPreference preference = request.getPreference() != null
+                ? request.getPreference() : MatchingPreference.builder().build();
+        SseEmitter emitter = new SseEmitter(BATCH_STREAM_TIMEOUT_MS);
+
+        CompletableFuture<CoordinatorBatchMatcher.Summary> batch = batchMatcher.matchAll(
+                request.getHealthAssessmentIds(), preference, result -> sendEvent(emitter, "match", result));
+        // 시간 초과/연결 오류로 스트림이 끝나면 남은 평가는 계산하지 않음
+        emitter.onTimeout(() -> {
+            log.warn("코디네이터 일괄 매칭 스트림 시간 초과 - {}ms", BATCH_STREAM_TIMEOUT_MS);
+            batch.cancel(false);
+            emitter.complete();
+        });
+        emitter.onError(e -> batch.cancel(false));
+        emitter.onCompletion(() -> batch.cancel(false));
+
+        batch.thenAccept(summary -> {
+            log.info("코디네이터 일괄 매칭 완료 - 요청: {}건, 매칭: {}건, 소요시간: {}ms",
+                    summary.getRequested(), summary.getMatched(), summary.getElapsedMs());
+            try {
+                sendEvent(emitter, "complete", summary);
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+
     @Operation(
         summary = "언어 기반 코디네이터 조회",
         description = "특정 언어를 구사하는 코디네이터를 조회합니다."
@@ -153,4 +202,12 @@ public class CoordinatorMatchingController {
         
         return ResponseEntity.ok(result);
     }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 } 
\ No newline at end of file
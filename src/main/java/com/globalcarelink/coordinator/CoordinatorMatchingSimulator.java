@@ -0,0 +1,472 @@
+package com.globalcarelink.coordinator;
+
+import com.globalcarelink.common.exception.CustomException;
+import com.globalcarelink.health.HealthAssessment;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 코디네이터 매칭 시뮬레이터 (용량 계획용)
+ * - 요청한 분포(RANDOM/REALISTIC/STRESS_TEST)로 가상 건강 평가를 만들어 운영 매칭 경로(캐시 제외)로 병렬 매칭
+ * - 평가마다 최고 점수 코디네이터에 가상 배정하고, 업무량 최적화 시에는 전체 평가를 남은 정원 안에서 일괄 배정
+ * - 처리량, 지연 시간 백분위, 점수 분포, 코디네이터 정원 포화도를 보고
+ * - 가상 배정은 메모리에서만 집계하며 DB에는 쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoordinatorMatchingSimulator {
+
+    private static final int CANDIDATES_PER_ASSESSMENT = 50;
+    private static final List<String> LANGUAGES = List.of("KO", "EN", "ZH", "JA", "VI", "TH", "RU", "ES");
+    private static final double[] REALISTIC_LANGUAGE_WEIGHTS = {80, 6, 7, 2, 3, 1, 0.5, 0.5};
+    private static final double[] REALISTIC_GRADE_WEIGHTS = {5, 10, 25, 35, 20, 5};
+
+    private final OptimizedCoordinatorMatchingService matchingService;
+    private final CoordinatorWorkloadOptimizer workloadOptimizer;
+    private final CoordinatorCareSettingsRepository careSettingsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.coordinator.simulation.parallelism:4}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "matching-simulation-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 시뮬레이션 실행 (동시에 하나만 실행)
+     */
+    public MatchingSimulationResult simulate(MatchingSimulationRequest request) {
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException.Conflict("이미 매칭 시뮬레이션이 실행 중입니다");
+        }
+        try {
+            return run(request);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private MatchingSimulationResult run(MatchingSimulationRequest request) {
+        String simulationType = request.getSimulationType() != null
+                ? request.getSimulationType().toUpperCase() : "RANDOM";
+        if (!List.of("RANDOM", "REALISTIC", "STRESS_TEST").contains(simulationType)) {
+            throw new CustomException.BadRequest("지원하지 않는 시뮬레이션 유형입니다: " + request.getSimulationType());
+        }
+
+        Pool pool = loadPool();
+        int count = request.getHealthAssessmentCount() != null ? request.getHealthAssessmentCount() : 100;
+        List<Scenario> scenarios = generateScenarios(simulationType, count, pool, request);
+        boolean workloadOptimization = Boolean.TRUE.equals(request.getIncludeWorkloadOptimization());
+
+        log.info("매칭 시뮬레이션 시작 - 유형: {}, 평가 수: {}, 코디네이터 풀: {}명, 병렬도: {}",
+                simulationType, count, pool.capacity.size(), parallelism);
+
+        List<List<CoordinatorMatch>> candidates = new ArrayList<>(Collections.nCopies(count, null));
+        long[] latencies = new long[count];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger cursor = new AtomicInteger();
+
+        Runnable worker = () -> {
+            for (int i = cursor.getAndIncrement(); i < count; i = cursor.getAndIncrement()) {
+                Scenario scenario = scenarios.get(i);
+                long started = System.nanoTime();
+                try {
+                    candidates.set(i, matchingService.computeOptimalMatches(scenario.assessment, scenario.preference));
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                    log.debug("시뮬레이션 매칭 실패 - 순번: {}", i, e);
+                } finally {
+                    latencies[i] = System.nanoTime() - started;
+                }
+            }
+        };
+
+        long startTime = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < parallelism; i++) {
+            futures.add(workers.submit(worker));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("매칭 시뮬레이션이 중단되었습니다", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("매칭 시뮬레이션 실행 실패", e.getCause());
+            }
+        }
+        long matchingNanos = System.nanoTime() - startTime;
+
+        // 가상 배정 (업무량 최적화 시 전체 평가를 남은 정원 안에서 일괄 배정, 아니면 평가마다 최고 점수)
+        Map<String, Integer> assigned = new HashMap<>();
+        double[] scores = new double[count];
+        Arrays.fill(scores, Double.NaN);
+        Map<Integer, List<CoordinatorMatch>> matchable = new LinkedHashMap<>();
+        int noCandidate = 0;
+        long candidateCount = 0;
+        for (int i = 0; i < count; i++) {
+            List<CoordinatorMatch> matches = candidates.get(i);
+            if (matches == null) {
+                continue;
+            }
+            candidateCount += matches.size();
+            if (matches.isEmpty()) {
+                noCandidate++;
+            } else {
+                matchable.put(i, matches);
+            }
+        }
+
+        int capacityRejected = 0;
+        int overCapacity = 0;
+        long assignmentMs = 0;
+        if (workloadOptimization) {
+            CoordinatorWorkloadOptimizer.BatchAssignment<Integer> assignment = workloadOptimizer.assignBatch(matchable);
+            assignment.getAssignments().forEach((i, match) -> {
+                scores[i] = match.getMatchScore();
+                assigned.merge(match.getCoordinatorId(), 1, Integer::sum);
+            });
+            capacityRejected = assignment.getUnassigned().size();
+            assignmentMs = assignment.getElapsedMs();
+        } else {
+            for (Map.Entry<Integer, List<CoordinatorMatch>> entry : matchable.entrySet()) {
+                CoordinatorMatch best = entry.getValue().get(0);
+                scores[entry.getKey()] = best.getMatchScore();
+                if (assigned.merge(best.getCoordinatorId(), 1, Integer::sum) > pool.capacityOf(best)) {
+                    overCapacity++;
+                }
+            }
+        }
+
+        MatchingSimulationResult result = buildResult(simulationType, pool, assigned, latencies, scores,
+                matchingNanos, assignmentMs, noCandidate, capacityRejected, overCapacity, errors.get(),
+                (double) candidateCount / count);
+
+        log.info("매칭 시뮬레이션 완료 - 성공: {}/{}, 처리량: {}/s, p99: {}ms, 포화 코디네이터: {}명",
+                result.getSuccessfulMatches(), count, String.format("%.1f", result.getThroughputPerSecond()),
+                String.format("%.2f", result.getLatencyP99Ms()), result.getSaturatedCoordinators());
+        return result;
+    }
+
+    private MatchingSimulationResult buildResult(String simulationType, Pool pool, Map<String, Integer> assigned,
+                                                 long[] latencies, double[] scores, long matchingNanos,
+                                                 long assignmentMs, int noCandidate, int capacityRejected,
+                                                 int overCapacity, int errors, double averageCandidates) {
+        int count = latencies.length;
+        long[] sortedLatencies = latencies.clone();
+        Arrays.sort(sortedLatencies);
+
+        // 배정 점수 분포 (10점 구간)
+        Map<String, Long> scoreDistribution = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < 10; bucket++) {
+            scoreDistribution.put((bucket * 10) + "-" + (bucket * 10 + 10), 0L);
+        }
+        int successful = 0;
+        double scoreSum = 0.0;
+        double minScore = Double.MAX_VALUE;
+        double maxScore = 0.0;
+        for (double score : scores) {
+            if (Double.isNaN(score)) {
+                continue;
+            }
+            successful++;
+            scoreSum += score;
+            minScore = Math.min(minScore, score);
+            maxScore = Math.max(maxScore, score);
+            int bucket = Math.min((int) (score / 10), 9);
+            scoreDistribution.merge((bucket * 10) + "-" + (bucket * 10 + 10), 1L, Long::sum);
+        }
+
+        // 정원 포화도 (기존 담당 건수 + 가상 배정 / 최대 동시 담당 건수)
+        int saturated = 0;
+        long totalLoad = 0;
+        long totalCapacity = 0;
+        for (Map.Entry<String, Integer> entry : pool.capacity.entrySet()) {
+            int max = pool.maxCases.get(entry.getKey());
+            int load = max - entry.getValue();
+            load += assigned.getOrDefault(entry.getKey(), 0);
+            if (load >= max) {
+                saturated++;
+            }
+            totalLoad += Math.min(load, max);
+            totalCapacity += max;
+        }
+        int poolSize = pool.capacity.size();
+
+        return MatchingSimulationResult.builder()
+                .simulationType(simulationType)
+                .totalHealthAssessments(count)
+                .totalCoordinators(poolSize)
+                .successfulMatches(successful)
+                .failedMatches(count - successful)
+                .noCandidateCount(noCandidate)
+                .capacityRejectedCount(capacityRejected)
+                .overCapacityAssignments(overCapacity)
+                .errorCount(errors)
+                .averageCandidates(averageCandidates)
+                .averageMatchingScore(successful > 0 ? scoreSum / successful : 0.0)
+                .minMatchingScore(successful > 0 ? minScore : 0.0)
+                .maxMatchingScore(maxScore)
+                .scoreDistribution(scoreDistribution)
+                .matchingSuccessRate(count > 0 ? (double) successful / count * 100 : 0.0)
+                .executionTimeMs(matchingNanos / 1_000_000 + assignmentMs)
+                .assignmentTimeMs(assignmentMs)
+                .parallelism(parallelism)
+                .throughputPerSecond(matchingNanos > 0 ? count / (matchingNanos / 1_000_000_000.0) : 0.0)
+                .latencyP50Ms(percentileMillis(sortedLatencies, 50))
+                .latencyP90Ms(percentileMillis(sortedLatencies, 90))
+                .latencyP99Ms(percentileMillis(sortedLatencies, 99))
+                .latencyMaxMs(count > 0 ? sortedLatencies[count - 1] / 1_000_000.0 : 0.0)
+                .saturatedCoordinators(saturated)
+                .capacitySaturationRate(poolSize > 0 ? (double) saturated / poolSize * 100 : 0.0)
+                .averageUtilization(totalCapacity > 0 ? (double) totalLoad / totalCapacity * 100 : 0.0)
+                .build();
+    }
+
+    /**
+     * nearest-rank 백분위 (밀리초)
+     */
+    private double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+
+    // ===== 가상 평가 생성 =====
+
+    /**
+     * 분포별 가상 평가와 매칭 조건 생성
+     * - RANDOM: 등급/ADL/언어/지역 균등 분포
+     * - REALISTIC: 장기요양 등급 분포(3~4등급 중심), 등급에 따른 ADL 중증도, 한국어 위주 언어, 코디네이터가 많은 지역에 수요 집중
+     * - STRESS_TEST: 1~2등급 중증, 주말/응급 필수, 높은 최소 만족도, 외국어, 가장 큰 지역 한 곳에 집중
+     */
+    private List<Scenario> generateScenarios(String simulationType, int count, Pool pool,
+                                             MatchingSimulationRequest request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean language = Boolean.TRUE.equals(request.getIncludeLanguageMatching());
+        boolean specialty = Boolean.TRUE.equals(request.getIncludeSpecialtyMatching());
+
+        List<Scenario> scenarios = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int grade;
+            int severity;
+            String languageCode;
+            String region;
+            boolean weekend;
+            boolean emergency;
+            double minSatisfaction = 3.0;
+
+            switch (simulationType) {
+                case "REALISTIC" -> {
+                    grade = pickWeighted(REALISTIC_GRADE_WEIGHTS, random) + 1;
+                    severity = -1;
+                    languageCode = LANGUAGES.get(pickWeighted(REALISTIC_LANGUAGE_WEIGHTS, random));
+                    region = pool.weightedRegion(random);
+                    weekend = random.nextDouble() < 0.3;
+                    emergency = random.nextDouble() < (grade <= 2 ? 0.4 : 0.1);
+                }
+                case "STRESS_TEST" -> {
+                    grade = random.nextInt(1, 3);
+                    severity = 3;
+                    languageCode = LANGUAGES.get(random.nextInt(1, LANGUAGES.size()));
+                    region = pool.largestRegion;
+                    weekend = true;
+                    emergency = true;
+                    minSatisfaction = 4.0;
+                }
+                default -> {
+                    grade = random.nextInt(1, CoordinatorEligibilityIndex.MAX_CARE_GRADE + 1);
+                    severity = 0;
+                    languageCode = LANGUAGES.get(random.nextInt(LANGUAGES.size()));
+                    region = pool.randomRegion(random);
+                    weekend = random.nextBoolean();
+                    emergency = random.nextDouble() < 0.2;
+                }
+            }
+
+            HealthAssessment assessment = HealthAssessment.builder()
+                    .memberId("SIM-" + i)
+                    .gender(random.nextBoolean() ? "M" : "F")
+                    .birthYear(random.nextInt(1930, 1961))
+                    .mobilityLevel(adlLevel(grade, severity, random))
+                    .eatingLevel(adlLevel(grade, severity, random))
+                    .toiletLevel(adlLevel(grade, severity, random))
+                    .communicationLevel(adlLevel(grade, severity, random))
+                    .ltciGrade(grade)
+                    .build();
+            assessment.calculateAdlScore();
+
+            MatchingPreference preference = MatchingPreference.builder()
+                    .preferredLanguage(language ? languageCode : null)
+                    .preferredRegion(region)
+                    .preferredSpecialty(specialty ? requiredSpecialty(assessment) : null)
+                    .needsWeekendAvailability(weekend)
+                    .needsEmergencyAvailability(emergency)
+                    .minCustomerSatisfaction(minSatisfaction)
+                    .maxResults(CANDIDATES_PER_ASSESSMENT)
+                    .build();
+
+            scenarios.add(new Scenario(assessment, preference));
+        }
+        return scenarios;
+    }
+
+    /**
+     * ADL 수준 (1: 자립 ~ 3: 완전 도움)
+     * severity 0은 균등, 양수는 고정 수준, 음수는 등급이 낮을수록(중증일수록) 높은 수준이 나오도록 샘플링
+     */
+    private int adlLevel(int grade, int severity, ThreadLocalRandom random) {
+        if (severity > 0) {
+            return severity;
+        }
+        if (severity == 0) {
+            return random.nextInt(1, 4);
+        }
+        double p = (CoordinatorEligibilityIndex.MAX_CARE_GRADE + 1 - grade) / (double) (CoordinatorEligibilityIndex.MAX_CARE_GRADE + 1);
+        return 1 + (random.nextDouble() < p ? 1 : 0) + (random.nextDouble() < p ? 1 : 0);
+    }
+
+    /**
+     * 평가에 필요한 전문 분야 (MatchingExplanationGenerator의 전문 분야 판단과 같은 기준)
+     */
+    private String requiredSpecialty(HealthAssessment assessment) {
+        if (assessment.getLtciGrade() == 6 || assessment.getCommunicationLevel() == 3) {
+            return "dementia";
+        }
+        if (assessment.getCareGradeLevel() <= 2) {
+            return "medical";
+        }
+        if (assessment.getMobilityLevel() >= 2) {
+            return "rehabilitation";
+        }
+        return null;
+    }
+
+    private int pickWeighted(double[] weights, ThreadLocalRandom random) {
+        double total = 0.0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble(total);
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * 활성 코디네이터의 남은 정원과 지역별 코디네이터 수
+     */
+    private Pool loadPool() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            Pool pool = new Pool();
+            for (CoordinatorCareSettings settings : careSettingsRepository.findByIsActiveTrueOrderByPerformanceScoreDesc()) {
+                int max = settings.getMaxSimultaneousCases() != null ? settings.getMaxSimultaneousCases() : 0;
+                pool.maxCases.put(settings.getCoordinatorId(), max);
+                pool.capacity.put(settings.getCoordinatorId(), Math.max(max - settings.getCurrentActiveCases(), 0));
+                if (settings.getWorkingRegions() != null) {
+                    settings.getWorkingRegions().forEach(region -> pool.regionCounts.merge(region, 1, Integer::sum));
+                }
+            }
+            pool.regions = new ArrayList<>(pool.regionCounts.keySet());
+            pool.largestRegion = pool.regionCounts.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            return pool;
+        });
+    }
+
+    private static class Pool {
+        private final Map<String, Integer> capacity = new HashMap<>();
+        private final Map<String, Integer> maxCases = new HashMap<>();
+        private final Map<String, Integer> regionCounts = new HashMap<>();
+        private List<String> regions = List.of();
+        private String largestRegion;
+
+        /**
+         * 시뮬레이션 중 받을 수 있는 건수 (풀 조회 이후 추가된 코디네이터는 매칭 결과 기준)
+         */
+        int capacityOf(CoordinatorMatch match) {
+            Integer remaining = capacity.get(match.getCoordinatorId());
+            if (remaining != null) {
+                return remaining;
+            }
+            return Math.max(match.getMaxSimultaneousCases() - match.getCurrentActiveCases(), 0);
+        }
+
+        String randomRegion(ThreadLocalRandom random) {
+            return regions.isEmpty() ? null : regions.get(random.nextInt(regions.size()));
+        }
+
+        String weightedRegion(ThreadLocalRandom random) {
+            if (regions.isEmpty()) {
+                return null;
+            }
+            int target = random.nextInt(regionCounts.values().stream().mapToInt(Integer::intValue).sum());
+            for (String region : regions) {
+                target -= regionCounts.get(region);
+                if (target < 0) {
+                    return region;
+                }
+            }
+            return regions.get(regions.size() - 1);
+        }
+    }
+
+    private static class Scenario {
+        private final HealthAssessment assessment;
+        private final MatchingPreference preference;
+
+        Scenario(HealthAssessment assessment, MatchingPreference preference) {
+            this.assessment = assessment;
+            this.preference = preference;
+        }
+    }
+}
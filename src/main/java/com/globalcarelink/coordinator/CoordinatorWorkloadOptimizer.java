@@ -1,13 +1,25 @@
 package com.globalcarelink.coordinator;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 코디네이터 업무량 최적화
+ * - 단건: 한 평가의 후보를 업무 여유에 따라 재정렬
+ * - 일괄: 여러 평가를 코디네이터 남은 정원(최대 동시 담당 건수 - 현재 담당 건수) 안에서 한 번에 배정
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -26,7 +38,7 @@ public class CoordinatorWorkloadOptimizer {
                     return CoordinatorMatch.builder()
                             .coordinatorId(match.getCoordinatorId())
                             .name(match.getName())
-                            .matchScore(Math.min(adjustedScore, 5.0))
+                            .matchScore(Math.min(adjustedScore, 100.0))
                             .matchReason(combinedReason)
                             .experienceYears(match.getExperienceYears())
                             .successfulCases(match.getSuccessfulCases())
@@ -46,6 +58,69 @@ public class CoordinatorWorkloadOptimizer {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 일괄 배정 (정원 제약 경매 알고리즘)
+     * 남은 정원 안에서 배정 건수를 최대로 하고, 그중 매칭 점수 합이 최대인 배정을 구함
+     * 후보 점수가 높은 코디네이터에 요청이 몰려도 정원을 넘기지 않고, 밀려난 평가는 다음 후보로 재입찰
+     *
+     * @param candidatesByAssessment 평가별 후보 (매칭 점수 0~100, 정원은 후보의 최대/현재 담당 건수 기준)
+     */
+    public <K> BatchAssignment<K> assignBatch(Map<K, List<CoordinatorMatch>> candidatesByAssessment) {
+        long startTime = System.nanoTime();
+
+        List<K> keys = new ArrayList<>(candidatesByAssessment.keySet());
+        Map<String, Integer> columnByCoordinator = new HashMap<>();
+        List<Integer> capacities = new ArrayList<>();
+        int edgeCount = 0;
+        for (List<CoordinatorMatch> candidates : candidatesByAssessment.values()) {
+            for (CoordinatorMatch match : candidates) {
+                columnByCoordinator.computeIfAbsent(match.getCoordinatorId(), id -> {
+                    capacities.add(remainingCapacity(match));
+                    return capacities.size() - 1;
+                });
+            }
+            edgeCount += candidates.size();
+        }
+
+        CapacitatedAssignment solver = new CapacitatedAssignment(keys.size(),
+                capacities.stream().mapToInt(Integer::intValue).toArray(), edgeCount);
+        CoordinatorMatch[] edgeMatch = new CoordinatorMatch[edgeCount];
+        int edge = 0;
+        for (int row = 0; row < keys.size(); row++) {
+            for (CoordinatorMatch match : candidatesByAssessment.get(keys.get(row))) {
+                double score = match.getMatchScore() != null ? match.getMatchScore() : 0.0;
+                solver.addEdge(row, columnByCoordinator.get(match.getCoordinatorId()), score);
+                edgeMatch[edge++] = match;
+            }
+        }
+        int[] assignedEdge = solver.solve();
+
+        Map<K, CoordinatorMatch> assignments = new LinkedHashMap<>();
+        List<K> unassigned = new ArrayList<>();
+        double totalScore = 0.0;
+        for (int row = 0; row < keys.size(); row++) {
+            if (assignedEdge[row] < 0) {
+                unassigned.add(keys.get(row));
+                continue;
+            }
+            CoordinatorMatch match = edgeMatch[assignedEdge[row]];
+            assignments.put(keys.get(row), match);
+            totalScore += match.getMatchScore() != null ? match.getMatchScore() : 0.0;
+        }
+
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        log.info("일괄 배정 완료 - 평가: {}건, 코디네이터: {}명, 후보: {}건, 배정: {}건, 미배정: {}건, 소요시간: {}ms",
+                keys.size(), capacities.size(), edgeCount, assignments.size(), unassigned.size(), elapsedMs);
+
+        return new BatchAssignment<>(assignments, unassigned, totalScore, elapsedMs);
+    }
+
+    private int remainingCapacity(CoordinatorMatch match) {
+        int max = match.getMaxSimultaneousCases() != null ? match.getMaxSimultaneousCases() : 0;
+        int active = match.getCurrentActiveCases() != null ? match.getCurrentActiveCases() : 0;
+        return Math.max(max - active, 0);
+    }
+
     private double calculateWorkloadScore(CoordinatorMatch match) {
         double workloadRatio = match.getWorkloadRatio();
         
@@ -65,4 +140,325 @@ public class CoordinatorWorkloadOptimizer {
             default -> "🌟 업무량: 매우 여유 (최우선 배정 가능)";
         };
     }
-} 
\ No newline at end of file
+
+    /**
+     * 일괄 배정 결과 (배정은 입력 순서 유지)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BatchAssignment<K> {
+        private final Map<K, CoordinatorMatch> assignments;
+        private final List<K> unassigned;
+        private final double totalScore;
+        private final long elapsedMs;
+    }
+
+    /**
+     * 평가(사람)와 코디네이터 정원 슬롯(물건)의 비대칭 배정 문제를 ε-스케일링 경매로 풂
+     * - 평가마다 전용 "미배정" 물건(가치 0)을 두어 모든 평가가 항상 무언가에 배정되는 문제로 바꿈
+     * - 가치 = 매칭 점수 + 배정 보너스 (보너스가 점수 합의 최대 차이보다 커서 배정 건수가 먼저 최대화됨)
+     * - 단계마다 정방향 경매로 모든 평가를 배정한 뒤, 역방향 경매로 주인 없는 물건의 가격을 λ(배정된 물건 최저가) 이하로 내림
+     *   (물건이 사람보다 많은 비대칭 문제의 최적성 조건)
+     * - 같은 코디네이터의 슬롯은 동일하므로 입찰 시 가장 싼 슬롯과 두 번째로 싼 슬롯만 봄
+     * 마지막 단계 ε = 1/(평가 수 + 1)이므로 점수 합은 최적해와 1점 미만 차이
+     */
+    static class CapacitatedAssignment {
+
+        private static final double MAX_SCORE = 100.0;
+        private static final double EPSILON_FACTOR = 5.0;
+
+        private final int rows;
+        private final int columns;
+        private final int[] slotStart;
+        private final int[] slotColumn;
+        private final int objects;
+
+        private final int[] edgeStart;
+        private final int[] edgeRow;
+        private final int[] edgeColumn;
+        private final double[] edgeValue;
+        private int edgeCount;
+        private int lastRow = -1;
+
+        private final double assignmentBonus;
+        private final double[] price;
+        private final int[] owner;
+        private final int[] ownerEdge;
+        private final int[] assignedObject;
+        private final double[] profit;
+
+        private final int[] cheapestSlot;
+        private final double[] secondPrice;
+
+        private int[] columnEdgeStart;
+        private int[] columnEdges;
+
+        CapacitatedAssignment(int rows, int[] capacity, int edges) {
+            this.rows = rows;
+            this.columns = capacity.length;
+            this.slotStart = new int[columns + 1];
+            for (int column = 0; column < columns; column++) {
+                slotStart[column + 1] = slotStart[column] + capacity[column];
+            }
+            int slots = slotStart[columns];
+            this.slotColumn = new int[slots];
+            for (int column = 0; column < columns; column++) {
+                Arrays.fill(slotColumn, slotStart[column], slotStart[column + 1], column);
+            }
+            // 물건 번호: 슬롯 0..slots-1, 평가 i의 미배정 물건 slots + i
+            this.objects = slots + rows;
+
+            this.edgeStart = new int[rows + 1];
+            this.edgeRow = new int[edges];
+            this.edgeColumn = new int[edges];
+            this.edgeValue = new double[edges];
+
+            this.assignmentBonus = MAX_SCORE * (rows + 1);
+            this.price = new double[objects];
+            this.owner = new int[objects];
+            this.ownerEdge = new int[objects];
+            this.assignedObject = new int[rows];
+            this.profit = new double[rows];
+            this.cheapestSlot = new int[columns];
+            this.secondPrice = new double[columns];
+            for (int column = 0; column < columns; column++) {
+                updateCheapest(column);
+            }
+        }
+
+        /**
+         * 간선 추가 (행 순서대로 호출)
+         */
+        void addEdge(int row, int column, double score) {
+            while (lastRow < row) {
+                edgeStart[++lastRow] = edgeCount;
+            }
+            edgeRow[edgeCount] = row;
+            edgeColumn[edgeCount] = column;
+            edgeValue[edgeCount] = Math.max(0.0, Math.min(score, MAX_SCORE)) + assignmentBonus;
+            edgeCount++;
+        }
+
+        /**
+         * 행별 배정 간선 번호 (미배정은 -1)
+         */
+        int[] solve() {
+            while (lastRow < rows) {
+                edgeStart[++lastRow] = edgeCount;
+            }
+            buildColumnEdges();
+
+            double finalEpsilon = 1.0 / (rows + 1);
+            double epsilon = (assignmentBonus + MAX_SCORE) / 4;
+            while (true) {
+                epsilon = Math.max(epsilon, finalEpsilon);
+                runPhase(epsilon);
+                if (epsilon == finalEpsilon) {
+                    break;
+                }
+                epsilon /= EPSILON_FACTOR;
+            }
+
+            int[] assignedEdge = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                int object = assignedObject[row];
+                assignedEdge[row] = object < slotStart[columns] ? ownerEdge[object] : -1;
+            }
+            return assignedEdge;
+        }
+
+        /**
+         * 물건 가격 변경 (슬롯이면 코디네이터별 최저가/차저가 갱신)
+         */
+        private void setPrice(int object, double value) {
+            price[object] = value;
+            if (object < slotStart[columns]) {
+                updateCheapest(slotColumn[object]);
+            }
+        }
+
+        private void updateCheapest(int column) {
+            int cheapest = -1;
+            double cheapestPrice = Double.POSITIVE_INFINITY;
+            double nextPrice = Double.POSITIVE_INFINITY;
+            for (int slot = slotStart[column]; slot < slotStart[column + 1]; slot++) {
+                if (price[slot] < cheapestPrice) {
+                    nextPrice = cheapestPrice;
+                    cheapestPrice = price[slot];
+                    cheapest = slot;
+                } else if (price[slot] < nextPrice) {
+                    nextPrice = price[slot];
+                }
+            }
+            cheapestSlot[column] = cheapest;
+            secondPrice[column] = nextPrice;
+        }
+
+        private void buildColumnEdges() {
+            columnEdgeStart = new int[columns + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                columnEdgeStart[edgeColumn[e] + 1]++;
+            }
+            for (int column = 0; column < columns; column++) {
+                columnEdgeStart[column + 1] += columnEdgeStart[column];
+            }
+            columnEdges = new int[edgeCount];
+            int[] next = Arrays.copyOf(columnEdgeStart, columns);
+            for (int e = 0; e < edgeCount; e++) {
+                columnEdges[next[edgeColumn[e]]++] = e;
+            }
+        }
+
+        /**
+         * 한 ε 단계: 배정을 비우고(가격 유지) 정방향 경매 후 역방향 경매
+         */
+        private void runPhase(double epsilon) {
+            Arrays.fill(owner, -1);
+            Arrays.fill(assignedObject, -1);
+
+            IntQueue unassignedRows = new IntQueue(rows);
+            for (int row = 0; row < rows; row++) {
+                unassignedRows.add(row);
+            }
+            while (!unassignedRows.isEmpty()) {
+                int displaced = bid(unassignedRows.poll(), epsilon);
+                if (displaced >= 0) {
+                    unassignedRows.add(displaced);
+                }
+            }
+
+            double lambda = Double.MAX_VALUE;
+            for (int row = 0; row < rows; row++) {
+                lambda = Math.min(lambda, price[assignedObject[row]]);
+            }
+            IntQueue overpriced = new IntQueue(objects);
+            for (int object = 0; object < objects; object++) {
+                if (owner[object] < 0 && price[object] > lambda) {
+                    overpriced.add(object);
+                }
+            }
+            while (!overpriced.isEmpty()) {
+                int released = reverseBid(overpriced.poll(), lambda, epsilon);
+                if (released >= 0 && price[released] > lambda) {
+                    overpriced.add(released);
+                }
+            }
+        }
+
+        /**
+         * 정방향 입찰: 가치 - 가격이 가장 큰 물건을 (최선 - 차선 + ε)만큼 올려 차지 (밀려난 행 반환)
+         */
+        private int bid(int row, double epsilon) {
+            int dummy = slotStart[columns] + row;
+            double best = -price[dummy];
+            int bestObject = dummy;
+            int bestEdge = -1;
+            double second = Double.NEGATIVE_INFINITY;
+
+            for (int e = edgeStart[row]; e < edgeStart[row + 1]; e++) {
+                int column = edgeColumn[e];
+                int cheapest = cheapestSlot[column];
+                if (cheapest < 0) {
+                    continue;
+                }
+                double value = edgeValue[e] - price[cheapest];
+                double nextValue = edgeValue[e] - secondPrice[column];
+                if (value > best) {
+                    second = Math.max(best, nextValue);
+                    best = value;
+                    bestObject = cheapest;
+                    bestEdge = e;
+                } else {
+                    second = Math.max(second, value);
+                }
+            }
+
+            double increment = second == Double.NEGATIVE_INFINITY ? epsilon : best - second + epsilon;
+            setPrice(bestObject, price[bestObject] + increment);
+            profit[row] = best - increment;
+
+            int displaced = owner[bestObject];
+            if (displaced >= 0) {
+                assignedObject[displaced] = -1;
+            }
+            owner[bestObject] = row;
+            ownerEdge[bestObject] = bestEdge;
+            assignedObject[row] = bestObject;
+            return displaced;
+        }
+
+        /**
+         * 역방향 입찰: 주인 없는 물건이 (가치 - 이익)이 가장 큰 행을 데려오며 가격을 λ 쪽으로 내림 (비게 된 물건 반환)
+         */
+        private int reverseBid(int object, double lambda, double epsilon) {
+            int bestRow = -1;
+            int bestEdge = -1;
+            double best = Double.NEGATIVE_INFINITY;
+            double second = Double.NEGATIVE_INFINITY;
+
+            if (object >= slotStart[columns]) {
+                int row = object - slotStart[columns];
+                best = -profit[row];
+                bestRow = row;
+            } else {
+                int column = slotColumn[object];
+                for (int i = columnEdgeStart[column]; i < columnEdgeStart[column + 1]; i++) {
+                    int e = columnEdges[i];
+                    double value = edgeValue[e] - profit[edgeRow[e]];
+                    if (value > best) {
+                        second = best;
+                        best = value;
+                        bestRow = edgeRow[e];
+                        bestEdge = e;
+                    } else if (value > second) {
+                        second = value;
+                    }
+                }
+            }
+
+            if (bestRow < 0 || best <= lambda + epsilon) {
+                setPrice(object, lambda);
+                return -1;
+            }
+
+            setPrice(object, Math.max(lambda, second - epsilon));
+            profit[bestRow] = (object >= slotStart[columns] ? 0.0 : edgeValue[bestEdge]) - price[object];
+
+            int released = assignedObject[bestRow];
+            owner[released] = -1;
+            owner[object] = bestRow;
+            ownerEdge[object] = bestEdge;
+            assignedObject[bestRow] = object;
+            return released;
+        }
+    }
+
+    /**
+     * int 원형 큐 (용량 고정)
+     */
+    static class IntQueue {
+
+        private final int[] items;
+        private int head;
+        private int size;
+
+        IntQueue(int capacity) {
+            this.items = new int[Math.max(capacity, 1)];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int item) {
+            items[(head + size++) % items.length] = item;
+        }
+
+        int poll() {
+            int item = items[head];
+            head = (head + 1) % items.length;
+            size--;
+            return item;
+        }
+    }
+}
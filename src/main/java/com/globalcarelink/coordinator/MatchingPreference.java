@@ -10,6 +10,7 @@ public class MatchingPreference {
     
     private String preferredLanguage;
     private String preferredRegion;
+    private String preferredSpecialty;
     private Boolean needsWeekendAvailability;
     private Boolean needsEmergencyAvailability;
     private Double minCustomerSatisfaction;
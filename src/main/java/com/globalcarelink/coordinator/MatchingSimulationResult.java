@@ -3,6 +3,7 @@ package com.globalcarelink.coordinator;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 @Builder
 public class MatchingSimulationResult {
     
+    private String simulationType;
     private Integer totalHealthAssessments;
     private Integer totalCoordinators;
     private Integer successfulMatches;
@@ -18,6 +20,34 @@ public class MatchingSimulationResult {
     private Double matchingSuccessRate;
     private Long executionTimeMs;
     
+    // 실패 원인별 건수 (후보 없음 / 후보 전원 정원 초과 / 매칭 오류)
+    private Integer noCandidateCount;
+    private Integer capacityRejectedCount;
+    private Integer errorCount;
+    
+    // 업무량 최적화를 끈 경우 정원을 넘겨 배정된 건수
+    private Integer overCapacityAssignments;
+    
+    private Double averageCandidates;
+    private Double minMatchingScore;
+    private Double maxMatchingScore;
+    
+    // 배정 점수 10점 구간별 건수 ("0-10" ~ "90-100")
+    private Map<String, Long> scoreDistribution;
+    
+    private Integer parallelism;
+    private Long assignmentTimeMs;
+    private Double throughputPerSecond;
+    private Double latencyP50Ms;
+    private Double latencyP90Ms;
+    private Double latencyP99Ms;
+    private Double latencyMaxMs;
+    
+    // 시뮬레이션 후 정원이 찬 코디네이터 수와 비율(%), 전체 정원 대비 담당 건수 비율(%)
+    private Integer saturatedCoordinators;
+    private Double capacitySaturationRate;
+    private Double averageUtilization;
+    
     @Builder.Default
     private LocalDateTime simulationTime = LocalDateTime.now();
     
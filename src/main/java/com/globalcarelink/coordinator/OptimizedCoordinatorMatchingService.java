@@ -7,10 +7,15 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -18,17 +23,19 @@ import java.util.stream.Collectors;
  * 최적화된 코디네이터 매칭 서비스
  * JPA N+1 문제 해결 및 성능 최적화 적용
  * @EntityGraph 활용으로 언어 스킬 정보 한 번에 조회
+ * 적격 코디네이터 조회와 점수 계산은 인메모리 적격성 인덱스(CoordinatorEligibilityIndex) 사용
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class OptimizedCoordinatorMatchingService {
 
     private final CoordinatorCareSettingsRepository careSettingsRepository;
     private final CoordinatorLanguageSkillRepository languageSkillRepository;
     private final CoordinatorWorkloadOptimizer workloadOptimizer;
     private final MatchingExplanationGenerator explanationGenerator;
+    private final CoordinatorEligibilityIndex eligibilityIndex;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 최적화된 코디네이터 매칭
@@ -36,41 +43,70 @@ public class OptimizedCoordinatorMatchingService {
      * 복합 조건 쿼리로 성능 최적화
      */
     @Cacheable(value = "coordinator-matches",
-               key = "#assessment.id + '_' + #preference.preferredLanguage + '_' + #preference.preferredRegion + '_' + #preference.maxResults",
+               key = "#assessment.id + '_' + #preference.preferredLanguage + '_' + #preference.preferredRegion + '_' + #preference.preferredSpecialty + '_' + #preference.maxResults",
                condition = "#preference.maxResults <= 50")
     public List<CoordinatorMatch> findOptimalMatches(HealthAssessment assessment, MatchingPreference preference) {
-        log.info("최적화된 코디네이터 매칭 시작 - 평가: {}, 케어등급: {}", 
+        return computeOptimalMatches(assessment, preference);
+    }
+
+    /**
+     * 캐시를 거치지 않는 매칭 (저장되지 않은 평가를 쓰는 시뮬레이션 등)
+     * 인덱스 경로는 DB를 조회하지 않으므로 트랜잭션(커넥션) 없이 실행하고, 인덱스 구성 전 DB 경로만 읽기 전용 트랜잭션 사용
+     */
+    public List<CoordinatorMatch> computeOptimalMatches(HealthAssessment assessment, MatchingPreference preference) {
+        log.debug("최적화된 코디네이터 매칭 시작 - 평가: {}, 케어등급: {}", 
                 assessment.getId(), assessment.getLtciGrade());
 
-        // 1. 복합 조건 쿼리로 기본 필터링 (N+1 문제 해결)
-        List<CoordinatorCareSettings> eligibleCoordinators = findEligibleCoordinatorsOptimized(assessment, preference);
-        
-        if (eligibleCoordinators.isEmpty()) {
+        if (!eligibilityIndex.isReady()) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            return template.execute(status -> findOptimalMatchesFromDatabase(assessment, preference));
+        }
+
+        return findOptimalMatchesFromIndex(assessment, preference);
+    }
+
+    /**
+     * 적격성 인덱스만으로 매칭 (DB를 조회하지 않으므로 트랜잭션 없이 실행 - 일괄 매칭 작업 스레드용)
+     * 인덱스 구성 여부는 호출자가 확인
+     */
+    public List<CoordinatorMatch> findOptimalMatchesFromIndex(HealthAssessment assessment, MatchingPreference preference) {
+        // 1. 적격성 인덱스 비트셋 교집합으로 케어 등급/지역/언어/주말/응급 조건 필터링 후 점수 상위 maxResults명 선택
+        List<CoordinatorEligibilityIndex.ScoredCoordinator> topCoordinators =
+            eligibilityIndex.findTop(toCriteria(assessment, preference), preference.getMaxResults());
+
+        if (topCoordinators.isEmpty()) {
             log.warn("매칭 조건에 부합하는 코디네이터가 없습니다 - 평가: {}", assessment.getId());
             return List.of();
         }
 
-        // 2. 언어 필터링 (이미 @EntityGraph로 언어 스킬 정보 로드됨)
-        List<CoordinatorCareSettings> languageFilteredCoordinators = 
-            filterByLanguageOptimized(eligibleCoordinators, preference.getPreferredLanguage());
+        // 2. 선택된 코디네이터만 매칭 결과(설명 포함) 생성
+        List<CoordinatorMatch> matches = toMatches(topCoordinators, assessment);
 
-        // 3. 매칭 점수 계산 및 정렬
-        List<CoordinatorMatch> matches = languageFilteredCoordinators.stream()
-                .map(coordinator -> createOptimizedCoordinatorMatch(coordinator, assessment, preference))
-                .sorted((m1, m2) -> Double.compare(m2.getMatchScore(), m1.getMatchScore()))
-                .limit(preference.getMaxResults())
-                .collect(Collectors.toList());
-
-        log.info("최적화된 매칭 완료 - 평가: {}, 매칭된 코디네이터: {}명", 
+        log.debug("최적화된 매칭 완료 - 평가: {}, 매칭된 코디네이터: {}명", 
                 assessment.getId(), matches.size());
 
         return matches;
     }
 
+    /**
+     * 대기 중인 평가 일괄 배정
+     * 평가마다 후보를 구한 뒤 코디네이터 남은 정원 안에서 전체 점수 합이 최대가 되도록 한 번에 배정
+     * (동시에 들어온 요청이 상위 코디네이터에 몰려 정원을 넘기는 것을 방지)
+     */
+    public CoordinatorWorkloadOptimizer.BatchAssignment<Long> assignBatch(List<HealthAssessment> assessments,
+                                                                          MatchingPreference preference) {
+        Map<Long, List<CoordinatorMatch>> candidates = new LinkedHashMap<>();
+        for (HealthAssessment assessment : assessments) {
+            candidates.put(assessment.getId(), computeOptimalMatches(assessment, preference));
+        }
+        return workloadOptimizer.assignBatch(candidates);
+    }
+
     /**
      * 비동기 매칭 (성능 최적화)
      */
-    @Async("matchingTaskExecutor")
+    @Async("matchingExecutor")
     public CompletableFuture<List<CoordinatorMatch>> findOptimalMatchesAsync(
             HealthAssessment assessment, MatchingPreference preference) {
         
@@ -86,6 +122,7 @@ public class OptimizedCoordinatorMatchingService {
     /**
      * 특정 언어와 지역 조합 매칭 (최적화된 조인 쿼리 사용)
      */
+    @Transactional(readOnly = true)
     public List<CoordinatorMatch> findByLanguageAndRegion(String languageCode, String region, 
                                                          HealthAssessment assessment) {
         log.debug("언어-지역 매칭 - 언어: {}, 지역: {}", languageCode, region);
@@ -117,6 +154,7 @@ public class OptimizedCoordinatorMatchingService {
     /**
      * 고성능 코디네이터 조회 (인덱스 최적화된 쿼리)
      */
+    @Transactional(readOnly = true)
     public List<CoordinatorMatch> findTopPerformers(Double minSatisfaction, Integer maxResults, 
                                                    HealthAssessment assessment) {
         log.debug("고성능 코디네이터 조회 - 최소만족도: {}, 최대결과: {}", minSatisfaction, maxResults);
@@ -135,9 +173,10 @@ public class OptimizedCoordinatorMatchingService {
     }
 
     /**
-     * 매칭 통계 조회 (성능 최적화)
+     * 매칭 통계 조회 (성능 최적화, 동시 요청은 한 번만 계산)
      */
-    @Cacheable(value = "matching-statistics", key = "'coordinator_matching_stats'")
+    @Cacheable(value = "matching-statistics", key = "'coordinator_matching_stats'", sync = true)
+    @Transactional(readOnly = true)
     public CoordinatorMatchingStatistics getMatchingStatistics() {
         log.debug("매칭 통계 조회");
 
@@ -186,6 +225,56 @@ public class OptimizedCoordinatorMatchingService {
 
     // ===== 내부 최적화 메서드들 =====
 
+    /**
+     * 매칭 조건을 인덱스 조회 조건으로 변환 (등급이 없으면 4등급 기준, DB 조회 경로와 동일)
+     */
+    CoordinatorEligibilityIndex.Criteria toCriteria(HealthAssessment assessment, MatchingPreference preference) {
+        return CoordinatorEligibilityIndex.Criteria.builder()
+                .careGrade(assessment.getLtciGrade() != null ? assessment.getLtciGrade() : 4)
+                .careGradeKnown(assessment.getLtciGrade() != null)
+                .minSatisfaction(preference.getMinCustomerSatisfaction())
+                .region(preference.getPreferredRegion())
+                .languageCode(preference.getPreferredLanguage())
+                .specialty(preference.getPreferredSpecialty())
+                .needsWeekend(Boolean.TRUE.equals(preference.getNeedsWeekendAvailability()))
+                .needsEmergency(Boolean.TRUE.equals(preference.getNeedsEmergencyAvailability()))
+                .build();
+    }
+
+    /**
+     * 인덱스 구성 전(애플리케이션 시작 직후) 매칭 - 복합 조건 쿼리 후 언어 필터링
+     */
+    private List<CoordinatorMatch> findOptimalMatchesFromDatabase(HealthAssessment assessment, MatchingPreference preference) {
+        List<CoordinatorCareSettings> eligibleCoordinators = findEligibleCoordinatorsOptimized(assessment, preference);
+        List<CoordinatorCareSettings> languageFilteredCoordinators =
+            filterByLanguageOptimized(eligibleCoordinators, preference.getPreferredLanguage());
+
+        List<CoordinatorEligibilityIndex.ScoredCoordinator> topCoordinators = languageFilteredCoordinators.stream()
+                .filter(coordinator -> preference.getPreferredSpecialty() == null
+                        || coordinator.hasSpecialty(preference.getPreferredSpecialty()))
+                .map(coordinator -> new CoordinatorEligibilityIndex.ScoredCoordinator(coordinator,
+                        List.copyOf(coordinator.getLanguageSkills()),
+                        calculateComprehensiveMatchScore(coordinator, assessment, preference)))
+                .sorted(CoordinatorEligibilityIndex.RANKING)
+                .limit(preference.getMaxResults())
+                .collect(Collectors.toList());
+
+        return toMatches(topCoordinators, assessment);
+    }
+
+    /**
+     * 점수 순으로 선택된 코디네이터의 매칭 결과 생성 (설명 문구와 언어 스킬 복사는 결과에 포함되는 코디네이터만)
+     */
+    private List<CoordinatorMatch> toMatches(List<CoordinatorEligibilityIndex.ScoredCoordinator> topCoordinators,
+                                             HealthAssessment assessment) {
+        List<CoordinatorMatch> matches = new ArrayList<>(topCoordinators.size());
+        for (CoordinatorEligibilityIndex.ScoredCoordinator candidate : topCoordinators) {
+            matches.add(createOptimizedCoordinatorMatch(candidate.getSettings(), candidate.getLanguageSkills(),
+                    assessment, candidate.getScore()));
+        }
+        return matches;
+    }
+
     /**
      * 복합 조건으로 적합한 코디네이터 조회 (N+1 문제 해결)
      */
@@ -233,10 +322,20 @@ public class OptimizedCoordinatorMatchingService {
             CoordinatorCareSettings coordinator, HealthAssessment assessment, MatchingPreference preference) {
 
         double matchScore = calculateComprehensiveMatchScore(coordinator, assessment, preference);
-        String matchReason = explanationGenerator.generateMatchReason(coordinator, assessment, matchScore);
 
         // 이미 @EntityGraph로 로드된 언어 스킬 정보 사용 (추가 쿼리 없음)
-        List<CoordinatorLanguageSkill> languageSkills = new ArrayList<>(coordinator.getLanguageSkills());
+        return createOptimizedCoordinatorMatch(coordinator, coordinator.getLanguageSkills(), assessment, matchScore);
+    }
+
+    /**
+     * 계산된 점수로 코디네이터 매치 객체 생성
+     */
+    private CoordinatorMatch createOptimizedCoordinatorMatch(
+            CoordinatorCareSettings coordinator, Collection<CoordinatorLanguageSkill> coordinatorLanguageSkills,
+            HealthAssessment assessment, double matchScore) {
+
+        String matchReason = explanationGenerator.generateMatchReason(coordinator, assessment, matchScore);
+        List<CoordinatorLanguageSkill> languageSkills = new ArrayList<>(coordinatorLanguageSkills);
 
         return CoordinatorMatch.builder()
                 .coordinatorId(coordinator.getCoordinatorId())
@@ -263,40 +362,23 @@ public class OptimizedCoordinatorMatchingService {
     private double calculateComprehensiveMatchScore(
             CoordinatorCareSettings coordinator, HealthAssessment assessment, MatchingPreference preference) {
         
-        double baseScore = 0.0;
-        
-        // 1. 케어 등급 적합성 (30%)
-        if (assessment.getLtciGrade() != null) {
-            if (coordinator.getBaseCareLevel() <= assessment.getLtciGrade() && 
-                coordinator.getMaxCareLevel() >= assessment.getLtciGrade()) {
-                baseScore += 30.0;
-            }
-        } else {
-            baseScore += 15.0; // 등급 정보 없을 때 기본 점수
-        }
-        
-        // 2. 고객 만족도 (25%)
-        baseScore += (coordinator.getCustomerSatisfaction() / 5.0) * 25.0;
-        
-        // 3. 경력 (20%)
-        baseScore += Math.min(coordinator.getExperienceYears() / 10.0, 1.0) * 20.0;
-        
-        // 4. 워크로드 (15%)
-        double workloadRatio = (double) coordinator.getCurrentActiveCases() / coordinator.getMaxSimultaneousCases();
-        baseScore += (1.0 - workloadRatio) * 15.0;
-        
-        // 5. 언어 매칭 (10%)
-        if (preference.getPreferredLanguage() != null) {
-            boolean hasLanguage = coordinator.getLanguageSkills().stream()
+        // 케어 등급 30%, 고객 만족도 25%, 경력 20%, 워크로드 15%, 언어 10% (인덱스 점수와 같은 산식)
+        boolean careGradeFits = assessment.getLtciGrade() != null
+                && coordinator.getBaseCareLevel() <= assessment.getLtciGrade()
+                && coordinator.getMaxCareLevel() >= assessment.getLtciGrade();
+        boolean hasLanguage = preference.getPreferredLanguage() != null
+                && coordinator.getLanguageSkills().stream()
                     .anyMatch(skill -> skill.getLanguageCode().equals(preference.getPreferredLanguage()));
-            if (hasLanguage) {
-                baseScore += 10.0;
-            }
-        } else {
-            baseScore += 5.0; // 언어 선호도 없을 때 기본 점수
-        }
-        
-        return Math.min(baseScore, 100.0);
+
+        return CoordinatorEligibilityIndex.matchScore(
+            assessment.getLtciGrade() != null,
+            careGradeFits,
+            coordinator.getCustomerSatisfaction(),
+            coordinator.getExperienceYears(),
+            coordinator.getCurrentActiveCases(),
+            coordinator.getMaxSimultaneousCases(),
+            preference.getPreferredLanguage() != null,
+            hasLanguage);
     }
 
     // ===== 통계 계산 헬퍼 메서드들 =====
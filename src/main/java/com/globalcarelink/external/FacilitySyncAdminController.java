@@ -0,0 +1,69 @@
+package com.globalcarelink.external;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 시설 동기화 관리 API 컨트롤러
+ * - 동기화 진행 현황 및 예상 완료 시각 조회
+ * - 중단된 동기화 재개 / 동기화 시작
+ */
+@Tag(name = "시설 동기화 관리 API", description = "공공데이터 시설 동기화 진행 현황 및 재개")
+@RestController
+@RequestMapping("/api/admin/facility-sync")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class FacilitySyncAdminController {
+
+    private final FacilitySyncService facilitySyncService;
+    private final FacilitySyncProgressService facilitySyncProgressService;
+
+    @Operation(
+        summary = "최근 동기화 진행 현황",
+        description = "가장 최근 동기화 작업의 지역별 진행률, 처리 속도, 예상 완료 시각을 조회합니다"
+    )
+    @GetMapping("/progress")
+    public ResponseEntity<FacilitySyncProgressService.SyncProgress> getLatestProgress() {
+        return ResponseEntity.ok(facilitySyncProgressService.getLatestProgress());
+    }
+
+    @Operation(
+        summary = "동기화 작업 진행 현황",
+        description = "특정 동기화 작업의 지역별 진행률, 처리 속도, 예상 완료 시각을 조회합니다"
+    )
+    @GetMapping("/jobs/{jobId}/progress")
+    public ResponseEntity<FacilitySyncProgressService.SyncProgress> getProgress(
+            @Parameter(description = "동기화 작업 ID") @PathVariable String jobId) {
+        return ResponseEntity.ok(facilitySyncProgressService.getProgress(jobId));
+    }
+
+    @Operation(
+        summary = "중단된 동기화 재개",
+        description = "완료되지 않은 전국 동기화 작업을 마지막 완료 페이지 다음부터 재개합니다"
+    )
+    @PostMapping("/resume")
+    public ResponseEntity<Void> resume() {
+        facilitySyncService.resumeUnfinishedSync();
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(
+        summary = "동기화 시작",
+        description = "지역을 지정하면 해당 지역만, 지정하지 않으면 전국 동기화를 시작합니다 (미완료 전국 작업이 있으면 재개)"
+    )
+    @PostMapping("/start")
+    public ResponseEntity<Void> start(
+            @Parameter(description = "동기화 지역 (예: 서울특별시)") @RequestParam(required = false) String region) {
+        if (region != null && !region.isBlank()) {
+            facilitySyncService.syncFacilitiesByRegion(region);
+        } else {
+            facilitySyncService.syncAllRegions();
+        }
+        return ResponseEntity.accepted().build();
+    }
+}
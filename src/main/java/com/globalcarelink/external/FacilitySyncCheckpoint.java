@@ -0,0 +1,159 @@
+package com.globalcarelink.external;
+
+import com.globalcarelink.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시설 동기화 체크포인트 엔티티
+ * 동기화 작업(jobId)의 지역별 진행 상태를 페이지 단위로 기록하여 중단 시 마지막 완료 페이지 다음부터 재개
+ */
+@Entity
+@Table(name = "facility_sync_checkpoints",
+       uniqueConstraints = @UniqueConstraint(name = "uk_sync_checkpoint_job_region", columnNames = {"job_id", "region"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class FacilitySyncCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 동기화 작업 ID (한 번의 전국/지역 동기화 실행 단위)
+     */
+    @Column(name = "job_id", nullable = false, length = 64)
+    private String jobId;
+
+    /**
+     * 동기화 지역 (시/도)
+     */
+    @Column(name = "region", nullable = false, length = 20)
+    private String region;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SyncStatus status = SyncStatus.PENDING;
+
+    /**
+     * 마지막으로 저장까지 완료된 검색 결과 페이지 (0이면 시작 전)
+     */
+    @Column(name = "last_completed_page", nullable = false)
+    private int lastCompletedPage = 0;
+
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "total_count")
+    private Integer totalCount;
+
+    /**
+     * 처리 완료 시설 수 (저장 + 변경 없음 + 오류)
+     */
+    @Column(name = "handled_count", nullable = false)
+    private int handledCount = 0;
+
+    @Column(name = "error_count", nullable = false)
+    private int errorCount = 0;
+
+    /**
+     * 지역 동기화 실패 횟수 (재개 시도 상한 판단용)
+     */
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount = 0;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 마지막 (재)시작 시각과 그 시점의 처리 수 - 처리 속도 및 ETA 계산용
+     */
+    @Column(name = "resumed_at")
+    private LocalDateTime resumedAt;
+
+    @Column(name = "handled_at_resume", nullable = false)
+    private int handledAtResume = 0;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    public static FacilitySyncCheckpoint create(String jobId, String region) {
+        FacilitySyncCheckpoint checkpoint = new FacilitySyncCheckpoint();
+        checkpoint.setJobId(jobId);
+        checkpoint.setRegion(region);
+        return checkpoint;
+    }
+
+    /**
+     * 지역 동기화 (재)시작 기록
+     */
+    public void markRunning() {
+        LocalDateTime now = LocalDateTime.now();
+        if (startedAt == null) {
+            startedAt = now;
+        }
+        resumedAt = now;
+        handledAtResume = handledCount;
+        status = SyncStatus.RUNNING;
+        errorMessage = null;
+    }
+
+    /**
+     * 페이지 완료 기록
+     */
+    public void markPageCompleted(int page, Integer totalPages, Integer totalCount, int handled, int errors) {
+        this.lastCompletedPage = page;
+        this.totalPages = totalPages;
+        this.totalCount = totalCount;
+        this.handledCount += handled;
+        this.errorCount += errors;
+    }
+
+    public void markCompleted() {
+        status = SyncStatus.COMPLETED;
+        completedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String message) {
+        status = SyncStatus.FAILED;
+        failureCount++;
+        errorMessage = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * 재개하지 않고 포기 (실패 횟수 상한 초과 또는 작업 만료 - 다음 실행은 새 작업으로 시작)
+     */
+    public void markAbandoned() {
+        status = SyncStatus.ABANDONED;
+    }
+
+    public boolean isCompleted() {
+        return status == SyncStatus.COMPLETED;
+    }
+
+    /**
+     * 재개 대상 여부 (완료/포기되지 않았고 실패 횟수가 상한 미만)
+     */
+    public boolean isResumable(int maxAttempts) {
+        return status != SyncStatus.COMPLETED && status != SyncStatus.ABANDONED && failureCount < maxAttempts;
+    }
+
+    /**
+     * 동기화 상태
+     */
+    public enum SyncStatus {
+        PENDING,    // 대기
+        RUNNING,    // 진행 중 (재시작 후 남아 있으면 중단된 것으로 간주)
+        COMPLETED,  // 완료
+        FAILED,     // 실패 (실패 횟수 상한 전까지 재개 대상)
+        ABANDONED   // 포기 (재개하지 않음)
+    }
+}
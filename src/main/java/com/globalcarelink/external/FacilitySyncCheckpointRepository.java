@@ -0,0 +1,39 @@
+package com.globalcarelink.external;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 시설 동기화 체크포인트 레포지토리
+ */
+@Repository
+public interface FacilitySyncCheckpointRepository extends JpaRepository<FacilitySyncCheckpoint, Long> {
+
+    /**
+     * 작업의 지역별 체크포인트 조회 (생성 순)
+     */
+    List<FacilitySyncCheckpoint> findByJobIdOrderByIdAsc(String jobId);
+
+    /**
+     * 가장 최근에 생성된 체크포인트 (최근 작업 ID 확인용)
+     */
+    Optional<FacilitySyncCheckpoint> findTopByOrderByIdDesc();
+
+    /**
+     * 완료되지 않은 체크포인트가 남아 있는 가장 최근 작업 ID (작업 ID 접두어로 작업 종류 구분)
+     */
+    @Query("""
+        SELECT c.jobId FROM FacilitySyncCheckpoint c
+        WHERE c.jobId LIKE CONCAT(:jobIdPrefix, '%')
+        AND c.status NOT IN (com.globalcarelink.external.FacilitySyncCheckpoint.SyncStatus.COMPLETED,
+                             com.globalcarelink.external.FacilitySyncCheckpoint.SyncStatus.ABANDONED)
+        ORDER BY c.id DESC
+        LIMIT 1
+        """)
+    Optional<String> findLatestUnfinishedJobId(@Param("jobIdPrefix") String jobIdPrefix);
+}
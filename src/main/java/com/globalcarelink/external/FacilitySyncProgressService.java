@@ -0,0 +1,202 @@
+package com.globalcarelink.external;
+
+import com.globalcarelink.common.exception.CustomException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 시설 동기화 진행 현황 서비스
+ * 체크포인트를 기반으로 작업/지역별 진행률, 처리 속도, 예상 완료 시각(ETA) 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class FacilitySyncProgressService {
+
+    private final FacilitySyncCheckpointRepository checkpointRepository;
+
+    /**
+     * 가장 최근 동기화 작업의 진행 현황
+     */
+    public SyncProgress getLatestProgress() {
+        String jobId = checkpointRepository.findTopByOrderByIdDesc()
+                .map(FacilitySyncCheckpoint::getJobId)
+                .orElseThrow(() -> new CustomException.NotFound("동기화 작업 이력이 없습니다"));
+        return getProgress(jobId);
+    }
+
+    /**
+     * 특정 동기화 작업의 진행 현황
+     */
+    public SyncProgress getProgress(String jobId) {
+        List<FacilitySyncCheckpoint> checkpoints = checkpointRepository.findByJobIdOrderByIdAsc(jobId);
+        if (checkpoints.isEmpty()) {
+            throw new CustomException.NotFound("동기화 작업을 찾을 수 없습니다: " + jobId);
+        }
+
+        List<RegionProgress> regions = checkpoints.stream()
+                .map(this::toRegionProgress)
+                .collect(Collectors.toList());
+
+        int completedRegions = (int) checkpoints.stream().filter(FacilitySyncCheckpoint::isCompleted).count();
+        int failedRegions = (int) checkpoints.stream()
+                .filter(c -> c.getStatus() == FacilitySyncCheckpoint.SyncStatus.FAILED
+                        || c.getStatus() == FacilitySyncCheckpoint.SyncStatus.ABANDONED)
+                .count();
+        boolean running = checkpoints.stream()
+                .anyMatch(c -> c.getStatus() == FacilitySyncCheckpoint.SyncStatus.RUNNING);
+
+        // 전체 건수를 모르는 지역은 건수가 확인된 지역의 평균으로 추정
+        double averageRegionSize = checkpoints.stream()
+                .filter(c -> c.getTotalCount() != null)
+                .mapToInt(FacilitySyncCheckpoint::getTotalCount)
+                .average()
+                .orElse(0.0);
+
+        long handledCount = 0;
+        long estimatedTotal = 0;
+        long remaining = 0;
+        for (FacilitySyncCheckpoint checkpoint : checkpoints) {
+            long regionTotal = checkpoint.getTotalCount() != null
+                    ? checkpoint.getTotalCount()
+                    : Math.round(averageRegionSize);
+            handledCount += checkpoint.getHandledCount();
+            estimatedTotal += Math.max(regionTotal, checkpoint.getHandledCount());
+            if (!checkpoint.isCompleted()) {
+                remaining += Math.max(0, regionTotal - checkpoint.getHandledCount());
+            }
+        }
+
+        double throughput = calculateThroughput(checkpoints);
+        Long remainingSeconds = throughput > 0 ? (long) Math.ceil(remaining / throughput) : null;
+
+        String status;
+        if (running) {
+            status = "RUNNING";
+        } else if (completedRegions == checkpoints.size()) {
+            status = "COMPLETED";
+        } else if (failedRegions > 0) {
+            status = "FAILED";
+        } else {
+            status = "PENDING";
+        }
+
+        return SyncProgress.builder()
+                .jobId(jobId)
+                .status(status)
+                .totalRegions(checkpoints.size())
+                .completedRegions(completedRegions)
+                .failedRegions(failedRegions)
+                .handledCount(handledCount)
+                .estimatedTotalCount(estimatedTotal)
+                .progressPercent(estimatedTotal > 0 ? Math.min(100.0, handledCount * 100.0 / estimatedTotal) : 0.0)
+                .throughputPerSecond(throughput)
+                .estimatedRemainingSeconds(running ? remainingSeconds : null)
+                .estimatedCompletionAt(running && remainingSeconds != null
+                        ? LocalDateTime.now().plusSeconds(remainingSeconds) : null)
+                .regions(regions)
+                .build();
+    }
+
+    /**
+     * 각 지역의 마지막 (재)시작 이후 처리 수 / 소요 시간 합계로 처리 속도 계산
+     * 지역은 순차 처리되므로 소요 시간 합계가 실제 실행 시간에 가까움
+     */
+    private double calculateThroughput(List<FacilitySyncCheckpoint> checkpoints) {
+        long handledSinceResume = 0;
+        long elapsedMillis = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (FacilitySyncCheckpoint checkpoint : checkpoints) {
+            if (checkpoint.getResumedAt() == null) {
+                continue;
+            }
+            LocalDateTime end = checkpoint.getStatus() == FacilitySyncCheckpoint.SyncStatus.RUNNING
+                    ? now
+                    : (checkpoint.getUpdatedAt() != null ? checkpoint.getUpdatedAt() : now);
+            handledSinceResume += checkpoint.getHandledCount() - checkpoint.getHandledAtResume();
+            elapsedMillis += Math.max(0, Duration.between(checkpoint.getResumedAt(), end).toMillis());
+        }
+
+        return elapsedMillis > 0 ? handledSinceResume * 1000.0 / elapsedMillis : 0.0;
+    }
+
+    private RegionProgress toRegionProgress(FacilitySyncCheckpoint checkpoint) {
+        Integer totalCount = checkpoint.getTotalCount();
+        double percent;
+        if (checkpoint.isCompleted()) {
+            percent = 100.0;
+        } else if (totalCount != null && totalCount > 0) {
+            percent = Math.min(100.0, checkpoint.getHandledCount() * 100.0 / totalCount);
+        } else {
+            percent = 0.0;
+        }
+
+        return RegionProgress.builder()
+                .region(checkpoint.getRegion())
+                .status(checkpoint.getStatus().name())
+                .lastCompletedPage(checkpoint.getLastCompletedPage())
+                .totalPages(checkpoint.getTotalPages())
+                .totalCount(totalCount)
+                .handledCount(checkpoint.getHandledCount())
+                .errorCount(checkpoint.getErrorCount())
+                .progressPercent(percent)
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .completedAt(checkpoint.getCompletedAt())
+                .errorMessage(checkpoint.getErrorMessage())
+                .build();
+    }
+
+    // ===== 응답 DTO =====
+
+    /**
+     * 동기화 작업 진행 현황
+     */
+    @Getter
+    @Builder
+    public static class SyncProgress {
+        private String jobId;
+        private String status;
+        private int totalRegions;
+        private int completedRegions;
+        private int failedRegions;
+        private long handledCount;
+        private long estimatedTotalCount;
+        private double progressPercent;
+        private double throughputPerSecond;
+        private Long estimatedRemainingSeconds;
+        private LocalDateTime estimatedCompletionAt;
+        private List<RegionProgress> regions;
+    }
+
+    /**
+     * 지역별 진행 현황
+     */
+    @Getter
+    @Builder
+    public static class RegionProgress {
+        private String region;
+        private String status;
+        private int lastCompletedPage;
+        private Integer totalPages;
+        private Integer totalCount;
+        private int handledCount;
+        private int errorCount;
+        private double progressPercent;
+        private LocalDateTime startedAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime completedAt;
+        private String errorMessage;
+    }
+}
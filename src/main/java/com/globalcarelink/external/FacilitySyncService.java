@@ -3,20 +3,37 @@ package com.globalcarelink.external;
 import com.globalcarelink.external.dto.LtciDetailResponse;
 import com.globalcarelink.external.dto.LtciSearchResponse;
 import com.globalcarelink.external.dto.FacilityStatusResponse;
+import com.globalcarelink.facility.FacilityCacheInvalidator;
 import com.globalcarelink.facility.FacilityProfile;
 import com.globalcarelink.facility.FacilityProfileRepository;
 import com.globalcarelink.facility.FacilityProfileService;
+import com.globalcarelink.facility.FacilitySpatialIndex;
+import com.globalcarelink.facility.FacilityStatisticsView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +48,55 @@ public class FacilitySyncService {
     private final PublicDataApiClient publicDataApiClient;
     private final FacilityProfileRepository facilityProfileRepository;
     private final FacilityProfileService facilityProfileService;
+    private final FacilitySpatialIndex facilitySpatialIndex;
+    private final FacilityStatisticsView facilityStatisticsView;
+    private final PlatformTransactionManager transactionManager;
+    private final FacilitySyncCheckpointRepository checkpointRepository;
+    private final Validator validator;
+
+    private static final String ALL_REGIONS_JOB_PREFIX = "all-";
+    private static final String REGION_JOB_PREFIX = "region-";
+
+    // 전국 동기화 작업 중복 실행 방지
+    private final AtomicBoolean jobRunning = new AtomicBoolean(false);
+
+    // 지역별 동기화 시도 상한 (실패 후 한 번 재시도, 이후 재개하지 않음)
+    @Value("${app.public-data.sync.max-region-attempts:2}")
+    private int maxRegionAttempts;
+
+    // 이 시간보다 오래된 미완료 전국 작업은 재개하지 않고 새 작업으로 시작
+    @Value("${app.public-data.sync.resume-max-age-hours:24}")
+    private long resumeMaxAgeHours;
+
+    // 지역 검색 페이지 크기 (체크포인트 단위)
+    @Value("${app.public-data.sync.page-size:100}")
+    private int syncPageSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 한 번에 flush할 시설 수 (Hibernate JDBC 배치 크기와 동일하게 유지)
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int writeBatchSize;
+
+    // 시설별 상세/운영 상태 동시 조회 수
+    @Value("${app.public-data.sync.concurrency:8}")
+    private int fetchConcurrency;
+
+    // 초당 시설 조회 시작 수 (0 이하면 제한 없음)
+    @Value("${app.public-data.sync.rate-per-second:20}")
+    private int fetchRatePerSecond;
+
+    // 조회 단계 -> 저장 단계 사이 대기열 크기
+    @Value("${app.public-data.sync.handoff-queue-size:256}")
+    private int handoffQueueSize;
+
+    // 델타 동기화: 내용 해시가 같은 시설은 상세 조회/저장/캐시 무효화 생략
+    @Value("${app.public-data.sync.delta-enabled:true}")
+    private boolean deltaSyncEnabled;
+
+    // IN 절 최대 파라미터 수
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
 
     // 지역 코드 매핑 (공공데이터 API 코드 -> 우리 시스템 코드)
     private static final Map<String, String> REGION_CODE_MAP = createRegionCodeMap();
@@ -64,161 +130,536 @@ public class FacilitySyncService {
         Map<String, String> map = new HashMap<>();
         map.put("01", "노인요양시설");
         map.put("02", "노인요양공동생활가정");
-        map.put("03", "노인전문병원");
+        map.put("03", "요양병원");
         map.put("04", "재가노인복지시설");
-        map.put("05", "주간보호시설");
+        map.put("05", "주야간보호시설");
         map.put("06", "단기보호시설");
         map.put("07", "방문요양서비스");
         map.put("08", "방문목욕서비스");
         map.put("09", "방문간호서비스");
-        map.put("10", "주야간보호서비스");
+        map.put("10", "주야간보호시설");
         return Collections.unmodifiableMap(map);
     }
 
     /**
-     * 특정 지역의 장기요양기관 데이터를 동기화
+     * 특정 지역의 장기요양기관 데이터를 동기화 (단일 지역 작업으로 체크포인트 기록)
      * 
      * @param region 지역명 (예: "서울특별시")
      * @return 동기화 결과 통계
      */
     @Async("publicDataExecutor")
-    @Transactional
     public CompletableFuture<SyncResult> syncFacilitiesByRegion(String region) {
-        log.info("지역별 시설 동기화 시작 - 지역: {}", region);
-        
+        FacilitySyncCheckpoint checkpoint = checkpointRepository.save(
+                FacilitySyncCheckpoint.create(newJobId(REGION_JOB_PREFIX), region));
+        return CompletableFuture.completedFuture(syncRegion(checkpoint));
+    }
+
+    /**
+     * 전체 지역 시설 동기화
+     * 재개 가능한 이전 전국 동기화 작업이 있으면 남은 지역/페이지부터 재개, 없으면 새 작업 시작
+     * 
+     * @return 전체 동기화 결과
+     */
+    @Async("publicDataExecutor")
+    public CompletableFuture<List<SyncResult>> syncAllRegions() {
+        String jobId = findResumableJobId()
+                .orElseGet(this::createAllRegionsJob);
+        return CompletableFuture.completedFuture(runJob(jobId));
+    }
+
+    /**
+     * 중단된 전국 동기화 작업 재개 (없으면 아무것도 하지 않음)
+     * 
+     * @return 재개한 작업의 지역별 결과 (재개할 작업이 없으면 빈 목록)
+     */
+    @Async("publicDataExecutor")
+    public CompletableFuture<List<SyncResult>> resumeUnfinishedSync() {
+        return CompletableFuture.completedFuture(
+                findResumableJobId()
+                        .map(this::runJob)
+                        .orElseGet(List::of));
+    }
+
+    /**
+     * 재개할 전국 동기화 작업 ID
+     * 작업이 만료되었거나 남은 지역이 모두 실패 횟수 상한에 도달했으면 남은 체크포인트를 포기 처리하고 빈 값 반환
+     * (계속 실패하는 지역 하나 때문에 같은 작업만 재개되고 나머지 지역의 전체 동기화가 멈추는 것을 방지)
+     */
+    private Optional<String> findResumableJobId() {
+        Optional<String> latest = checkpointRepository.findLatestUnfinishedJobId(ALL_REGIONS_JOB_PREFIX);
+        if (latest.isEmpty()) {
+            return latest;
+        }
+
+        String jobId = latest.get();
+        List<FacilitySyncCheckpoint> unfinished = checkpointRepository.findByJobIdOrderByIdAsc(jobId).stream()
+                .filter(checkpoint -> !checkpoint.isCompleted())
+                .collect(Collectors.toList());
+        LocalDateTime createdAt = unfinished.stream()
+                .map(FacilitySyncCheckpoint::getCreatedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        boolean expired = createdAt != null
+                && createdAt.isBefore(LocalDateTime.now().minusHours(resumeMaxAgeHours));
+        boolean retriable = unfinished.stream()
+                .anyMatch(checkpoint -> checkpoint.isResumable(maxRegionAttempts));
+
+        if (!expired && retriable) {
+            return latest;
+        }
+
+        unfinished.forEach(FacilitySyncCheckpoint::markAbandoned);
+        checkpointRepository.saveAll(unfinished);
+        log.warn("전국 시설 동기화 작업 재개 중단 - 작업 ID: {}, 사유: {}, 포기한 지역: {}", jobId,
+                expired ? "작업 만료" : "실패 횟수 상한 초과",
+                unfinished.stream().map(FacilitySyncCheckpoint::getRegion).collect(Collectors.toList()));
+        return Optional.empty();
+    }
+
+    /**
+     * 전국 동기화 작업 생성 (지역별 체크포인트 생성)
+     */
+    private String createAllRegionsJob() {
+        String jobId = newJobId(ALL_REGIONS_JOB_PREFIX);
+        List<FacilitySyncCheckpoint> checkpoints = new LinkedHashSet<>(REGION_CODE_MAP.values()).stream()
+                .map(region -> FacilitySyncCheckpoint.create(jobId, region))
+                .collect(Collectors.toList());
+        checkpointRepository.saveAll(checkpoints);
+        log.info("전국 시설 동기화 작업 생성 - 작업 ID: {}, 지역 수: {}", jobId, checkpoints.size());
+        return jobId;
+    }
+
+    private static String newJobId(String prefix) {
+        return prefix + UUID.randomUUID();
+    }
+
+    /**
+     * 작업의 완료되지 않은 지역을 순서대로 동기화
+     * 동시에 하나의 전국 작업만 실행
+     */
+    private List<SyncResult> runJob(String jobId) {
+        if (!jobRunning.compareAndSet(false, true)) {
+            log.warn("이미 실행 중인 전국 시설 동기화 작업이 있어 요청을 무시합니다 - 작업 ID: {}", jobId);
+            return List.of();
+        }
+
+        try {
+            List<FacilitySyncCheckpoint> pending = checkpointRepository.findByJobIdOrderByIdAsc(jobId).stream()
+                    .filter(checkpoint -> checkpoint.isResumable(maxRegionAttempts))
+                    .collect(Collectors.toList());
+            log.info("전국 시설 동기화 실행 - 작업 ID: {}, 남은 지역: {}", jobId, pending.size());
+
+            List<SyncResult> results = new ArrayList<>();
+            for (FacilitySyncCheckpoint checkpoint : pending) {
+                results.add(syncRegion(checkpoint));
+            }
+            return results;
+        } finally {
+            jobRunning.set(false);
+        }
+    }
+
+    /**
+     * 지역 동기화 - 마지막 완료 페이지 다음 페이지부터 페이지 단위로 처리하고 페이지마다 체크포인트 저장
+     */
+    private SyncResult syncRegion(FacilitySyncCheckpoint checkpoint) {
+        String region = checkpoint.getRegion();
+        log.info("지역별 시설 동기화 시작 - 지역: {}, 작업 ID: {}, 시작 페이지: {}",
+                region, checkpoint.getJobId(), checkpoint.getLastCompletedPage() + 1);
+
         SyncResult result = new SyncResult();
         result.setRegion(region);
         result.setStartTime(LocalDateTime.now());
 
-        try {
-            // 1. 공공데이터 API에서 지역별 시설 검색
-            LtciSearchResponse searchResponse = null;
-            try {
-                searchResponse = publicDataApiClient
-                        .searchLongTermCareInstitutions(region, null, 1, 1000)
-                        .block();
-            } catch (Exception e) {
-                log.error("공공데이터 API 호출 실패 - 지역: {}", region, e);
-                result.setErrorMessage("API 호출 실패: " + e.getMessage());
-                return CompletableFuture.completedFuture(result);
-            }
-            
-            if (searchResponse == null || searchResponse.getResponse() == null || 
-                searchResponse.getResponse().getBody() == null) {
-                log.warn("지역별 시설 검색 결과 없음 - 지역: {}", region);
-                result.setErrorMessage("검색 결과 없음");
-                return CompletableFuture.completedFuture(result);
-            }
+        checkpoint.markRunning();
+        checkpoint = checkpointRepository.save(checkpoint);
 
-            List<LtciSearchResponse.LtciInstitution> institutions = 
-                    searchResponse.getResponse().getBody().getItems();
-            
-            result.setTotalFound(institutions.size());
-            log.info("지역별 시설 검색 완료 - 지역: {}, 검색된 시설 수: {}", region, institutions.size());
-
-            // 2. 각 시설에 대해 상세 정보 조회 및 동기화
-            List<String> processedIds = new ArrayList<>();
-            List<String> errorIds = new ArrayList<>();
-
-            for (LtciSearchResponse.LtciInstitution institution : institutions) {
-                try {
-                    boolean syncSuccess = syncSingleFacility(institution);
-                    if (syncSuccess) {
-                        processedIds.add(institution.getInstitutionCode());
-                        result.incrementProcessed();
-                    } else {
-                        errorIds.add(institution.getInstitutionCode());
-                        result.incrementErrors();
+        boolean fromFirstPage = checkpoint.getLastCompletedPage() == 0;
+        Map<String, String> storedHashes = deltaSyncEnabled ? loadSyncFingerprints(region) : Map.of();
+        Set<String> seenExternalIds = new HashSet<>();
+        ChangedFacilities changedFacilities = new ChangedFacilities();
+
+        try {
+            int page = checkpoint.getLastCompletedPage() + 1;
+            Integer totalPages = checkpoint.getTotalPages();
+
+            while (totalPages == null || page <= totalPages) {
+                // 1. 공공데이터 API에서 지역별 시설 검색 (페이지 단위)
+                LtciSearchResponse.Response.Body body = searchPage(region, page);
+                if (body == null) {
+                    if (page == 1) {
+                        log.warn("지역별 시설 검색 결과 없음 - 지역: {}", region);
+                        throw new IllegalStateException("검색 결과 없음");
                     }
-                } catch (Exception e) {
-                    log.error("개별 시설 동기화 실패 - 시설 코드: {}, 오류: {}", 
-                            institution.getInstitutionCode(), e.getMessage(), e);
-                    errorIds.add(institution.getInstitutionCode());
-                    result.incrementErrors();
+                    break;
                 }
-            }
 
-            // 3. 동기화 결과 정리
-            result.setProcessedIds(processedIds);
-            result.setErrorIds(errorIds);
-            result.setEndTime(LocalDateTime.now());
-            
-            log.info("지역별 시설 동기화 완료 - 지역: {}, 처리: {}, 오류: {}", 
-                    region, result.getProcessedCount(), result.getErrorCount());
+                List<LtciSearchResponse.LtciInstitution> institutions =
+                        body.getItems() != null ? body.getItems() : List.of();
+                Integer totalCount = body.getTotalCount();
+                totalPages = totalCount != null
+                        ? Math.max(1, (totalCount + syncPageSize - 1) / syncPageSize)
+                        : (institutions.size() < syncPageSize ? page : page + 1);
+
+                result.setTotalFound(result.getTotalFound() + institutions.size());
+                log.info("지역별 시설 검색 완료 - 지역: {}, 페이지: {}/{}, 시설 수: {}",
+                        region, page, totalPages, institutions.size());
+
+                // 2. 페이지 동기화 후 체크포인트 저장
+                int handledBefore = result.getHandledCount();
+                int errorsBefore = result.getErrorCount();
+                syncPage(region, institutions, storedHashes, seenExternalIds, result, changedFacilities);
+
+                checkpoint.markPageCompleted(page, totalPages, totalCount,
+                        result.getHandledCount() - handledBefore, result.getErrorCount() - errorsBefore);
+                checkpoint = checkpointRepository.save(checkpoint);
+
+                if (institutions.isEmpty()) {
+                    break;
+                }
+                page++;
+            }
 
-            // 4. 캐시 무효화
-            evictFacilityCaches();
+            // 3. 처음부터 끝까지 한 번에 처리한 경우에만 제거된 시설 집계 가능
+            if (deltaSyncEnabled && fromFirstPage) {
+                result.setRemovedCount((int) storedHashes.keySet().stream()
+                        .filter(externalId -> !seenExternalIds.contains(externalId))
+                        .count());
+            }
 
-            return CompletableFuture.completedFuture(result);
+            checkpoint.markCompleted();
+            checkpointRepository.save(checkpoint);
 
         } catch (Exception e) {
-            log.error("지역별 시설 동기화 실패 - 지역: {}", region, e);
+            log.error("지역별 시설 동기화 실패 - 지역: {}, 마지막 완료 페이지: {}", region, checkpoint.getLastCompletedPage(), e);
             result.setErrorMessage(e.getMessage());
-            result.setEndTime(LocalDateTime.now());
-            return CompletableFuture.completedFuture(result);
+            checkpoint.markFailed(e.getMessage());
+            checkpointRepository.save(checkpoint);
         }
+
+        // 4. 동기화 결과 정리
+        result.setEndTime(LocalDateTime.now());
+
+        log.info("지역별 시설 동기화 완료 - 지역: {}, 처리: {} (신규: {}, 갱신: {}), 변경 없음: {}, 제거됨: {}, 오류: {}, 배치: {}회, 처리량: {}건/초", 
+                region, result.getProcessedCount(), result.getCreatedCount(), result.getUpdatedCount(),
+                result.getUnchangedCount(), result.getRemovedCount(),
+                result.getErrorCount(), result.getWriteBatchCount(),
+                String.format("%.1f", result.getThroughputPerSecond()));
+
+        // 5. 변경된 시설의 캐시만 무효화
+        facilityProfileService.evictCachesFor(changedFacilities.getBefore(), changedFacilities.getAfter());
+
+        return result;
     }
 
     /**
-     * 개별 시설 정보 동기화
-     * 
-     * @param institution 공공데이터 API에서 조회한 시설 정보
-     * @return 동기화 성공 여부
+     * 지역 시설 검색 한 페이지 조회 (결과가 없으면 null)
      */
-    private boolean syncSingleFacility(LtciSearchResponse.LtciInstitution institution) {
-        try {
-            log.debug("개별 시설 동기화 시작 - 시설: {} ({})", 
-                    institution.getInstitutionName(), institution.getInstitutionCode());
-
-            // 1. 상세 정보 조회 (선택적)
-            LtciDetailResponse detailResponse = null;
-            try {
-                detailResponse = publicDataApiClient
-                        .getLongTermCareInstitutionDetail(institution.getInstitutionCode())
-                        .block();
-            } catch (Exception e) {
-                log.warn("상세 정보 조회 실패 - 시설 코드: {}, 기본 정보로 진행", institution.getInstitutionCode());
-            }
+    private LtciSearchResponse.Response.Body searchPage(String region, int page) {
+        LtciSearchResponse searchResponse = publicDataApiClient
+                .searchLongTermCareInstitutions(region, null, page, syncPageSize)
+                .block();
+
+        if (searchResponse == null || searchResponse.getResponse() == null) {
+            return null;
+        }
+        return searchResponse.getResponse().getBody();
+    }
 
-            // 2. 운영 상태 조회 (선택적)
-            FacilityStatusResponse statusResponse = null;
-            try {
-                statusResponse = publicDataApiClient
-                        .getFacilityOperationStatus(institution.getInstitutionCode())
-                        .block();
-            } catch (Exception e) {
-                log.warn("운영 상태 조회 실패 - 시설 코드: {}, 기본 정보로 진행", institution.getInstitutionCode());
+    /**
+     * 한 페이지 분량의 시설 동기화
+     * 변경된 시설만 상세 정보/운영 상태를 병렬 조회한 뒤 배치 단위로 저장
+     * 저장에 실패한 배치가 있으면 나머지 배치까지 저장한 뒤 예외를 던져 페이지를 완료 처리하지 않음
+     * (재시도 시 이 페이지부터 다시 처리하며, 델타 동기화면 저장된 시설은 변경 없음으로 건너뜀)
+     */
+    private void syncPage(String region, List<LtciSearchResponse.LtciInstitution> institutions,
+                          Map<String, String> storedHashes, Set<String> seenExternalIds,
+                          SyncResult result, ChangedFacilities changedFacilities) {
+
+        // 1. 델타 동기화 시 저장된 내용 해시와 비교하여 변경된 시설만 선별
+        List<LtciSearchResponse.LtciInstitution> changedInstitutions = deltaSyncEnabled
+                ? selectChangedInstitutions(institutions, storedHashes, seenExternalIds, result)
+                : institutions;
+
+        // 2. 상세 정보/운영 상태를 동시성 및 속도 제한 하에 병렬 조회
+        Flux<FetchedInstitution> fetched = Flux.fromIterable(changedInstitutions)
+                .transform(this::limitFetchRate)
+                .flatMap(this::fetchInstitutionDetails, fetchConcurrency);
+
+        // 3. 제한된 크기의 대기열로 넘겨받아 배치 단위로 저장 (저장이 밀리면 조회 속도도 함께 조절됨)
+        List<FetchedInstitution> pendingWrites = new ArrayList<>(writeBatchSize);
+        int failedBatches = 0;
+        for (FetchedInstitution item : fetched.toIterable(handoffQueueSize)) {
+            pendingWrites.add(item);
+            if (pendingWrites.size() >= writeBatchSize
+                    && !writeBatch(pendingWrites, region, result, changedFacilities)) {
+                failedBatches++;
             }
+        }
+        if (!writeBatch(pendingWrites, region, result, changedFacilities)) {
+            failedBatches++;
+        }
+        if (failedBatches > 0) {
+            throw new IllegalStateException("시설 배치 저장 실패 " + failedBatches + "건 - 페이지 재처리 필요");
+        }
+    }
 
-            // 3. 기존 시설 정보 확인 (externalId 필드로 검색)
-            List<FacilityProfile> existingFacilities = facilityProfileRepository
-                    .findAll()
-                    .stream()
-                    .filter(f -> institution.getInstitutionCode().equals(f.getExternalId()))
-                    .collect(Collectors.toList());
+    /**
+     * 지역 내 시설의 외부 ID -> 저장된 내용 해시
+     */
+    private Map<String, String> loadSyncFingerprints(String region) {
+        Map<String, String> storedHashes = new HashMap<>();
+        for (Object[] row : facilityProfileRepository.findSyncFingerprintsByRegion(region)) {
+            storedHashes.put((String) row[0], (String) row[1]);
+        }
+        return storedHashes;
+    }
 
-            FacilityProfile facilityProfile;
-            if (!existingFacilities.isEmpty()) {
-                // 기존 시설 업데이트
-                facilityProfile = existingFacilities.get(0);
-                updateExistingFacility(facilityProfile, institution, detailResponse, statusResponse);
-                log.debug("기존 시설 업데이트 - ID: {}", facilityProfile.getId());
+    /**
+     * 저장된 내용 해시와 비교하여 변경(신규 포함)된 시설만 반환
+     */
+    private List<LtciSearchResponse.LtciInstitution> selectChangedInstitutions(
+            List<LtciSearchResponse.LtciInstitution> institutions, Map<String, String> storedHashes,
+            Set<String> seenExternalIds, SyncResult result) {
+
+        List<LtciSearchResponse.LtciInstitution> changed = new ArrayList<>();
+        for (LtciSearchResponse.LtciInstitution institution : institutions) {
+            seenExternalIds.add(institution.getInstitutionCode());
+            String storedHash = storedHashes.get(institution.getInstitutionCode());
+            if (storedHash != null && storedHash.equals(computeContentHash(institution))) {
+                result.incrementUnchanged();
             } else {
-                // 새 시설 생성
-                facilityProfile = createNewFacility(institution, detailResponse, statusResponse);
-                log.debug("새 시설 생성 - 외부 ID: {}", institution.getInstitutionCode());
+                changed.add(institution);
+            }
+        }
+
+        log.debug("델타 동기화 대상 선별 - 변경: {}, 변경 없음: {}", changed.size(), institutions.size() - changed.size());
+        return changed;
+    }
+
+    /**
+     * 검색 결과 원본 내용 해시 (SHA-256)
+     * 기관 최종 수정일(lastUpdated)도 포함하여 원본이 갱신되면 해시가 달라짐
+     */
+    private static String computeContentHash(LtciSearchResponse.LtciInstitution institution) {
+        String content = String.join("\u001F",
+                String.valueOf(institution.getInstitutionCode()),
+                String.valueOf(institution.getInstitutionName()),
+                String.valueOf(institution.getInstitutionType()),
+                String.valueOf(institution.getInstitutionTypeName()),
+                String.valueOf(institution.getAddress()),
+                String.valueOf(institution.getDetailAddress()),
+                String.valueOf(institution.getPhoneNumber()),
+                String.valueOf(institution.getFaxNumber()),
+                String.valueOf(institution.getHomepageUrl()),
+                String.valueOf(institution.getSidoCode()),
+                String.valueOf(institution.getSigunguCode()),
+                String.valueOf(institution.getSigunguName()),
+                String.valueOf(institution.getLatitude()),
+                String.valueOf(institution.getLongitude()),
+                String.valueOf(institution.getCapacity()),
+                String.valueOf(institution.getCurrentOccupancy()),
+                String.valueOf(institution.getOpenDate()),
+                String.valueOf(institution.getOperationStatus()),
+                String.valueOf(institution.getEvaluationGrade()),
+                String.valueOf(institution.getEvaluationScore()),
+                String.valueOf(institution.getMonthlyBasicFee()),
+                String.valueOf(institution.getAvailableGrades()),
+                String.valueOf(institution.getSpecialServices()),
+                String.valueOf(institution.getAmenities()),
+                String.valueOf(institution.getMedicalStaff()),
+                String.valueOf(institution.getLastUpdated()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 초당 조회 시작 수 제한
+     */
+    private Flux<LtciSearchResponse.LtciInstitution> limitFetchRate(Flux<LtciSearchResponse.LtciInstitution> institutions) {
+        if (fetchRatePerSecond <= 0) {
+            return institutions;
+        }
+        return institutions.delayElements(Duration.ofNanos(1_000_000_000L / fetchRatePerSecond));
+    }
+
+    /**
+     * 개별 시설의 상세 정보와 운영 상태를 동시에 조회
+     * 각 조회는 선택적이므로 실패해도 기본 정보로 진행
+     */
+    private Mono<FetchedInstitution> fetchInstitutionDetails(LtciSearchResponse.LtciInstitution institution) {
+        String institutionCode = institution.getInstitutionCode();
+
+        Mono<Optional<LtciDetailResponse>> detail = Mono
+                .defer(() -> publicDataApiClient.getLongTermCareInstitutionDetail(institutionCode))
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.warn("상세 정보 조회 실패 - 시설 코드: {}, 기본 정보로 진행", institutionCode);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Optional.empty());
+
+        Mono<Optional<FacilityStatusResponse>> status = Mono
+                .defer(() -> publicDataApiClient.getFacilityOperationStatus(institutionCode))
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.warn("운영 상태 조회 실패 - 시설 코드: {}, 기본 정보로 진행", institutionCode);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(detail, status)
+                .map(tuple -> new FetchedInstitution(institution, tuple.getT1().orElse(null), tuple.getT2().orElse(null)));
+    }
+
+    /**
+     * 배치 내 시설들의 기존 프로필을 외부 ID로 일괄 조회
+     * 
+     * @param externalIds 공공데이터 기관 코드 목록
+     * @return 외부 ID -> 기존 시설 프로필
+     */
+    private Map<String, FacilityProfile> loadExistingFacilities(List<String> externalIds) {
+        Map<String, FacilityProfile> existingByExternalId = new HashMap<>();
+        for (int i = 0; i < externalIds.size(); i += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = externalIds.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, externalIds.size()));
+            for (FacilityProfile facility : facilityProfileRepository.findByExternalIdIn(chunk)) {
+                existingByExternalId.put(facility.getExternalId(), facility);
             }
+        }
+        return existingByExternalId;
+    }
 
-            // 4. 시설 정보 저장
-            facilityProfileRepository.save(facilityProfile);
-            
+    /**
+     * 조회가 끝난 시설들을 하나의 트랜잭션으로 저장
+     * 기존 시설은 외부 ID로 한 번에 로딩해 변경 감지로 갱신하고, 신규 시설은 persist 후 함께 flush
+     * 배치 단위로 커밋하므로 한 배치의 실패가 이전 배치에 영향을 주지 않음
+     *
+     * @return 배치 커밋 여부 (개별 시설 매핑/검증 실패는 해당 시설만 오류로 기록하고 커밋)
+     */
+    private boolean writeBatch(List<FetchedInstitution> batch, String region, SyncResult result,
+                               ChangedFacilities changedFacilities) {
+        if (batch.isEmpty()) {
             return true;
+        }
 
+        List<FacilityProfile> written = new ArrayList<>(batch.size());
+        List<FacilityCacheInvalidator.CacheSnapshot> before = new ArrayList<>(batch.size());
+        List<FacilityCacheInvalidator.CacheSnapshot> after = new ArrayList<>(batch.size());
+        int[] created = {0};
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                List<String> externalIds = batch.stream()
+                        .map(item -> item.getInstitution().getInstitutionCode())
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .collect(Collectors.toList());
+                Map<String, FacilityProfile> existingByExternalId = loadExistingFacilities(externalIds);
+
+                for (FetchedInstitution item : batch) {
+                    String institutionCode = item.getInstitution().getInstitutionCode();
+                    try {
+                        FacilityProfile existing = existingByExternalId.get(institutionCode);
+                        // 캐시 무효화/통계 증감 계산용 변경 전 값 (신규 시설, 같은 배치에서 이미 저장한 시설은 없음)
+                        FacilityCacheInvalidator.CacheSnapshot previous = existing != null && existing.getId() != null
+                                && !written.contains(existing)
+                                ? FacilityCacheInvalidator.CacheSnapshot.from(existing) : null;
+                        FacilityProfile facility = syncSingleFacility(item, region, existing);
+                        if (facility.getId() == null) {
+                            // persist 중 검증 실패는 세션을 오염시켜 배치 전체가 실패하므로 미리 검증
+                            Set<ConstraintViolation<FacilityProfile>> violations = validator.validate(facility);
+                            if (!violations.isEmpty()) {
+                                throw new IllegalArgumentException(violations.stream()
+                                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                                        .collect(Collectors.joining(", ")));
+                            }
+                            entityManager.persist(facility);
+                            created[0]++;
+                        }
+                        existingByExternalId.put(institutionCode, facility);
+                        written.add(facility);
+                        if (previous != null) {
+                            before.add(previous);
+                        }
+                    } catch (Exception e) {
+                        log.error("개별 시설 동기화 실패 - 시설 코드: {}, 오류: {}", institutionCode, e.getMessage(), e);
+                        result.getErrorIds().add(institutionCode);
+                        result.incrementErrors();
+                    }
+                }
+                entityManager.flush();
+                // 신규 시설 ID는 flush 이후 확정되므로 변경 후 값은 배치 저장 직후 수집
+                written.forEach(facility -> after.add(FacilityCacheInvalidator.CacheSnapshot.from(facility)));
+                // 통계 집계 행은 배치와 같은 트랜잭션에서 증감
+                facilityStatisticsView.apply(before, after);
+            });
         } catch (Exception e) {
-            log.error("개별 시설 동기화 실패 - 시설 코드: {}, 오류: {}", 
-                    institution.getInstitutionCode(), e.getMessage(), e);
+            log.error("시설 배치 저장 실패 - 지역: {}, 배치 크기: {}", region, batch.size(), e);
+            for (FacilityProfile facility : written) {
+                result.getErrorIds().add(facility.getExternalId());
+                result.incrementErrors();
+            }
+            batch.clear();
             return false;
         }
+
+        changedFacilities.getBefore().addAll(before);
+        changedFacilities.getAfter().addAll(after);
+        for (FacilityProfile facility : written) {
+            facilitySpatialIndex.upsert(facility);
+            result.getProcessedIds().add(facility.getExternalId());
+            result.incrementProcessed();
+        }
+        result.addCreated(created[0]);
+        result.addUpdated(written.size() - created[0]);
+        result.incrementWriteBatches();
+
+        batch.clear();
+        return true;
+    }
+
+    /**
+     * 개별 시설 정보 동기화 (조회된 상세/운영 상태를 매핑, 저장은 writeBatch에서 수행)
+     * 
+     * @param fetched 공공데이터 API에서 조회한 시설 정보
+     * @param region 동기화 중인 지역명
+     * @param existing 기존 시설 프로필 (없으면 null)
+     * @return 저장 대기 중인 시설 프로필
+     */
+    private FacilityProfile syncSingleFacility(FetchedInstitution fetched, String region, FacilityProfile existing) {
+        LtciSearchResponse.LtciInstitution institution = fetched.getInstitution();
+
+        if (existing != null) {
+            updateExistingFacility(existing, institution, fetched.getDetail(), fetched.getStatus());
+            existing.setSyncContentHash(contentHashIfComplete(fetched));
+            log.debug("기존 시설 업데이트 - ID: {}", existing.getId());
+            return existing;
+        }
+
+        FacilityProfile facilityProfile = createNewFacility(institution, fetched.getDetail(), fetched.getStatus());
+        facilityProfile.setRegion(region);
+        facilityProfile.setSyncContentHash(contentHashIfComplete(fetched));
+        if (facilityProfile.getDistrict() == null) {
+            facilityProfile.setDistrict(institution.getSigunguName() != null ? institution.getSigunguName() : "");
+        }
+        log.debug("새 시설 생성 - 외부 ID: {}", institution.getInstitutionCode());
+        return facilityProfile;
+    }
+
+    /**
+     * 상세 정보와 운영 상태를 모두 받은 경우에만 내용 해시 반환
+     * 하나라도 실패했으면 해시를 비워 다음 델타 동기화에서 다시 조회
+     */
+    private static String contentHashIfComplete(FetchedInstitution fetched) {
+        if (fetched.getDetail() == null || fetched.getStatus() == null) {
+            return null;
+        }
+        return computeContentHash(fetched.getInstitution());
     }
 
     /**
@@ -406,32 +847,23 @@ public class FacilitySyncService {
     }
 
     /**
-     * 전체 지역 시설 동기화
-     * 
-     * @return 전체 동기화 결과
+     * 상세 정보/운영 상태 조회가 끝난 시설 (조회 단계 -> 저장 단계 전달용)
      */
-    @Async("publicDataExecutor")
-    public CompletableFuture<List<SyncResult>> syncAllRegions() {
-        log.info("전국 시설 동기화 시작");
-        
-        List<String> regions = new ArrayList<>(REGION_CODE_MAP.values());
-        
-        List<CompletableFuture<SyncResult>> futures = regions.stream()
-                .map(this::syncFacilitiesByRegion)
-                .collect(Collectors.toList());
-        
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> futures.stream()
-                        .map(CompletableFuture::join)
-                        .collect(Collectors.toList()));
+    @Getter
+    @AllArgsConstructor
+    private static class FetchedInstitution {
+        private final LtciSearchResponse.LtciInstitution institution;
+        private final LtciDetailResponse detail;
+        private final FacilityStatusResponse status;
     }
 
     /**
-     * 시설 관련 캐시 무효화
+     * 지역 동기화 중 저장된 시설의 변경 전/후 값 (동기화 종료 후 캐시 선별 무효화용)
      */
-    @CacheEvict(value = {"facilityProfiles", "facilitySearch", "facilityRecommendations"}, allEntries = true)
-    public void evictFacilityCaches() {
-        log.info("시설 관련 캐시 무효화 완료");
+    @Getter
+    private static class ChangedFacilities {
+        private final List<FacilityCacheInvalidator.CacheSnapshot> before = new ArrayList<>();
+        private final List<FacilityCacheInvalidator.CacheSnapshot> after = new ArrayList<>();
     }
 
     /**
@@ -447,6 +879,11 @@ public class FacilitySyncService {
         private LocalDateTime startTime;
         private LocalDateTime endTime;
         private String errorMessage;
+        private int createdCount;
+        private int updatedCount;
+        private int writeBatchCount;
+        private int unchangedCount;
+        private int removedCount;
 
         // Getters and Setters
         public String getRegion() { return region; }
@@ -482,5 +919,37 @@ public class FacilitySyncService {
             }
             return 0;
         }
+
+        public int getCreatedCount() { return createdCount; }
+        public void addCreated(int count) { this.createdCount += count; }
+
+        public int getUpdatedCount() { return updatedCount; }
+        public void addUpdated(int count) { this.updatedCount += count; }
+
+        public int getWriteBatchCount() { return writeBatchCount; }
+        public void incrementWriteBatches() { this.writeBatchCount++; }
+
+        // 델타 동기화 집계 (변경 = 신규 + 갱신)
+        public int getChangedCount() { return createdCount + updatedCount; }
+
+        public int getUnchangedCount() { return unchangedCount; }
+        public void incrementUnchanged() { this.unchangedCount++; }
+
+        public int getRemovedCount() { return removedCount; }
+        public void setRemovedCount(int removedCount) { this.removedCount = removedCount; }
+
+        // 처리 완료 시설 수 (저장 + 변경 없음 + 오류)
+        public int getHandledCount() { return processedCount + unchangedCount + errorCount; }
+
+        /**
+         * 초당 처리 건수 (시작~종료 기준)
+         */
+        public double getThroughputPerSecond() {
+            if (startTime == null || endTime == null) {
+                return 0.0;
+            }
+            long millis = java.time.Duration.between(startTime, endTime).toMillis();
+            return millis > 0 ? processedCount * 1000.0 / millis : processedCount;
+        }
     }
 } 
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.globalcarelink.external;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -44,6 +47,26 @@ public class PublicDataSyncScheduler {
         this.dbExecutor = dbExecutor;
     }
 
+    @Value("${app.public-data.sync.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    /**
+     * 애플리케이션 시작 시 중단된 전국 동기화 작업 재개
+     * 체크포인트의 마지막 완료 페이지 다음부터 이어서 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedSync() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        facilitySyncService.resumeUnfinishedSync()
+                .thenAccept(results -> {
+                    if (!results.isEmpty()) {
+                        log.info("중단된 전국 시설 동기화 재개 완료 - 처리 지역: {}개", results.size());
+                    }
+                });
+    }
+
     /**
      * 전국 시설 정보 동기화 (병렬 처리 최적화)
      * 매일 새벽 2시에 실행
@@ -179,23 +202,6 @@ public class PublicDataSyncScheduler {
         }
     }
 
-    /**
-     * 캐시 정리
-     * 매일 새벽 3시에 실행 (시설 동기화 이후)
-     */
-    @Scheduled(cron = "0 0 3 * * ?")
-    public void clearCaches() {
-        log.info("캐시 정리 시작");
-        
-        try {
-            facilitySyncService.evictFacilityCaches();
-            log.info("캐시 정리 완료");
-            
-        } catch (Exception e) {
-            log.error("캐시 정리 실패", e);
-        }
-    }
-
     /**
      * 시스템 상태 점검
      * 매일 오전 8시에 실행
@@ -245,15 +251,18 @@ public class PublicDataSyncScheduler {
             stats.totalFound += result.getTotalFound();
             stats.totalProcessed += result.getProcessedCount();
             stats.totalErrors += result.getErrorCount();
+            stats.totalChanged += result.getChangedCount();
+            stats.totalUnchanged += result.getUnchangedCount();
+            stats.totalRemoved += result.getRemovedCount();
             
             if (result.getErrorMessage() != null) {
                 stats.failedRegions++;
             }
         }
         
-        // 성공률 계산
+        // 성공률 계산 (델타 동기화로 생략된 변경 없는 시설도 성공으로 간주)
         if (stats.totalFound > 0) {
-            stats.successRate = ((double) stats.totalProcessed / stats.totalFound) * 100;
+            stats.successRate = ((double) (stats.totalProcessed + stats.totalUnchanged) / stats.totalFound) * 100;
         }
         
         return stats;
@@ -272,6 +281,8 @@ public class PublicDataSyncScheduler {
         log.info("검색된 시설: {}건", stats.totalFound);
         log.info("처리 완료: {}건", stats.totalProcessed);
         log.info("처리 실패: {}건", stats.totalErrors);
+        log.info("변경: {}건, 변경 없음(생략): {}건, 제거됨: {}건",
+                stats.totalChanged, stats.totalUnchanged, stats.totalRemoved);
         log.info("성공률: {}%", String.format("%.1f", stats.successRate));
         log.info("총 소요시간: {}분", durationMinutes);
         log.info("============================");
@@ -295,6 +306,9 @@ public class PublicDataSyncScheduler {
         int totalFound = 0;
         int totalProcessed = 0;
         int totalErrors = 0;
+        int totalChanged = 0;
+        int totalUnchanged = 0;
+        int totalRemoved = 0;
         double successRate = 0.0;
         boolean apiHealthy = true; // API 상태 추가
 
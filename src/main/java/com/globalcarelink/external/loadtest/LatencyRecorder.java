@@ -0,0 +1,110 @@
+package com.globalcarelink.external.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트 지연 시간 기록기
+ * 요청별 소요 시간을 모아 처리량과 지연 시간 백분위수(p50/p90/p95/p99) 계산
+ */
+public class LatencyRecorder {
+
+    private final String name;
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errorCount;
+    private long startNanos;
+    private long endNanos;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 측정 구간 시작 (처리량 계산 기준)
+     */
+    public synchronized void start() {
+        startNanos = System.nanoTime();
+    }
+
+    public synchronized void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    public synchronized void record(long elapsedNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = elapsedNanos;
+        if (!success) {
+            errorCount++;
+        }
+    }
+
+    /**
+     * 현재까지의 측정 결과 요약
+     */
+    public synchronized Summary summarize() {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+
+        long wallNanos = (endNanos > 0 ? endNanos : System.nanoTime()) - startNanos;
+        double mean = count > 0 ? Arrays.stream(sorted).average().orElse(0) : 0;
+
+        return Summary.builder()
+                .name(name)
+                .requests(count)
+                .errors(errorCount)
+                .durationMs(wallNanos / 1_000_000)
+                .throughputPerSecond(wallNanos > 0 ? count * 1_000_000_000.0 / wallNanos : 0.0)
+                .meanMs(toMillis(mean))
+                .p50Ms(percentile(sorted, 50))
+                .p90Ms(percentile(sorted, 90))
+                .p95Ms(percentile(sorted, 95))
+                .p99Ms(percentile(sorted, 99))
+                .maxMs(count > 0 ? toMillis(sorted[count - 1]) : 0.0)
+                .build();
+    }
+
+    /**
+     * 최근접 순위(nearest-rank) 방식 백분위수
+     */
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return toMillis(sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))]);
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * 측정 결과 요약
+     */
+    @Getter
+    @Builder
+    public static class Summary {
+        private String name;
+        private int requests;
+        private int errors;
+        private long durationMs;
+        private double throughputPerSecond;
+        private double meanMs;
+        private double p50Ms;
+        private double p90Ms;
+        private double p95Ms;
+        private double p99Ms;
+        private double maxMs;
+
+        @Override
+        public String toString() {
+            return String.format("%-16s 요청 %6d, 오류 %4d, 처리량 %8.1f/s, 평균 %7.2fms, p50 %7.2fms, p90 %7.2fms, p95 %7.2fms, p99 %7.2fms, 최대 %7.2fms",
+                    name, requests, errors, throughputPerSecond, meanMs, p50Ms, p90Ms, p95Ms, p99Ms, maxMs);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.globalcarelink.external.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.globalcarelink.external.FacilitySyncService;
+import com.globalcarelink.external.PublicDataApiClient;
+import com.globalcarelink.facility.MapBasedFacilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * 공공데이터 연동 부하 테스트 하네스 (loadtest 프로파일 전용)
+ * 애플리케이션 기동 후 로컬 대역 서버(PublicDataStubController)를 대상으로 다음 시나리오를 실행하고
+ * 처리량과 지연 시간 백분위수를 로그 및 JSON 보고서로 출력
+ * 1. PublicDataApiClient 엔드포인트별 호출 (요청마다 다른 캐시 키로 실제 호출 경로 측정)
+ * 2. FacilitySyncService 지역 동기화 (1회차 전체, 2회차부터 델타)
+ * 3. MapBasedFacilityService 지도 영역 검색
+ *
+ * 실행 예: ./gradlew bootRun --args='--spring.profiles.active=development,loadtest'
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class PublicDataLoadTestRunner {
+
+    private final PublicDataApiClient publicDataApiClient;
+    private final FacilitySyncService facilitySyncService;
+    private final MapBasedFacilityService mapBasedFacilityService;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    // PublicDataApiClient의 @Cacheable 캐시 (클라이언트 시나리오 전후로 비움)
+    private static final List<String> CLIENT_CACHES = List.of(
+            "ltciSearch", "ltciDetail", "facilityStatus", "hospitalSearch", "pharmacySearch");
+    private static final int SEARCH_PAGE_SIZE = 100;
+
+    @Value("${app.loadtest.run-on-startup:true}")
+    private boolean runOnStartup;
+
+    @Value("${app.loadtest.concurrency:16}")
+    private int concurrency;
+
+    @Value("${app.loadtest.client-requests:200}")
+    private int clientRequests;
+
+    @Value("${app.loadtest.sync-regions:서울특별시,부산광역시}")
+    private List<String> syncRegions;
+
+    @Value("${app.loadtest.sync-rounds:2}")
+    private int syncRounds;
+
+    @Value("${app.loadtest.map-requests:1000}")
+    private int mapRequests;
+
+    @Value("${app.loadtest.report-path:build/loadtest-report.json}")
+    private String reportPath;
+
+    @Value("${app.loadtest.seed:42}")
+    private long seed;
+
+    @Value("${app.loadtest.stub.facilities-per-region:500}")
+    private int stubFacilitiesPerRegion;
+
+    @Value("${app.loadtest.stub.medical-per-region:200}")
+    private int stubMedicalPerRegion;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        if (!runOnStartup) {
+            return;
+        }
+        Thread runner = new Thread(this::run, "loadtest-runner");
+        runner.setDaemon(true);
+        runner.start();
+    }
+
+    /**
+     * 전체 시나리오 실행
+     */
+    public Map<String, Object> run() {
+        log.info("=== 공공데이터 부하 테스트 시작 - 동시성: {}, 동기화 지역: {} ===", concurrency, syncRegions);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("concurrency", concurrency);
+
+        try {
+            report.put("client", runClientScenarios());
+            report.put("sync", runSyncScenario());
+            report.put("mapSearch", runMapSearchScenario());
+        } catch (Exception e) {
+            log.error("부하 테스트 실행 실패", e);
+            report.put("error", e.getMessage());
+        }
+
+        report.put("finishedAt", LocalDateTime.now().toString());
+        writeReport(report);
+
+        log.info("=== 공공데이터 부하 테스트 완료 ===");
+        return report;
+    }
+
+    // ===== 시나리오 =====
+
+    /**
+     * PublicDataApiClient 엔드포인트별 호출 지연/처리량
+     * 클라이언트 메서드는 @Cacheable이므로 요청마다 캐시 키가 겹치지 않게 구성 (캐시 적중이 아닌 API 호출을 측정)
+     * 검색은 (지역, 페이지) 조합이 대역 서버에 있는 페이지 수만큼만 있으므로 요청 수가 그보다 적을 수 있음
+     * 끝나면 캐시를 비워 동기화 시나리오가 여기서 받은 응답을 재사용하지 않도록 함
+     */
+    private List<LatencyRecorder.Summary> runClientScenarios() {
+        clearClientCaches();
+        String region = syncRegions.isEmpty() ? "서울특별시" : syncRegions.get(0);
+        String sidoCode = String.format("%02d", (int) PublicDataStubController.regionCenter(region)[0]);
+        List<String[]> ltciPages = searchPages(stubFacilitiesPerRegion);
+        List<String[]> medicalPages = searchPages(stubMedicalPerRegion);
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        summaries.add(runClientScenario("ltciSearch", ltciPages.size(), i -> publicDataApiClient
+                .searchLongTermCareInstitutions(ltciPages.get(i)[0], null, Integer.valueOf(ltciPages.get(i)[1]), SEARCH_PAGE_SIZE)));
+        summaries.add(runClientScenario("ltciDetail", clientRequests,
+                i -> publicDataApiClient.getLongTermCareInstitutionDetail(sidoCode + String.format("%09d", i))));
+        summaries.add(runClientScenario("facilityStatus", clientRequests,
+                i -> publicDataApiClient.getFacilityOperationStatus(sidoCode + String.format("%09d", i))));
+        summaries.add(runClientScenario("hospitalSearch", medicalPages.size(), i -> publicDataApiClient
+                .searchHospitals(medicalPages.get(i)[0], null, Integer.valueOf(medicalPages.get(i)[1]), SEARCH_PAGE_SIZE)));
+        summaries.add(runClientScenario("pharmacySearch", medicalPages.size(), i -> publicDataApiClient
+                .searchPharmacies(medicalPages.get(i)[0], Integer.valueOf(medicalPages.get(i)[1]), SEARCH_PAGE_SIZE)));
+        clearClientCaches();
+        return summaries;
+    }
+
+    /**
+     * 대역 서버에 실제로 있는 검색 페이지의 {지역, 페이지} 목록 (지역을 번갈아 가며 최대 clientRequests개)
+     */
+    private List<String[]> searchPages(int itemsPerRegion) {
+        List<String> regions = PublicDataStubController.regionNames();
+        int pagesPerRegion = Math.max(1, (itemsPerRegion + SEARCH_PAGE_SIZE - 1) / SEARCH_PAGE_SIZE);
+        List<String[]> pages = new ArrayList<>();
+        for (int page = 1; page <= pagesPerRegion && pages.size() < clientRequests; page++) {
+            for (int r = 0; r < regions.size() && pages.size() < clientRequests; r++) {
+                pages.add(new String[]{regions.get(r), String.valueOf(page)});
+            }
+        }
+        return pages;
+    }
+
+    private void clearClientCaches() {
+        for (String name : CLIENT_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private LatencyRecorder.Summary runClientScenario(String name, int requests, IntFunction<Mono<?>> call) {
+        if (requests < clientRequests) {
+            log.info("[client] {} - 서로 다른 캐시 키가 {}개뿐이므로 {}회만 호출", name, requests, requests);
+        }
+        LatencyRecorder recorder = new LatencyRecorder(name);
+        recorder.start();
+
+        Flux.range(0, requests)
+                .flatMap(i -> Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return call.apply(i)
+                            .doOnSuccess(response -> recorder.record(System.nanoTime() - start, true))
+                            .doOnError(e -> recorder.record(System.nanoTime() - start, false))
+                            .onErrorResume(e -> Mono.empty());
+                }), concurrency)
+                .blockLast();
+
+        recorder.stop();
+        LatencyRecorder.Summary summary = recorder.summarize();
+        log.info("[client] {}", summary);
+        return summary;
+    }
+
+    /**
+     * 지역 동기화 처리량 (회차별)
+     */
+    private List<Map<String, Object>> runSyncScenario() throws Exception {
+        List<Map<String, Object>> rounds = new ArrayList<>();
+
+        for (int round = 1; round <= syncRounds; round++) {
+            for (String region : syncRegions) {
+                long start = System.nanoTime();
+                FacilitySyncService.SyncResult result = facilitySyncService.syncFacilitiesByRegion(region).get();
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("round", round);
+                entry.put("region", region);
+                entry.put("found", result.getTotalFound());
+                entry.put("processed", result.getProcessedCount());
+                entry.put("unchanged", result.getUnchangedCount());
+                entry.put("errors", result.getErrorCount());
+                entry.put("writeBatches", result.getWriteBatchCount());
+                entry.put("durationMs", elapsedMs);
+                entry.put("facilitiesPerSecond", elapsedMs > 0 ? result.getHandledCount() * 1000.0 / elapsedMs : 0.0);
+                entry.put("errorMessage", result.getErrorMessage());
+                rounds.add(entry);
+
+                log.info("[sync] {}회차 {} - 검색: {}, 저장: {}, 변경 없음: {}, 오류: {}, 소요: {}ms, 처리량: {}건/초",
+                        round, region, result.getTotalFound(), result.getProcessedCount(), result.getUnchangedCount(),
+                        result.getErrorCount(), elapsedMs, String.format("%.1f", entry.get("facilitiesPerSecond")));
+            }
+        }
+        return rounds;
+    }
+
+    /**
+     * 동기화된 지역 주변의 임의 화면 영역으로 지도 검색 지연/처리량 측정
+     */
+    private LatencyRecorder.Summary runMapSearchScenario() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder("mapSearch");
+        Random random = new Random(seed);
+
+        // 요청별 화면 영역을 미리 생성하여 모든 실행에서 같은 순서로 재생
+        List<double[]> viewports = new ArrayList<>(mapRequests);
+        for (int i = 0; i < mapRequests; i++) {
+            double[] center = PublicDataStubController.regionCenter(syncRegions.get(i % syncRegions.size()));
+            double span = 0.01 + random.nextDouble() * 0.5;
+            double lat = center[1] + (random.nextDouble() - 0.5) * 0.2;
+            double lng = center[2] + (random.nextDouble() - 0.5) * 0.2;
+            viewports.add(new double[]{lat + span / 2, lng + span / 2, lat - span / 2, lng - span / 2});
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        recorder.start();
+        for (double[] viewport : viewports) {
+            executor.submit(() -> {
+                long start = System.nanoTime();
+                boolean success = true;
+                try {
+                    mapBasedFacilityService.searchFacilitiesInMapBounds(
+                            viewport[0], viewport[1], viewport[2], viewport[3], null, null, false, null);
+                } catch (Exception e) {
+                    success = false;
+                }
+                recorder.record(System.nanoTime() - start, success);
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        recorder.stop();
+
+        LatencyRecorder.Summary summary = recorder.summarize();
+        log.info("[map] {}", summary);
+        return summary;
+    }
+
+    private void writeReport(Map<String, Object> report) {
+        try {
+            File file = new File(reportPath);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+            log.info("부하 테스트 보고서 저장: {}", file.getAbsolutePath());
+        } catch (Exception e) {
+            log.warn("부하 테스트 보고서 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.globalcarelink.external.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 공공데이터 API 로컬 대역 서버 (loadtest 프로파일 전용)
+ * - 녹화된 응답(classpath:public-data-stub/*.json)을 템플릿으로 장기요양기관 검색/상세/운영상태, 병원, 약국 응답 재생
+ * - 지역별 시설 수(페이지 수), 응답 지연, 오류율을 설정으로 조절
+ * - 같은 지역/페이지 요청에는 항상 같은 기관 코드와 좌표를 생성하여 재현 가능한 부하 테스트 지원
+ * PublicDataApiClient의 base-url을 이 컨트롤러 경로로 지정하여 사용
+ */
+@RestController
+@RequestMapping("/api/test/public-data-stub")
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class PublicDataStubController {
+
+    private static final String FIXTURE_PATH = "public-data-stub/";
+
+    // 지역명 -> {시도 코드, 중심 위도, 중심 경도}
+    private static final Map<String, double[]> REGION_CENTERS = createRegionCenters();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.loadtest.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${app.loadtest.stub.latency-jitter-ms:30}")
+    private long latencyJitterMs;
+
+    @Value("${app.loadtest.stub.error-rate:0.0}")
+    private double errorRate;
+
+    // 지역별 장기요양기관 수 (페이지 수 = 기관 수 / numOfRows)
+    @Value("${app.loadtest.stub.facilities-per-region:500}")
+    private int facilitiesPerRegion;
+
+    // 지역별 병원/약국 수
+    @Value("${app.loadtest.stub.medical-per-region:200}")
+    private int medicalPerRegion;
+
+    // 기관별 좌표 분산 범위 (도)
+    @Value("${app.loadtest.stub.coordinate-spread:0.2}")
+    private double coordinateSpread;
+
+    @Value("${app.loadtest.stub.seed:20240101}")
+    private long seed;
+
+    private JsonNode ltciSearchFixture;
+    private JsonNode ltciDetailFixture;
+    private JsonNode facilityStatusFixture;
+    private JsonNode hospitalSearchFixture;
+    private JsonNode pharmacySearchFixture;
+
+    // 엔드포인트별 요청/주입 오류 수
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> injectedErrorCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void loadFixtures() throws IOException {
+        ltciSearchFixture = readFixture("ltci-search.json");
+        ltciDetailFixture = readFixture("ltci-detail.json");
+        facilityStatusFixture = readFixture("facility-status.json");
+        hospitalSearchFixture = readFixture("hospital-search.json");
+        pharmacySearchFixture = readFixture("pharmacy-search.json");
+
+        log.info("공공데이터 대역 서버 활성화 - 지역별 시설 수: {}, 지연: {}±{}ms, 오류율: {}",
+                facilitiesPerRegion, latencyMs, latencyJitterMs, errorRate);
+    }
+
+    // ===== 장기요양기관 API =====
+
+    @GetMapping("/B550928/searchLtcInsttService01/getLtcInsttSeachList01")
+    public Mono<ResponseEntity<JsonNode>> searchLongTermCareInstitutions(
+            @RequestParam(name = "siDo", required = false) String region,
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "100") int numOfRows) {
+
+        double[] center = regionCenter(region);
+        String sidoCode = String.format("%02d", (int) center[0]);
+
+        return respond("ltciSearch", () -> paginate(ltciSearchFixture, pageNo, numOfRows, facilitiesPerRegion,
+                (item, index) -> {
+                    Random random = itemRandom(sidoCode, index);
+                    String code = institutionCode(sidoCode, index);
+                    item.put("ltcInsttCd", code);
+                    item.put("ltcInsttNm", item.path("ltcInsttNm").asText() + " " + index + "호점");
+                    item.put("sidoCd", sidoCode);
+                    item.put("sidoNm", region);
+                    item.put("latitude", center[1] + (random.nextDouble() - 0.5) * coordinateSpread);
+                    item.put("longitude", center[2] + (random.nextDouble() - 0.5) * coordinateSpread);
+                    int capacity = 9 + random.nextInt(150);
+                    item.put("capacity", capacity);
+                    item.put("currentOccupancy", random.nextInt(capacity + 1));
+                    item.put("evaluationGrade", String.valueOf((char) ('A' + random.nextInt(5))));
+                }));
+    }
+
+    @GetMapping("/B550928/getLtcInsttDetailInfoService02/getLtcInsttDetailInfo02")
+    public Mono<ResponseEntity<JsonNode>> getLongTermCareInstitutionDetail(
+            @RequestParam(name = "ltcInsttCd") String institutionCode) {
+
+        return respond("ltciDetail", () -> {
+            ObjectNode response = ltciDetailFixture.deepCopy();
+            ObjectNode item = (ObjectNode) response.path("response").path("body").path("item");
+            item.put("ltcInsttCd", institutionCode);
+            return response;
+        });
+    }
+
+    @GetMapping("/B551182/yadmOpCloInfoService2/getYadmOpCloInfo2")
+    public Mono<ResponseEntity<JsonNode>> getFacilityOperationStatus(
+            @RequestParam(name = "ykiho") String institutionCode) {
+
+        return respond("facilityStatus", () -> {
+            ObjectNode response = facilityStatusFixture.deepCopy();
+            for (JsonNode item : response.path("response").path("body").path("items")) {
+                ((ObjectNode) item).put("ykiho", institutionCode);
+            }
+            return response;
+        });
+    }
+
+    // ===== 병원/약국 API =====
+
+    @GetMapping("/B551182/hospInfoServicev2/getHospBasisList2")
+    public Mono<ResponseEntity<JsonNode>> searchHospitals(
+            @RequestParam(name = "sidoCd", required = false) String region,
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "100") int numOfRows) {
+
+        return respond("hospitalSearch", () -> paginate(hospitalSearchFixture, pageNo, numOfRows, medicalPerRegion,
+                (item, index) -> {
+                    item.put("ykiho", "STUB-H-" + region + "-" + index);
+                    item.put("yadmNm", item.path("yadmNm").asText() + " " + index);
+                }));
+    }
+
+    @GetMapping("/B552657/ErmctInsttInfoInqireService/getParmacyListInfoInqire")
+    public Mono<ResponseEntity<JsonNode>> searchPharmacies(
+            @RequestParam(name = "Q0", required = false) String region,
+            @RequestParam(defaultValue = "1") int pageNo,
+            @RequestParam(defaultValue = "100") int numOfRows) {
+
+        double[] center = regionCenter(region);
+        String sidoCode = String.format("%02d", (int) center[0]);
+
+        return respond("pharmacySearch", () -> paginate(pharmacySearchFixture, pageNo, numOfRows, medicalPerRegion,
+                (item, index) -> {
+                    Random random = itemRandom("P" + sidoCode, index);
+                    item.put("dutyName", item.path("dutyName").asText() + " " + index);
+                    item.put("Q0", region);
+                    item.put("wgs84Lat", center[1] + (random.nextDouble() - 0.5) * coordinateSpread);
+                    item.put("wgs84Lon", center[2] + (random.nextDouble() - 0.5) * coordinateSpread);
+                }));
+    }
+
+    /**
+     * 대역 서버 요청 통계 (엔드포인트별 요청 수, 주입된 오류 수)
+     */
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        requestCounts.forEach((endpoint, count) -> stats.put(endpoint, Map.of(
+                "requests", count.get(),
+                "injectedErrors", injectedErrorCounts.getOrDefault(endpoint, new AtomicLong()).get())));
+        return stats;
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    /**
+     * 설정된 지연 후 응답, 오류율에 따라 500 오류 주입
+     */
+    private Mono<ResponseEntity<JsonNode>> respond(String endpoint, Supplier<JsonNode> body) {
+        requestCounts.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMs + (latencyJitterMs > 0 ? random.nextLong(latencyJitterMs + 1) : 0);
+        boolean fail = errorRate > 0 && random.nextDouble() < errorRate;
+
+        Mono<ResponseEntity<JsonNode>> response = Mono.fromSupplier(() -> {
+            if (fail) {
+                injectedErrorCounts.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorBody());
+            }
+            return ResponseEntity.ok(body.get());
+        });
+
+        return delay > 0 ? Mono.delay(Duration.ofMillis(delay)).then(response) : response;
+    }
+
+    /**
+     * 녹화된 응답의 항목을 순환 복제하여 요청 페이지 구성
+     */
+    private JsonNode paginate(JsonNode fixture, int pageNo, int numOfRows, int totalCount, ItemCustomizer customizer) {
+        ObjectNode response = fixture.deepCopy();
+        ObjectNode body = (ObjectNode) response.path("response").path("body");
+        JsonNode templates = fixture.path("response").path("body").path("items");
+
+        ArrayNode items = objectMapper.createArrayNode();
+        int rows = Math.max(1, numOfRows);
+        int start = (Math.max(1, pageNo) - 1) * rows;
+        int end = Math.min(totalCount, start + rows);
+        for (int index = start; index < end; index++) {
+            ObjectNode item = templates.get(index % templates.size()).deepCopy();
+            customizer.customize(item, index);
+            items.add(item);
+        }
+
+        body.set("items", items);
+        body.put("numOfRows", rows);
+        body.put("pageNo", pageNo);
+        body.put("totalCount", totalCount);
+        return response;
+    }
+
+    private JsonNode errorBody() {
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode header = response.putObject("response").putObject("header");
+        header.put("resultCode", "99");
+        header.put("resultMsg", "STUB INJECTED ERROR");
+        return response;
+    }
+
+    private JsonNode readFixture(String name) throws IOException {
+        try (InputStream input = new ClassPathResource(FIXTURE_PATH + name).getInputStream()) {
+            return objectMapper.readTree(input);
+        }
+    }
+
+    private Random itemRandom(String key, int index) {
+        return new Random(seed ^ ((long) key.hashCode() << 32) ^ index);
+    }
+
+    private static String institutionCode(String sidoCode, int index) {
+        return sidoCode + String.format("%09d", index);
+    }
+
+    /**
+     * 지역의 {시도 코드, 중심 위도, 중심 경도} (알 수 없는 지역은 서울)
+     */
+    static double[] regionCenter(String region) {
+        return region != null ? REGION_CENTERS.getOrDefault(region, REGION_CENTERS.get("서울특별시"))
+                : REGION_CENTERS.get("서울특별시");
+    }
+
+    /**
+     * 대역 서버가 아는 지역 이름 (시도 코드 순)
+     */
+    static List<String> regionNames() {
+        return REGION_CENTERS.entrySet().stream()
+                .sorted(Comparator.comparingDouble(entry -> entry.getValue()[0]))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, double[]> createRegionCenters() {
+        Map<String, double[]> map = new ConcurrentHashMap<>();
+        map.put("서울특별시", new double[]{11, 37.5665, 126.9780});
+        map.put("부산광역시", new double[]{26, 35.1796, 129.0756});
+        map.put("대구광역시", new double[]{27, 35.8714, 128.6014});
+        map.put("인천광역시", new double[]{28, 37.4563, 126.7052});
+        map.put("광주광역시", new double[]{29, 35.1595, 126.8526});
+        map.put("대전광역시", new double[]{30, 36.3504, 127.3845});
+        map.put("울산광역시", new double[]{31, 35.5384, 129.3114});
+        map.put("세종특별자치시", new double[]{36, 36.4800, 127.2890});
+        map.put("경기도", new double[]{41, 37.4138, 127.5183});
+        map.put("강원특별자치도", new double[]{42, 37.8228, 128.1555});
+        map.put("충청북도", new double[]{43, 36.6357, 127.4917});
+        map.put("충청남도", new double[]{44, 36.5184, 126.8000});
+        map.put("전북특별자치도", new double[]{45, 35.7175, 127.1530});
+        map.put("전라남도", new double[]{46, 34.8679, 126.9910});
+        map.put("경상북도", new double[]{47, 36.4919, 128.8889});
+        map.put("경상남도", new double[]{48, 35.4606, 128.2132});
+        map.put("제주특별자치도", new double[]{50, 33.4890, 126.4983});
+        return map;
+    }
+
+    @FunctionalInterface
+    private interface ItemCustomizer {
+        void customize(ObjectNode item, int index);
+    }
+}
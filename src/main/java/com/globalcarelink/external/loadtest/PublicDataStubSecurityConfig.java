@@ -0,0 +1,20 @@
+package com.globalcarelink.external.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+
+/**
+ * 공공데이터 대역 서버 보안 설정 (loadtest 프로파일 전용)
+ * 대역 서버 경로는 보안 필터 체인을 거치지 않도록 제외하여 부하 측정에 인증/인가 비용이 섞이지 않게 함
+ */
+@Configuration
+@Profile("loadtest")
+public class PublicDataStubSecurityConfig {
+
+    @Bean
+    public WebSecurityCustomizer publicDataStubSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers("/api/test/public-data-stub/**");
+    }
+}
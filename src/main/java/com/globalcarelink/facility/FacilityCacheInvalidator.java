@@ -0,0 +1,337 @@
+package com.globalcarelink.facility;
+
+import com.globalcarelink.common.cache.TwoLevelCache;
+import com.globalcarelink.common.cache.TwoLevelCacheManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 시설 캐시 선별 무효화
+ * - 목록 캐시(facility-profiles의 지역/유형/등급/케어 등급/전문 분야/입주 가능 목록)는 키가 시설 속성으로 정해지므로
+ *   변경 전 스냅샷으로 시설이 들어 있던 목록, 변경 후 스냅샷으로 새로 들어갈 목록을 계산해 그 키만 삭제
+ * - 조건 검색/페이징 캐시는 적재 시 조회 조건(지역/유형/등급/케어 등급)을 태그로 기록하고,
+ *   변경 전/후 시설이 조건에 해당하는 항목만 삭제 (키가 노드마다 다르므로 태그 단위로 다른 노드에 전파)
+ * - 통계 캐시는 변경 전/후 값을 비교해 실제로 달라지는 통계(지역별/유형별/등급별/요약/전체)만 삭제
+ * - 트랜잭션 안에서 호출하면 커밋 후 삭제하여 커밋 전 값이 다시 적재되지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FacilityCacheInvalidator {
+
+    public static final String PROFILE_CACHE = "facility-profiles";
+    public static final String STATISTICS_CACHE = "facility-statistics";
+    public static final String PAGE_CACHE = "facility-profiles-page";
+    public static final String REGION_CACHE = "facility-profiles-by-region";
+    public static final String CARE_GRADE_CACHE = "facility-profiles-by-care-grade";
+
+    private static final List<String> FILTERED_CACHE_NAMES = List.of(PAGE_CACHE, REGION_CACHE, CARE_GRADE_CACHE);
+
+    private static final String STATS_BY_REGION = "by_region";
+    private static final String STATS_BY_TYPE = "by_type";
+    private static final String STATS_BY_GRADE = "by_grade";
+    private static final String STATS_SUMMARY = "summary";
+    private static final String STATS_OVERVIEW = "overview";
+    private static final List<String> ALL_STATISTICS_KEYS =
+            List.of(STATS_BY_REGION, STATS_BY_TYPE, STATS_BY_GRADE, STATS_SUMMARY, STATS_OVERVIEW);
+
+    private static final String FILTER_TAG_PREFIX = "facility-filter:";
+    private static final String ANY = "*";
+
+    // 전문 분야 -> facility-profiles 목록 키
+    private static final Map<String, String> SPECIALIZATION_LIST_KEYS = Map.of(
+            "dementia", "dementia_specialized",
+            "medical", "medical_specialized",
+            "rehabilitation", "rehabilitation_specialized",
+            "hospice", "hospice_specialized");
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 조회 조건으로 적재한 캐시 항목 기록 (null 조건은 해당 항목 전체 대상)
+     */
+    public void trackFilteredEntry(String cacheName, Object key,
+                                   String region, String facilityType, String grade, Integer careGrade) {
+        if (cacheManager.getCache(cacheName) instanceof TwoLevelCache cache) {
+            cache.tag(key, List.of(filterTag(region, facilityType, grade, careGrade)));
+        }
+    }
+
+    /**
+     * 시설 한 건 변경 반영 (생성: before == null, 삭제: after == null)
+     */
+    public void evict(CacheSnapshot before, CacheSnapshot after) {
+        List<CacheSnapshot> previous = new ArrayList<>(1);
+        List<CacheSnapshot> current = new ArrayList<>(1);
+        if (before != null) {
+            previous.add(before);
+        }
+        if (after != null) {
+            current.add(after);
+        }
+        evict(previous, current);
+    }
+
+    /**
+     * 여러 시설 변경 반영 (통계는 변경 전/후 스냅샷을 시설 ID로 짝지어 비교)
+     */
+    public void evict(Collection<CacheSnapshot> before, Collection<CacheSnapshot> after) {
+        if (before.isEmpty() && after.isEmpty()) {
+            return;
+        }
+
+        Set<String> profileKeys = new LinkedHashSet<>();
+        Set<String> filterTags = new LinkedHashSet<>();
+        for (Collection<CacheSnapshot> snapshots : List.of(before, after)) {
+            for (CacheSnapshot snapshot : snapshots) {
+                collectProfileKeys(snapshot, profileKeys);
+                collectFilterTags(snapshot, filterTags);
+            }
+        }
+
+        // 같은 시설이 여러 번 변경되었으면 최초 변경 전 값과 마지막 변경 후 값을 비교
+        Map<Long, CacheSnapshot> previousById = indexById(before, true);
+        Map<Long, CacheSnapshot> currentById = indexById(after, false);
+        Set<Long> facilityIds = new LinkedHashSet<>(previousById.keySet());
+        facilityIds.addAll(currentById.keySet());
+
+        Set<String> statisticsKeys = new LinkedHashSet<>();
+        for (Long facilityId : facilityIds) {
+            collectStatisticsKeys(previousById.get(facilityId), currentById.get(facilityId), statisticsKeys);
+        }
+
+        runAfterCommit(() -> {
+            evictKeys(PROFILE_CACHE, profileKeys);
+            int filteredEvicted = evictFiltered(filterTags);
+            evictKeys(STATISTICS_CACHE, statisticsKeys);
+            log.debug("시설 캐시 선별 무효화 - 시설: {}, 목록 키: {}, 조건 검색 항목: {}, 통계: {}",
+                    facilityIds.size(), profileKeys.size(), filteredEvicted, statisticsKeys);
+        });
+    }
+
+    /**
+     * 시설 관련 캐시 전체 삭제 (관리자 수동 초기화용, 데이터 변경 경로에서는 사용하지 않음)
+     */
+    public void evictAll() {
+        List<String> cacheNames = new ArrayList<>(FILTERED_CACHE_NAMES);
+        cacheNames.add(PROFILE_CACHE);
+        cacheNames.add(STATISTICS_CACHE);
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    // ===== 무효화 대상 계산 =====
+
+    /**
+     * 시설이 포함되는 facility-profiles 항목 키 (ID 단건 응답/엔티티, 코드 단건 + 속성으로 정해지는 목록)
+     */
+    private void collectProfileKeys(CacheSnapshot snapshot, Set<String> keys) {
+        if (snapshot.getId() != null) {
+            keys.add(String.valueOf(snapshot.getId()));
+            keys.add("entity_" + snapshot.getId());
+        }
+        if (snapshot.getFacilityCode() != null) {
+            keys.add("code_" + snapshot.getFacilityCode());
+        }
+        keys.add("region_" + snapshot.getRegion());
+        keys.add("type_" + snapshot.getFacilityType());
+        keys.add("grade_" + snapshot.getFacilityGrade());
+        for (Integer careGrade : snapshot.getCareGrades()) {
+            keys.add("care_grade_" + careGrade);
+        }
+        for (String specialization : snapshot.getSpecializations()) {
+            String listKey = SPECIALIZATION_LIST_KEYS.get(specialization);
+            if (listKey != null) {
+                keys.add(listKey);
+            }
+        }
+        if (snapshot.isAvailable()) {
+            keys.add("available");
+        }
+        if (snapshot.isOverseasKoreanFriendly()) {
+            keys.add("overseas_korean_friendly");
+        }
+    }
+
+    /**
+     * 시설을 결과에 포함할 수 있는 모든 조회 조건 태그 (각 조건은 시설 값 또는 전체)
+     * 포함 여부뿐 아니라 정렬 위치가 바뀌어도 같은 조건의 다른 페이지가 달라지므로 조건 단위로 삭제
+     */
+    private void collectFilterTags(CacheSnapshot snapshot, Set<String> tags) {
+        List<Integer> careGrades = new ArrayList<>();
+        careGrades.add(null);
+        careGrades.addAll(snapshot.getCareGrades());
+
+        for (String region : new String[] {snapshot.getRegion(), null}) {
+            for (String facilityType : new String[] {snapshot.getFacilityType(), null}) {
+                for (String grade : new String[] {snapshot.getFacilityGrade(), null}) {
+                    for (Integer careGrade : careGrades) {
+                        tags.add(filterTag(region, facilityType, grade, careGrade));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 변경 전/후 값이 달라지는 통계 항목 (생성/삭제는 모든 통계)
+     */
+    private void collectStatisticsKeys(CacheSnapshot previous, CacheSnapshot current, Set<String> keys) {
+        if (previous == null || current == null) {
+            keys.addAll(ALL_STATISTICS_KEYS);
+            return;
+        }
+        if (!Objects.equals(previous.getRegion(), current.getRegion())) {
+            keys.add(STATS_BY_REGION);
+        }
+        if (!Objects.equals(previous.getFacilityType(), current.getFacilityType())) {
+            keys.add(STATS_BY_TYPE);
+        }
+        if (!Objects.equals(previous.getFacilityGrade(), current.getFacilityGrade())) {
+            keys.add(STATS_BY_GRADE);
+        }
+        // 요약은 위 통계와 입주 가능 수, 평균 월 기본료를 포함
+        if (!keys.isEmpty()
+                || previous.isAvailable() != current.isAvailable()
+                || !Objects.equals(previous.getMonthlyBasicFee(), current.getMonthlyBasicFee())) {
+            keys.add(STATS_SUMMARY);
+        }
+        // 전체 통계는 요약 항목에 더해 운영 시설 수, 가용 침대 수, 정원(점유율)을 포함
+        if (keys.contains(STATS_SUMMARY)
+                || previous.isActive() != current.isActive()
+                || !Objects.equals(previous.getAvailableBeds(), current.getAvailableBeds())
+                || !Objects.equals(previous.getTotalCapacity(), current.getTotalCapacity())) {
+            keys.add(STATS_OVERVIEW);
+        }
+    }
+
+    private String filterTag(String region, String facilityType, String grade, Integer careGrade) {
+        return FILTER_TAG_PREFIX
+                + (region != null ? region : ANY) + "/"
+                + (facilityType != null ? facilityType : ANY) + "/"
+                + (grade != null ? grade : ANY) + "/"
+                + (careGrade != null ? careGrade : ANY);
+    }
+
+    // ===== 삭제 실행 =====
+
+    private void evictKeys(String cacheName, Set<String> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(cache::evict);
+    }
+
+    private int evictFiltered(Set<String> tags) {
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            return twoLevelCacheManager.evictTagged(tags);
+        }
+
+        // 태그를 지원하지 않는 캐시 매니저는 조건 검색 캐시 전체 삭제
+        for (String cacheName : FILTERED_CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        return -1;
+    }
+
+    private void runAfterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private Map<Long, CacheSnapshot> indexById(Collection<CacheSnapshot> snapshots, boolean keepFirst) {
+        Map<Long, CacheSnapshot> byId = new HashMap<>();
+        for (CacheSnapshot snapshot : snapshots) {
+            if (snapshot.getId() == null) {
+                continue;
+            }
+            if (keepFirst) {
+                byId.putIfAbsent(snapshot.getId(), snapshot);
+            } else {
+                byId.put(snapshot.getId(), snapshot);
+            }
+        }
+        return byId;
+    }
+
+    /**
+     * 캐시 무효화 판단에 필요한 시설 속성 (변경 전 값 보존용, 불변)
+     * 케어 등급/전문 분야 컬렉션을 복사하므로 트랜잭션 안에서 생성해야 함
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CacheSnapshot {
+        private final Long id;
+        private final String facilityCode;
+        private final String region;
+        private final String facilityType;
+        private final String facilityGrade;
+        private final Set<Integer> careGrades;
+        private final Set<String> specializations;
+        private final boolean available;
+        private final boolean overseasKoreanFriendly;
+        private final Integer monthlyBasicFee;
+        private final Integer totalCapacity;
+        private final Integer availableBeds;
+        private final boolean active;
+
+        public static CacheSnapshot from(FacilityProfile facility) {
+            boolean available = facility.getTotalCapacity() != null && facility.getCurrentOccupancy() != null
+                    && facility.getTotalCapacity() > facility.getCurrentOccupancy();
+
+            // FacilityProfileRepository.findOverseasKoreanFriendlyFacilities 조건과 동일
+            boolean overseasKoreanFriendly = available
+                    && ("A".equals(facility.getFacilityGrade()) || "B".equals(facility.getFacilityGrade()))
+                    && (Boolean.TRUE.equals(facility.getHasDoctor()) || Boolean.TRUE.equals(facility.getHasNurse24h()))
+                    && (Boolean.TRUE.equals(facility.getNearSubway()) || Boolean.TRUE.equals(facility.getNearHospital()))
+                    && ("정상".equals(facility.getBusinessStatus()) || "운영중".equals(facility.getBusinessStatus()));
+
+            return new CacheSnapshot(
+                    facility.getId(),
+                    facility.getFacilityCode(),
+                    facility.getRegion(),
+                    facility.getFacilityType(),
+                    facility.getFacilityGrade(),
+                    facility.getAcceptableCareGrades() != null ? Set.copyOf(facility.getAcceptableCareGrades()) : Set.of(),
+                    facility.getSpecializations() != null ? Set.copyOf(facility.getSpecializations()) : Set.of(),
+                    available,
+                    overseasKoreanFriendly,
+                    facility.getMonthlyBasicFee(),
+                    facility.getTotalCapacity(),
+                    facility.getAvailableBeds(),
+                    Boolean.TRUE.equals(facility.getIsActive()));
+        }
+    }
+}
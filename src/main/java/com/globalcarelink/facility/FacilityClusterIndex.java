@@ -0,0 +1,384 @@
+package com.globalcarelink.facility;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시설 지도 클러스터 피라미드
+ * - 줌 레벨별로 화면 픽셀 반경 크기의 메르카토르 격자 셀에 시설 집계(개수, 중심점, 가용 침상, 등급 분포)를 미리 계산
+ * - 시설 추가/이동/삭제 시 각 레벨의 해당 셀만 갱신 (레벨 수만큼의 O(1) 연산)
+ * - 지도 조회 시 화면 영역에 걸친 셀만 읽어 클러스터 반환
+ *   (영역 안에 완전히 들어온 셀은 미리 계산된 집계, 경계에 걸친 셀은 영역 안 시설만 즉석 집계)
+ * FacilitySpatialIndex가 변경될 때 함께 갱신됨
+ */
+@Component
+@Slf4j
+public class FacilityClusterIndex {
+
+    private static final int TILE_SIZE = 256;
+    private static final String[] GRADES = {"A", "B", "C", "D", "E"};
+    private static final String UNGRADED = "미등급";
+
+    @Getter
+    @Value("${app.facility.cluster.min-zoom:5}")
+    private int minZoom;
+
+    @Getter
+    @Value("${app.facility.cluster.max-zoom:16}")
+    private int maxZoom;
+
+    @Value("${app.facility.cluster.radius-px:60}")
+    private int radiusPx;
+
+    // 줌 레벨 -> (셀 키 -> 집계)
+    private final Map<Integer, Map<Long, ClusterCell>> levels = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 피라미드 재구성
+     */
+    public synchronized void rebuild(Collection<FacilitySpatialIndex.FacilitySnapshot> facilities) {
+        long startTime = System.currentTimeMillis();
+
+        levels.clear();
+        for (FacilitySpatialIndex.FacilitySnapshot facility : facilities) {
+            add(facility);
+        }
+
+        log.info("시설 클러스터 피라미드 구성 완료 - 시설 수: {}, 줌 레벨: {}~{}, 소요시간: {}ms",
+                facilities.size(), minZoom, maxZoom, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 시설을 모든 줌 레벨의 셀에 반영
+     */
+    public synchronized void add(FacilitySpatialIndex.FacilitySnapshot facility) {
+        applyToLevels(facility, 1);
+    }
+
+    /**
+     * 시설을 모든 줌 레벨의 셀에서 제거
+     */
+    public synchronized void remove(FacilitySpatialIndex.FacilitySnapshot facility) {
+        applyToLevels(facility, -1);
+    }
+
+    /**
+     * 화면 영역 내 클러스터 조회
+     * 영역 안에 완전히 들어온 셀은 미리 계산된 집계를 그대로 쓰고,
+     * 경계에 걸친 셀은 경계 띠 영역의 시설을 조회해 영역 안 시설만으로 다시 집계
+     * (셀 중심점이 영역 밖이어도 영역 안 시설은 빠지지 않고, 영역 밖 시설은 개수에 섞이지 않음)
+     *
+     * @param edgeFacilities 경계 띠 영역(남서/북동 좌표) 내 시설 조회
+     */
+    public List<Cluster> getClusters(double swLat, double swLng, double neLat, double neLng, int zoom,
+                                     BoundsQuery edgeFacilities) {
+        int level = clampZoom(zoom);
+        Map<Long, ClusterCell> cells = levels.get(level);
+        if (cells == null || cells.isEmpty()) {
+            return List.of();
+        }
+
+        double south = Math.min(swLat, neLat);
+        double north = Math.max(swLat, neLat);
+        double west = Math.min(swLng, neLng);
+        double east = Math.max(swLng, neLng);
+
+        long gridSize = gridSize(level);
+        long minX = cellCoordinate(lngToX(west), gridSize);
+        long maxX = cellCoordinate(lngToX(east), gridSize);
+        long minY = cellCoordinate(latToY(north), gridSize);
+        long maxY = cellCoordinate(latToY(south), gridSize);
+
+        // 영역 안에 완전히 들어온 셀 범위 (Y는 북쪽이 작음)
+        long innerMinX = xToLng((double) minX / gridSize) >= west ? minX : minX + 1;
+        long innerMaxX = xToLng((double) (maxX + 1) / gridSize) <= east ? maxX : maxX - 1;
+        long innerMinY = yToLat((double) minY / gridSize) <= north ? minY : minY + 1;
+        long innerMaxY = yToLat((double) (maxY + 1) / gridSize) >= south ? maxY : maxY - 1;
+        boolean hasInner = innerMinX <= innerMaxX && innerMinY <= innerMaxY;
+
+        List<Cluster> clusters = new ArrayList<>();
+
+        if (hasInner) {
+            // 영역 셀 수가 저장된 셀 수보다 많으면 저장된 셀을 순회
+            if ((innerMaxX - innerMinX + 1) * (innerMaxY - innerMinY + 1) > cells.size()) {
+                for (Map.Entry<Long, ClusterCell> entry : cells.entrySet()) {
+                    long x = entry.getKey() & 0xFFFFFFFFL;
+                    long y = entry.getKey() >>> 32;
+                    if (x >= innerMinX && x <= innerMaxX && y >= innerMinY && y <= innerMaxY) {
+                        clusters.add(entry.getValue().toCluster());
+                    }
+                }
+            } else {
+                for (long y = innerMinY; y <= innerMaxY; y++) {
+                    for (long x = innerMinX; x <= innerMaxX; x++) {
+                        ClusterCell cell = cells.get(cellKey(x, y));
+                        if (cell != null) {
+                            clusters.add(cell.toCluster());
+                        }
+                    }
+                }
+            }
+        }
+
+        // 경계 셀 - 안쪽 셀 범위를 둘러싼 띠(북/남/서/동)의 시설 중 경계 셀에 속한 시설만 즉석 집계
+        List<double[]> strips = new ArrayList<>(4);
+        if (!hasInner) {
+            strips.add(new double[]{south, west, north, east});
+        } else {
+            double innerNorth = yToLat((double) innerMinY / gridSize);
+            double innerSouth = yToLat((double) (innerMaxY + 1) / gridSize);
+            double innerWest = xToLng((double) innerMinX / gridSize);
+            double innerEast = xToLng((double) (innerMaxX + 1) / gridSize);
+            if (innerNorth < north) {
+                strips.add(new double[]{innerNorth, west, north, east});
+            }
+            if (innerSouth > south) {
+                strips.add(new double[]{south, west, innerSouth, east});
+            }
+            if (innerWest > west) {
+                strips.add(new double[]{innerSouth, west, innerNorth, innerWest});
+            }
+            if (innerEast < east) {
+                strips.add(new double[]{innerSouth, innerEast, innerNorth, east});
+            }
+        }
+
+        Map<Long, FacilitySpatialIndex.FacilitySnapshot> edgeById = new LinkedHashMap<>();
+        for (double[] strip : strips) {
+            for (FacilitySpatialIndex.FacilitySnapshot facility
+                    : edgeFacilities.findWithinBounds(strip[0], strip[1], strip[2], strip[3])) {
+                long x = cellCoordinate(lngToX(facility.getLongitude()), gridSize);
+                long y = cellCoordinate(latToY(facility.getLatitude()), gridSize);
+                boolean inner = hasInner && x >= innerMinX && x <= innerMaxX && y >= innerMinY && y <= innerMaxY;
+                if (!inner) {
+                    edgeById.put(facility.getFacilityId(), facility);
+                }
+            }
+        }
+        clusters.addAll(cluster(edgeById.values(), level));
+
+        return clusters;
+    }
+
+    /**
+     * 임의의 시설 목록을 같은 격자 규칙으로 즉석 클러스터링 (필터가 적용된 검색용)
+     */
+    public List<Cluster> cluster(Collection<FacilitySpatialIndex.FacilitySnapshot> facilities, int zoom) {
+        int level = clampZoom(zoom);
+        long gridSize = gridSize(level);
+
+        Map<Long, ClusterCell> cells = new LinkedHashMap<>();
+        for (FacilitySpatialIndex.FacilitySnapshot facility : facilities) {
+            double x = lngToX(facility.getLongitude());
+            double y = latToY(facility.getLatitude());
+            long key = cellKey(cellCoordinate(x, gridSize), cellCoordinate(y, gridSize));
+            cells.put(key, ClusterCell.apply(cells.get(key), facility, x, y, 1));
+        }
+
+        List<Cluster> clusters = new ArrayList<>(cells.size());
+        for (ClusterCell cell : cells.values()) {
+            clusters.add(cell.toCluster());
+        }
+        return clusters;
+    }
+
+    /**
+     * 클러스터링이 적용되는 줌 레벨인지 확인 (최대 줌 초과 시 개별 마커 표시)
+     */
+    public boolean isClusteredZoom(int zoom) {
+        return zoom <= maxZoom;
+    }
+
+    /**
+     * 화면 영역과 화면 폭(px)으로 줌 레벨 추정
+     */
+    public int estimateZoom(double swLng, double neLng, int viewportWidthPx) {
+        double lngSpan = Math.abs(neLng - swLng);
+        if (lngSpan <= 0) {
+            return maxZoom + 1;
+        }
+        return (int) Math.floor(Math.log(360.0 * viewportWidthPx / (TILE_SIZE * lngSpan)) / Math.log(2));
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private void applyToLevels(FacilitySpatialIndex.FacilitySnapshot facility, int delta) {
+        double x = lngToX(facility.getLongitude());
+        double y = latToY(facility.getLatitude());
+
+        for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+            long gridSize = gridSize(zoom);
+            long key = cellKey(cellCoordinate(x, gridSize), cellCoordinate(y, gridSize));
+
+            Map<Long, ClusterCell> cells = levels.computeIfAbsent(zoom, z -> new ConcurrentHashMap<>());
+            cells.compute(key, (k, cell) -> ClusterCell.apply(cell, facility, x, y, delta));
+        }
+    }
+
+    private int clampZoom(int zoom) {
+        return Math.max(minZoom, Math.min(maxZoom, zoom));
+    }
+
+    /**
+     * 줌 레벨의 축당 셀 수 (셀 한 변이 화면상 radiusPx 픽셀)
+     */
+    private long gridSize(int zoom) {
+        return (long) Math.ceil((double) TILE_SIZE * (1L << zoom) / radiusPx);
+    }
+
+    private static long cellCoordinate(double mercator, long gridSize) {
+        return Math.min(gridSize - 1, Math.max(0, (long) Math.floor(mercator * gridSize)));
+    }
+
+    private static long cellKey(long x, long y) {
+        return (y << 32) | (x & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 경도 -> 메르카토르 X (0~1)
+     */
+    private static double lngToX(double lng) {
+        return lng / 360.0 + 0.5;
+    }
+
+    /**
+     * 위도 -> 메르카토르 Y (0~1, 북쪽이 0)
+     */
+    private static double latToY(double lat) {
+        double sin = Math.sin(Math.toRadians(lat));
+        double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+        return Math.max(0, Math.min(1, y));
+    }
+
+    private static double xToLng(double x) {
+        return (x - 0.5) * 360.0;
+    }
+
+    private static double yToLat(double y) {
+        double y2 = (180 - y * 360) * Math.PI / 180;
+        return 360 * Math.atan(Math.exp(y2)) / Math.PI - 90;
+    }
+
+    private static int gradeIndex(String grade) {
+        if (grade != null) {
+            for (int i = 0; i < GRADES.length; i++) {
+                if (GRADES[i].equals(grade)) {
+                    return i;
+                }
+            }
+        }
+        return GRADES.length;
+    }
+
+    // ===== 내부 클래스 =====
+
+    /**
+     * 영역(남서/북동 좌표) 내 시설 조회
+     */
+    @FunctionalInterface
+    public interface BoundsQuery {
+        Collection<FacilitySpatialIndex.FacilitySnapshot> findWithinBounds(double swLat, double swLng,
+                                                                          double neLat, double neLng);
+    }
+
+    /**
+     * 셀 집계 (불변, 갱신 시 새 인스턴스로 교체)
+     * 시설 ID 합계를 유지하여 시설이 하나만 남은 셀에서 해당 시설 ID를 바로 얻음
+     */
+    private static class ClusterCell {
+        private final int count;
+        private final double sumX;
+        private final double sumY;
+        private final int availableBeds;
+        private final long facilityIdSum;
+        private final int[] gradeCounts;
+
+        private ClusterCell(int count, double sumX, double sumY, int availableBeds, long facilityIdSum, int[] gradeCounts) {
+            this.count = count;
+            this.sumX = sumX;
+            this.sumY = sumY;
+            this.availableBeds = availableBeds;
+            this.facilityIdSum = facilityIdSum;
+            this.gradeCounts = gradeCounts;
+        }
+
+        /**
+         * 시설 추가(delta=1) 또는 제거(delta=-1) 결과 셀 반환, 빈 셀이면 null
+         */
+        static ClusterCell apply(ClusterCell cell, FacilitySpatialIndex.FacilitySnapshot facility,
+                                 double x, double y, int delta) {
+            int[] gradeCounts = cell != null ? cell.gradeCounts.clone() : new int[GRADES.length + 1];
+            gradeCounts[gradeIndex(facility.getFacilityGrade())] += delta;
+
+            int count = (cell != null ? cell.count : 0) + delta;
+            if (count <= 0) {
+                return null;
+            }
+
+            return new ClusterCell(
+                    count,
+                    (cell != null ? cell.sumX : 0) + delta * x,
+                    (cell != null ? cell.sumY : 0) + delta * y,
+                    (cell != null ? cell.availableBeds : 0) + delta * facility.getAvailableBeds(),
+                    (cell != null ? cell.facilityIdSum : 0) + delta * facility.getFacilityId(),
+                    gradeCounts);
+        }
+
+        Cluster toCluster() {
+            Map<String, Long> gradeDistribution = new LinkedHashMap<>();
+            for (int i = 0; i < gradeCounts.length; i++) {
+                if (gradeCounts[i] > 0) {
+                    String grade = i < GRADES.length ? GRADES[i] + "등급" : UNGRADED;
+                    gradeDistribution.put(grade, (long) gradeCounts[i]);
+                }
+            }
+
+            return new Cluster(
+                    yToLat(sumY / count),
+                    xToLng(sumX / count),
+                    count,
+                    availableBeds,
+                    gradeDistribution,
+                    count == 1 ? facilityIdSum : null);
+        }
+    }
+
+    /**
+     * 클러스터 조회 결과
+     */
+    @Getter
+    public static class Cluster {
+        private final double latitude;
+        private final double longitude;
+        private final int count;
+        private final int availableBeds;
+        private final Map<String, Long> gradeDistribution;
+        private final Long facilityId; // 단일 시설 셀인 경우에만 존재
+
+        Cluster(double latitude, double longitude, int count, int availableBeds,
+                Map<String, Long> gradeDistribution, Long facilityId) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.count = count;
+            this.availableBeds = availableBeds;
+            this.gradeDistribution = gradeDistribution;
+            this.facilityId = facilityId;
+        }
+
+        public String getDominantGrade() {
+            return gradeDistribution.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse("Unknown");
+        }
+    }
+}
@@ -42,6 +42,9 @@ public class FacilityProfile extends BaseEntity {
     @Column(name = "last_synced_at")
     private LocalDateTime lastSyncedAt; // 마지막 동기화 시간
 
+    @Column(name = "sync_content_hash", length = 64)
+    private String syncContentHash; // 마지막 동기화 시 공공데이터 원본 내용 해시 (델타 동기화용)
+
     // ===== 기본 정보 =====
 
     @Column(name = "facility_code", unique = true, length = 20)
@@ -55,7 +58,7 @@ public class FacilityProfile extends BaseEntity {
 
     @Column(name = "facility_type", nullable = false, length = 50)
     @NotBlank(message = "시설 타입은 필수입니다")
-    @Pattern(regexp = "^(양로시설|노인요양시설|노인요양공동생활가정|요양병원|치매전문시설|재활전문시설|호스피스전문시설|단기보호시설|주야간보호시설)$", 
+    @Pattern(regexp = "^(양로시설|노인요양시설|노인요양공동생활가정|요양병원|치매전문시설|재활전문시설|호스피스전문시설|단기보호시설|주야간보호시설|재가노인복지시설|방문요양서비스|방문목욕서비스|방문간호서비스|기타)$", 
              message = "유효하지 않은 시설 타입입니다")
     private String facilityType; // 시설 유형
 
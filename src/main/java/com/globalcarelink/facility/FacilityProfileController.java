@@ -219,6 +219,28 @@ public class FacilityProfileController {
         return ResponseEntity.ok(facilities);
     }
 
+    @Operation(
+        summary = "최근접 시설 검색",
+        description = "특정 위치에서 가장 가까운 시설을 거리순으로 지정한 개수만큼 조회합니다."
+    )
+    @GetMapping("/nearest")
+    @PreAuthorize("hasAnyRole('USER_DOMESTIC', 'USER_OVERSEAS', 'COORDINATOR', 'FACILITY', 'ADMIN')")
+    public ResponseEntity<List<FacilityProfile>> findNearestFacilities(
+        @Parameter(description = "위도", required = true)
+        @RequestParam BigDecimal latitude,
+        @Parameter(description = "경도", required = true)
+        @RequestParam BigDecimal longitude,
+        @Parameter(description = "조회 개수", example = "10")
+        @RequestParam(defaultValue = "10") int limit,
+        @Parameter(description = "최대 검색 반경 (km)", example = "50")
+        @RequestParam(defaultValue = "50") double maxRadiusKm) {
+
+        List<FacilityProfile> facilities = facilityProfileService
+            .findNearestFacilities(latitude, longitude, limit, maxRadiusKm);
+
+        return ResponseEntity.ok(facilities);
+    }
+
     // ===== 케어 등급 기반 검색 API =====
 
     @Operation(
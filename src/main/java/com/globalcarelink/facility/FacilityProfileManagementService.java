@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -40,7 +41,7 @@ public class FacilityProfileManagementService {
      * 기본값 설정, 침대 수 계산, 중복 체크 포함
      */
     @Transactional
-    @CachePut(value = "facility-profiles", key = "#result.id")
+    @CachePut(value = "facility-profiles", key = "'entity_' + #result.id")
     public FacilityProfile createFacility(FacilityProfile facility) {
         log.info("시설 프로필 생성 시작 - 시설명: {}", facility.getFacilityName());
 
@@ -67,7 +68,7 @@ public class FacilityProfileManagementService {
     /**
      * 시설 프로필 ID로 조회
      */
-    @Cacheable(value = "facility-profiles", key = "#facilityId")
+    @Cacheable(value = "facility-profiles", key = "'entity_' + #facilityId")
     public Optional<FacilityProfile> getFacilityById(Long facilityId) {
         log.debug("시설 프로필 조회 - ID: {}", facilityId);
         
@@ -109,7 +110,7 @@ public class FacilityProfileManagementService {
      * 시설 프로필 수정
      */
     @Transactional
-    @CachePut(value = "facility-profiles", key = "#facilityId")
+    @CachePut(value = "facility-profiles", key = "'entity_' + #facilityId")
     public FacilityProfile updateFacility(Long facilityId, FacilityProfile updateData) {
         log.info("시설 프로필 수정 시작 - ID: {}", facilityId);
 
@@ -133,7 +134,10 @@ public class FacilityProfileManagementService {
      * 시설 등급 업데이트
      */
     @Transactional
-    @CacheEvict(value = "facility-profiles", key = "#facilityId")
+    @Caching(evict = {
+            @CacheEvict(value = "facility-profiles", key = "#facilityId"),
+            @CacheEvict(value = "facility-profiles", key = "'entity_' + #facilityId")
+    })
     public void updateFacilityGrade(Long facilityId, String newGrade, String reason, String updatedBy) {
         log.info("시설 등급 업데이트 - ID: {}, 새 등급: {}", facilityId, newGrade);
         
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,6 +27,17 @@ public interface FacilityProfileRepository extends JpaRepository<FacilityProfile
      */
     Optional<FacilityProfile> findByFacilityCode(String facilityCode);
 
+    /**
+     * 외부 ID 목록으로 일괄 조회 (동기화 시 기존 시설 사전 로딩용, external_id 유니크 인덱스 사용)
+     */
+    List<FacilityProfile> findByExternalIdIn(Collection<String> externalIds);
+
+    /**
+     * 지역 내 공공데이터 시설의 외부 ID와 동기화 내용 해시 조회 (델타 동기화용)
+     */
+    @Query("SELECT f.externalId, f.syncContentHash FROM FacilityProfile f WHERE f.region = :region AND f.externalId IS NOT NULL")
+    List<Object[]> findSyncFingerprintsByRegion(@Param("region") String region);
+
     /**
      * 시설명으로 검색 (부분 일치)
      */
@@ -133,6 +145,18 @@ public interface FacilityProfileRepository extends JpaRepository<FacilityProfile
                                              @Param("longitude") BigDecimal longitude, 
                                              @Param("radiusKm") double radiusKm);
 
+    /**
+     * 좌표가 있는 시설의 위치 및 요약 정보 조회 (공간 인덱스 구성용)
+     * 컬럼 순서는 FacilitySpatialIndex.FacilitySnapshot.fromRow()와 일치해야 함
+     */
+    @Query("""
+        SELECT f.id, f.latitude, f.longitude, f.facilityName, f.facilityType, f.facilityGrade,
+               f.address, f.phoneNumber, f.totalCapacity, f.currentOccupancy, f.monthlyBasicFee
+        FROM FacilityProfile f
+        WHERE f.latitude IS NOT NULL AND f.longitude IS NOT NULL
+        """)
+    List<Object[]> findAllLocationSnapshots();
+
     // ===== 수용 능력 기반 검색 =====
 
     /**
@@ -522,6 +546,56 @@ public interface FacilityProfileRepository extends JpaRepository<FacilityProfile
     @Query("SELECT AVG(f.monthlyBasicFee) FROM FacilityProfile f WHERE f.monthlyBasicFee IS NOT NULL")
     Double findAverageMonthlyBasicFee();
 
+    /**
+     * 통계 집계 행 재집계 (지역/유형/등급별, 값은 FacilityStatisticsCounter.fromRow 순서)
+     * [값, 시설 수, 운영 중 수, 입주 가능 수, 가용 침대 합계, 월 기본료 합계, 요금 건수, 점유율 합계, 점유율 건수]
+     */
+    @Query("""
+        SELECT f.region, COUNT(f),
+               SUM(CASE WHEN f.isActive = true THEN 1 ELSE 0 END),
+               SUM(CASE WHEN f.totalCapacity > f.currentOccupancy THEN 1 ELSE 0 END),
+               SUM(COALESCE(f.availableBeds, 0)),
+               SUM(f.monthlyBasicFee), COUNT(f.monthlyBasicFee),
+               SUM(CASE WHEN f.totalCapacity > 0
+                        THEN (f.totalCapacity - COALESCE(f.availableBeds, 0)) * 100.0 / f.totalCapacity
+                        ELSE 0 END),
+               SUM(CASE WHEN f.totalCapacity > 0 THEN 1 ELSE 0 END)
+        FROM FacilityProfile f
+        GROUP BY f.region
+        """)
+    List<Object[]> aggregateStatisticsByRegion();
+
+    @Query("""
+        SELECT f.facilityType, COUNT(f),
+               SUM(CASE WHEN f.isActive = true THEN 1 ELSE 0 END),
+               SUM(CASE WHEN f.totalCapacity > f.currentOccupancy THEN 1 ELSE 0 END),
+               SUM(COALESCE(f.availableBeds, 0)),
+               SUM(f.monthlyBasicFee), COUNT(f.monthlyBasicFee),
+               SUM(CASE WHEN f.totalCapacity > 0
+                        THEN (f.totalCapacity - COALESCE(f.availableBeds, 0)) * 100.0 / f.totalCapacity
+                        ELSE 0 END),
+               SUM(CASE WHEN f.totalCapacity > 0 THEN 1 ELSE 0 END)
+        FROM FacilityProfile f
+        GROUP BY f.facilityType
+        """)
+    List<Object[]> aggregateStatisticsByType();
+
+    @Query("""
+        SELECT f.facilityGrade, COUNT(f),
+               SUM(CASE WHEN f.isActive = true THEN 1 ELSE 0 END),
+               SUM(CASE WHEN f.totalCapacity > f.currentOccupancy THEN 1 ELSE 0 END),
+               SUM(COALESCE(f.availableBeds, 0)),
+               SUM(f.monthlyBasicFee), COUNT(f.monthlyBasicFee),
+               SUM(CASE WHEN f.totalCapacity > 0
+                        THEN (f.totalCapacity - COALESCE(f.availableBeds, 0)) * 100.0 / f.totalCapacity
+                        ELSE 0 END),
+               SUM(CASE WHEN f.totalCapacity > 0 THEN 1 ELSE 0 END)
+        FROM FacilityProfile f
+        WHERE f.facilityGrade IS NOT NULL
+        GROUP BY f.facilityGrade
+        """)
+    List<Object[]> aggregateStatisticsByGrade();
+
     /**
      * 시설 신뢰도 분포 (고신뢰도 시설 비율)
      */
@@ -8,8 +8,8 @@ import com.globalcarelink.health.HealthAssessment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,6 +38,9 @@ public class FacilityProfileService {
 
     private final FacilityProfileRepository facilityProfileRepository;
     private final FacilityMatchingHistoryRepository matchingHistoryRepository;
+    private final FacilitySpatialIndex facilitySpatialIndex;
+    private final FacilityCacheInvalidator facilityCacheInvalidator;
+    private final FacilityStatisticsView facilityStatisticsView;
 
     // ===== 기본 CRUD 작업 =====
 
@@ -49,13 +52,17 @@ public class FacilityProfileService {
         log.info("시설 목록 조회 - 페이지: {}, 지역: {}, 타입: {}, 등급: {}", pageable.getPageNumber(), region, facilityType, grade);
         
         Page<FacilityProfile> facilities;
+        Object cacheKey = new SimpleKey(pageable, region, facilityType, grade);
         
         if (region != null && facilityType != null && grade != null) {
             facilities = facilityProfileRepository.findByRegionAndFacilityTypeAndGrade(region, facilityType, grade, pageable);
+            facilityCacheInvalidator.trackFilteredEntry(FacilityCacheInvalidator.PAGE_CACHE, cacheKey, region, facilityType, grade, null);
         } else if (region != null) {
             facilities = facilityProfileRepository.findByRegion(region, pageable);
+            facilityCacheInvalidator.trackFilteredEntry(FacilityCacheInvalidator.PAGE_CACHE, cacheKey, region, null, null, null);
         } else {
             facilities = facilityProfileRepository.findAll(pageable);
+            facilityCacheInvalidator.trackFilteredEntry(FacilityCacheInvalidator.PAGE_CACHE, cacheKey, null, null, null, null);
         }
         
         return facilities.map(FacilityProfileResponse::from);
@@ -94,6 +101,8 @@ public class FacilityProfileService {
         } else {
             facilities = facilityProfileRepository.findByRegion(region, pageable);
         }
+        facilityCacheInvalidator.trackFilteredEntry(FacilityCacheInvalidator.REGION_CACHE,
+                new SimpleKey(region, facilityType, careGradeLevel, limit), region, facilityType, null, careGradeLevel);
         
         return facilities.getContent().stream()
                 .map(FacilityProfileResponse::from)
@@ -109,6 +118,8 @@ public class FacilityProfileService {
         
         Pageable pageable = PageRequest.of(0, limit);
         Page<FacilityProfile> facilities = facilityProfileRepository.findByAcceptableCareGradesContainingAndRegion(careGrade, region, pageable);
+        facilityCacheInvalidator.trackFilteredEntry(FacilityCacheInvalidator.CARE_GRADE_CACHE,
+                new SimpleKey(careGrade, region, limit), region, null, null, careGrade);
         
         return facilities.getContent().stream()
                 .map(FacilityProfileResponse::from)
@@ -119,17 +130,20 @@ public class FacilityProfileService {
      * 시설 등급 업데이트
      */
     @Transactional
-    @CacheEvict(value = "facility-profiles", key = "#facilityId")
     public void updateFacilityGrade(Long facilityId, String newGrade, String reason, String updatedBy) {
         log.info("시설 등급 업데이트 - ID: {}, 새 등급: {}", facilityId, newGrade);
         
         FacilityProfile facility = facilityProfileRepository.findById(facilityId)
                 .orElseThrow(() -> new CustomException.NotFound("시설을 찾을 수 없습니다: " + facilityId));
+        FacilityCacheInvalidator.CacheSnapshot before = FacilityCacheInvalidator.CacheSnapshot.from(facility);
         
         facility.setGrade(newGrade);
         facility.setLastUpdated(LocalDateTime.now());
         
         facilityProfileRepository.save(facility);
+        FacilityCacheInvalidator.CacheSnapshot after = FacilityCacheInvalidator.CacheSnapshot.from(facility);
+        facilityStatisticsView.apply(before, after);
+        facilityCacheInvalidator.evict(before, after);
         log.info("시설 등급 업데이트 완료 - ID: {}, 등급: {}", facilityId, newGrade);
     }
 
@@ -175,6 +189,10 @@ public class FacilityProfileService {
         }
 
         FacilityProfile saved = facilityProfileRepository.save(facility);
+        facilitySpatialIndex.upsert(saved);
+        FacilityCacheInvalidator.CacheSnapshot after = FacilityCacheInvalidator.CacheSnapshot.from(saved);
+        facilityStatisticsView.apply(null, after);
+        facilityCacheInvalidator.evict(null, after);
         
         log.info("시설 프로필 생성 완료 - ID: {}, 시설명: {}, 등급: {}", 
                 saved.getId(), saved.getFacilityName(), saved.getFacilityGrade());
@@ -183,9 +201,9 @@ public class FacilityProfileService {
     }
 
     /**
-     * 시설 프로필 조회
+     * 시설 프로필 조회 (엔티티 - findById의 응답 DTO와 키를 구분)
      */
-    @Cacheable(value = "facility-profiles", key = "#facilityId")
+    @Cacheable(value = "facility-profiles", key = "'entity_' + #facilityId")
     public Optional<FacilityProfile> getFacilityById(Long facilityId) {
         log.debug("시설 프로필 조회 - ID: {}", facilityId);
         
@@ -220,6 +238,7 @@ public class FacilityProfileService {
 
         FacilityProfile facility = facilityProfileRepository.findById(facilityId)
                 .orElseThrow(() -> new CustomException.NotFound("시설을 찾을 수 없습니다: " + facilityId));
+        FacilityCacheInvalidator.CacheSnapshot before = FacilityCacheInvalidator.CacheSnapshot.from(facility);
 
         // 수정 가능한 필드들 업데이트
         updateFacilityFields(facility, request);
@@ -228,6 +247,10 @@ public class FacilityProfileService {
         facility.calculateAvailableBeds();
 
         FacilityProfile updated = facilityProfileRepository.save(facility);
+        facilitySpatialIndex.upsert(updated);
+        FacilityCacheInvalidator.CacheSnapshot after = FacilityCacheInvalidator.CacheSnapshot.from(updated);
+        facilityStatisticsView.apply(before, after);
+        facilityCacheInvalidator.evict(before, after);
 
         log.info("시설 프로필 수정 완료 - ID: {}, 시설명: {}", facilityId, updated.getFacilityName());
 
@@ -238,14 +261,17 @@ public class FacilityProfileService {
      * 시설 프로필 삭제
      */
     @Transactional
-    @CacheEvict(value = {"facility-profiles", "facility-statistics"}, allEntries = true)
     public void deleteFacility(Long facilityId) {
         log.info("시설 프로필 삭제 시작 - ID: {}", facilityId);
         
         FacilityProfile facility = facilityProfileRepository.findById(facilityId)
                 .orElseThrow(() -> new CustomException.NotFound("시설을 찾을 수 없습니다: " + facilityId));
+        FacilityCacheInvalidator.CacheSnapshot before = FacilityCacheInvalidator.CacheSnapshot.from(facility);
 
         facilityProfileRepository.delete(facility);
+        facilitySpatialIndex.remove(facilityId);
+        facilityStatisticsView.apply(before, null);
+        facilityCacheInvalidator.evict(before, null);
         
         log.info("시설 프로필 삭제 완료 - ID: {}, 시설명: {}", facilityId, facility.getFacilityName());
     }
@@ -332,7 +358,52 @@ public class FacilityProfileService {
             throw new CustomException.BadRequest("검색 반경은 0km 초과 100km 이하여야 합니다");
         }
         
-        return facilityProfileRepository.findNearbyFacilities(latitude, longitude, radiusKm);
+        // 공간 인덱스에서 주변 셀만 조회하여 거리순 ID 목록 확보
+        List<FacilitySpatialIndex.NearbyFacility> nearby = facilitySpatialIndex.findWithinRadius(
+                latitude.doubleValue(), longitude.doubleValue(), radiusKm);
+        
+        return loadInDistanceOrder(nearby);
+    }
+
+    /**
+     * 가장 가까운 시설 k개 검색
+     */
+    public List<FacilityProfile> findNearestFacilities(BigDecimal latitude, BigDecimal longitude, int limit, double maxRadiusKm) {
+        log.debug("최근접 시설 검색 - 위도: {}, 경도: {}, 개수: {}, 최대 반경: {}km", latitude, longitude, limit, maxRadiusKm);
+        
+        if (latitude == null || longitude == null) {
+            throw new CustomException.BadRequest("위도와 경도는 필수입니다");
+        }
+        
+        if (limit <= 0 || limit > 100) {
+            throw new CustomException.BadRequest("검색 개수는 1개 이상 100개 이하여야 합니다");
+        }
+        
+        List<FacilitySpatialIndex.NearbyFacility> nearest = facilitySpatialIndex.findNearest(
+                latitude.doubleValue(), longitude.doubleValue(), limit, maxRadiusKm);
+        
+        return loadInDistanceOrder(nearest);
+    }
+
+    /**
+     * 인덱스 검색 결과 순서(거리순)를 유지하며 시설 엔티티 일괄 조회
+     */
+    private List<FacilityProfile> loadInDistanceOrder(List<FacilitySpatialIndex.NearbyFacility> nearby) {
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> ids = nearby.stream()
+                .map(FacilitySpatialIndex.NearbyFacility::getFacilityId)
+                .collect(Collectors.toList());
+        
+        Map<Long, FacilityProfile> facilitiesById = facilityProfileRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(FacilityProfile::getId, facility -> facility));
+        
+        return ids.stream()
+                .map(facilitiesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // ===== 케어 등급 기반 검색 =====
@@ -467,6 +538,7 @@ public class FacilityProfileService {
     }
 
     // ===== 통계 및 집계 =====
+    // 통계는 시설 변경 시 함께 갱신되는 집계 행(FacilityStatisticsView)에서 조회
 
     /**
      * 지역별 시설 통계
@@ -475,15 +547,7 @@ public class FacilityProfileService {
     public Map<String, Long> getFacilityStatisticsByRegion() {
         log.debug("지역별 시설 통계 조회");
         
-        List<Object[]> results = facilityProfileRepository.countByRegion();
-        
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Long) result[1],
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        return facilityStatisticsView.countsBy(FacilityStatisticsCounter.Dimension.REGION);
     }
 
     /**
@@ -493,15 +557,7 @@ public class FacilityProfileService {
     public Map<String, Long> getFacilityStatisticsByType() {
         log.debug("시설 타입별 통계 조회");
         
-        List<Object[]> results = facilityProfileRepository.countByFacilityType();
-        
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Long) result[1],
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        return facilityStatisticsView.countsBy(FacilityStatisticsCounter.Dimension.TYPE);
     }
 
     /**
@@ -511,15 +567,7 @@ public class FacilityProfileService {
     public Map<String, Long> getFacilityStatisticsByGrade() {
         log.debug("시설 등급별 통계 조회");
         
-        List<Object[]> results = facilityProfileRepository.countByFacilityGrade();
-        
-        return results.stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> (Long) result[1],
-                        (existing, replacement) -> existing,
-                        LinkedHashMap::new
-                ));
+        return facilityStatisticsView.countsBy(FacilityStatisticsCounter.Dimension.GRADE);
     }
 
     /**
@@ -529,14 +577,14 @@ public class FacilityProfileService {
     public FacilityStatisticsSummary getFacilityStatisticsSummary() {
         log.debug("전체 시설 통계 요약 조회");
         
-        long totalFacilities = facilityProfileRepository.count();
-        long availableFacilities = facilityProfileRepository.countAvailableFacilities();
-        Double averageFee = facilityProfileRepository.findAverageMonthlyBasicFee();
+        FacilityStatisticsCounter total = facilityStatisticsView.total();
+        long totalFacilities = total.getFacilityCount();
+        long availableFacilities = total.getAvailableCount();
         
         return FacilityStatisticsSummary.builder()
                 .totalFacilities(totalFacilities)
                 .availableFacilities(availableFacilities)
-                .averageMonthlyFee(averageFee != null ? averageFee.intValue() : 0)
+                .averageMonthlyFee(averageMonthlyFee(total))
                 .occupancyRate((double) (totalFacilities - availableFacilities) / totalFacilities * 100)
                 .regionStatistics(getFacilityStatisticsByRegion())
                 .typeStatistics(getFacilityStatisticsByType())
@@ -545,13 +593,29 @@ public class FacilityProfileService {
                 .build();
     }
 
-    // ===== 모든 캐시 무효화 =====
+    // ===== 캐시 무효화 =====
 
-    @CacheEvict(value = {"facility-profiles", "facility-statistics"}, allEntries = true)
+    /**
+     * 시설 관련 캐시 전체 삭제 (관리자 수동 초기화, 데이터 변경 시에는 evictCachesFor로 선별 삭제)
+     */
     public void evictAllCaches() {
+        facilityCacheInvalidator.evictAll();
         log.info("시설 관련 모든 캐시 삭제");
     }
 
+    /**
+     * 변경된 시설에 해당하는 캐시 항목만 무효화 (동기화 결과 반영용)
+     * 변경 전/후 스냅샷을 시설 ID로 짝지어 시설이 들어 있던 목록과 새로 들어갈 목록, 값이 달라지는 통계만 삭제
+     */
+    public void evictCachesFor(Collection<FacilityCacheInvalidator.CacheSnapshot> before,
+                               Collection<FacilityCacheInvalidator.CacheSnapshot> after) {
+        if (before.isEmpty() && after.isEmpty()) {
+            return;
+        }
+        facilityCacheInvalidator.evict(before, after);
+        log.info("변경 시설 캐시 무효화 완료 - 시설 수: {}", after.size());
+    }
+
     // ===== 내부 헬퍼 메서드 =====
 
     private void setDefaultValues(FacilityProfile facility) {
@@ -1265,63 +1329,32 @@ public class FacilityProfileService {
     }
 
     /**
-     * 시설 전체 통계 조회
+     * 시설 전체 통계 조회 (동시 요청은 한 번만 계산, 만료 전 갱신)
+     * 시설 변경 시 함께 갱신되는 집계 행에서 조회하여 facility_profiles를 스캔하지 않음
      */
+    @Cacheable(value = "facility-statistics", key = "'overview'", sync = true)
     public FacilityStatistics getFacilityStatistics() {
         log.info("시설 전체 통계 조회 시작");
-        
-        long totalFacilities = facilityProfileRepository.count();
-        long activeFacilities = facilityProfileRepository.findAll().stream()
-                .filter(facility -> facility.getIsActive() != null && facility.getIsActive())
-                .count();
-        
-        // 전체 사용 가능한 침대 수 계산
-        long totalAvailableBeds = facilityProfileRepository.findAll().stream()
-            .mapToLong(facility -> facility.getAvailableBeds() != null ? facility.getAvailableBeds() : 0)
-            .sum();
-            
-        // 평균 점유율 계산
-        double averageOccupancyRate = facilityProfileRepository.findAll().stream()
-            .filter(facility -> facility.getTotalCapacity() != null && facility.getTotalCapacity() > 0)
-            .mapToDouble(facility -> {
-                int totalCapacity = facility.getTotalCapacity();
-                int facilityAvailableBeds = facility.getAvailableBeds() != null ? facility.getAvailableBeds() : 0;
-                return ((double)(totalCapacity - facilityAvailableBeds) / totalCapacity) * 100;
-            })
-            .average()
-            .orElse(0.0);
-            
-        // 평균 월 비용 계산
-        int averageMonthlyFee = (int) facilityProfileRepository.findAll().stream()
-            .filter(facility -> facility.getMonthlyBasicFee() != null)
-            .mapToInt(facility -> facility.getMonthlyBasicFee())
-            .average()
-            .orElse(0.0);
-            
+
+        FacilityStatisticsCounter total = facilityStatisticsView.total();
+
         return new FacilityStatistics(
-            totalFacilities,
-            activeFacilities,
-            totalAvailableBeds,
-            Math.round(averageOccupancyRate * 100.0) / 100.0,
-            averageMonthlyFee,
-            getFacilityStatisticsByRegion(),
+            total.getFacilityCount(),
+            total.getActiveCount(),
+            total.getAvailableBeds(),
+            Math.round(total.getAverageOccupancyRate() * 100.0) / 100.0,
+            averageMonthlyFee(total),
+            facilityStatisticsView.countsBy(FacilityStatisticsCounter.Dimension.REGION),
             getFacilityStatisticsByType(),
             getFacilityStatisticsByGrade(),
-            calculateAverageFeesByRegion(),
+            facilityStatisticsView.averageFeesByRegion(),
             LocalDateTime.now()
         );
     }
-    
-    /**
-     * 지역별 평균 비용 계산
-     */
-    private Map<String, Double> calculateAverageFeesByRegion() {
-        return facilityProfileRepository.findAll().stream()
-            .filter(facility -> facility.getRegion() != null && facility.getMonthlyBasicFee() != null)
-            .collect(Collectors.groupingBy(
-                FacilityProfile::getRegion,
-                Collectors.averagingInt(FacilityProfile::getMonthlyBasicFee)
-            ));
+
+    private static int averageMonthlyFee(FacilityStatisticsCounter counter) {
+        Double averageFee = counter.getAverageMonthlyFee();
+        return averageFee != null ? averageFee.intValue() : 0;
     }
 
     /**
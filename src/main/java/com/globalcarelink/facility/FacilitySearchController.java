@@ -90,7 +90,7 @@ public class FacilitySearchController {
 
     @Operation(
         summary = "지도 기반 시설 검색",
-        description = "지도 영역 내의 시설을 검색하고 위치 정보와 함께 반환합니다."
+        description = "지도 영역 내의 시설을 검색하고 위치 정보와 함께 반환합니다. 줌 레벨에 따라 밀집 지역은 클러스터로 묶어 반환합니다."
     )
     @GetMapping("/search/map")
     @PreAuthorize("hasAnyRole('USER_DOMESTIC', 'USER_OVERSEAS', 'COORDINATOR', 'ADMIN')")
@@ -108,13 +108,15 @@ public class FacilitySearchController {
             @Parameter(description = "최소 등급")
             @RequestParam(required = false) String minGrade,
             @Parameter(description = "가용 침상만")
-            @RequestParam(defaultValue = "false") boolean availableBedsOnly) {
+            @RequestParam(defaultValue = "false") boolean availableBedsOnly,
+            @Parameter(description = "지도 줌 레벨 (미지정 시 영역 크기로 추정)")
+            @RequestParam(required = false) Integer zoom) {
         
-        log.info("지도 기반 시설 검색 - 영역: ({},{}) ~ ({},{})", neLat, neLng, swLat, swLng);
+        log.info("지도 기반 시설 검색 - 영역: ({},{}) ~ ({},{}), 줌: {}", neLat, neLng, swLat, swLng, zoom);
 
         // MapBasedFacilityService를 통한 실제 지도 검색
         Map<String, Object> mapResponse = mapBasedFacilityService.searchFacilitiesInMapBounds(
-            neLat, neLng, swLat, swLng, facilityType, minGrade, availableBedsOnly);
+            neLat, neLng, swLat, swLng, facilityType, minGrade, availableBedsOnly, zoom);
 
         log.info("지도 기반 시설 검색 완료 - {}건", mapResponse.get("totalCount"));
         return ResponseEntity.ok(mapResponse);
@@ -0,0 +1,419 @@
+package com.globalcarelink.facility;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 시설 위치 공간 인덱스
+ * - 위도/경도 격자(grid) 버킷 기반 인메모리 인덱스
+ * - 반경 검색과 최근접(k-nearest) 검색 시 주변 셀만 조회하여 전체 테이블 스캔 방지
+ * - 지도 영역(bounding box) 검색용 시설 요약 정보(스냅샷) 보관
+ * - 변경 시 줌 레벨별 클러스터 피라미드(FacilityClusterIndex)도 함께 갱신
+ * - 애플리케이션 시작 시 워밍업, 시설 생성/수정/삭제 시 갱신
+ * - 트랜잭션 안에서 호출되면 커밋 후 반영 (롤백된 변경이 인덱스에 남지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FacilitySpatialIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final FacilityProfileRepository facilityProfileRepository;
+    private final FacilityClusterIndex facilityClusterIndex;
+
+    @Value("${app.facility.spatial-index.cell-size-degrees:0.05}")
+    private double cellSizeDegrees; // 약 5.5km 격자
+
+    // 셀 키 -> (시설 ID -> 스냅샷)
+    private final Map<Long, Map<Long, FacilitySnapshot>> cells = new ConcurrentHashMap<>();
+
+    // 시설 ID -> 스냅샷 (이전 셀 위치 확인용)
+    private final Map<Long, FacilitySnapshot> entries = new ConcurrentHashMap<>();
+    /**
+     * 애플리케이션 시작 시 인덱스 워밍업
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * DB의 위치/요약 정보로 인덱스 전체 재구성
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        cells.clear();
+        entries.clear();
+
+        List<Object[]> rows = facilityProfileRepository.findAllLocationSnapshots();
+        for (Object[] row : rows) {
+            put(FacilitySnapshot.fromRow(row));
+        }
+        facilityClusterIndex.rebuild(entries.values());
+
+        log.info("시설 공간 인덱스 구성 완료 - 시설 수: {}, 셀 수: {}, 소요시간: {}ms",
+                entries.size(), cells.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 시설 등록/갱신 (좌표가 없으면 인덱스에서 제거)
+     * 스냅샷은 호출 시점 값으로 만들어 두고 커밋 후 반영
+     */
+    public void upsert(FacilityProfile facility) {
+        if (facility == null || facility.getId() == null) {
+            return;
+        }
+        if (facility.getLatitude() == null || facility.getLongitude() == null) {
+            remove(facility.getId());
+            return;
+        }
+        FacilitySnapshot entry = FacilitySnapshot.from(facility);
+        runAfterCommit(() -> replace(entry));
+    }
+
+    /**
+     * 시설 위치 제거 (커밋 후 반영)
+     */
+    public void remove(Long facilityId) {
+        if (facilityId == null) {
+            return;
+        }
+        runAfterCommit(() -> evict(facilityId));
+    }
+
+    private synchronized void replace(FacilitySnapshot entry) {
+        FacilitySnapshot previous = put(entry);
+        if (previous != null) {
+            facilityClusterIndex.remove(previous);
+        }
+        facilityClusterIndex.add(entry);
+    }
+
+    private synchronized void evict(Long facilityId) {
+        FacilitySnapshot previous = entries.remove(facilityId);
+        if (previous != null) {
+            removeFromCell(cellKey(previous.getLatitude(), previous.getLongitude()), facilityId);
+            facilityClusterIndex.remove(previous);
+        }
+    }
+
+    /**
+     * 시설 스냅샷 조회 (없으면 null)
+     */
+    public FacilitySnapshot get(Long facilityId) {
+        return facilityId != null ? entries.get(facilityId) : null;
+    }
+
+    /**
+     * 지도 영역(bounding box) 내 시설 검색
+     * 영역 안쪽에 완전히 포함된 셀은 좌표 비교 없이 필터만 적용
+     */
+    public List<FacilitySnapshot> findWithinBounds(double swLat, double swLng, double neLat, double neLng,
+                                                   Predicate<FacilitySnapshot> filter) {
+        List<FacilitySnapshot> results = new ArrayList<>();
+
+        int minLatCell = cellIndex(Math.min(swLat, neLat));
+        int maxLatCell = cellIndex(Math.max(swLat, neLat));
+        int minLngCell = cellIndex(Math.min(swLng, neLng));
+        int maxLngCell = cellIndex(Math.max(swLng, neLng));
+
+        for (int i = minLatCell; i <= maxLatCell; i++) {
+            for (int j = minLngCell; j <= maxLngCell; j++) {
+                Map<Long, FacilitySnapshot> cell = cells.get(cellKey(i, j));
+                if (cell == null) {
+                    continue;
+                }
+                boolean interior = i > minLatCell && i < maxLatCell && j > minLngCell && j < maxLngCell;
+                for (FacilitySnapshot entry : cell.values()) {
+                    if (!interior && !entry.isWithin(swLat, swLng, neLat, neLng)) {
+                        continue;
+                    }
+                    if (filter == null || filter.test(entry)) {
+                        results.add(entry);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 반경 내 시설 검색 (거리순 정렬)
+     */
+    public List<NearbyFacility> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        List<NearbyFacility> results = new ArrayList<>();
+
+        int latCell = cellIndex(latitude);
+        int lngCell = cellIndex(longitude);
+        int latSpan = (int) Math.ceil(radiusKm / cellHeightKm());
+        int lngSpan = (int) Math.ceil(radiusKm / cellWidthKm(latitude, radiusKm));
+
+        for (int i = latCell - latSpan; i <= latCell + latSpan; i++) {
+            for (int j = lngCell - lngSpan; j <= lngCell + lngSpan; j++) {
+                Map<Long, FacilitySnapshot> cell = cells.get(cellKey(i, j));
+                if (cell == null) {
+                    continue;
+                }
+                for (FacilitySnapshot entry : cell.values()) {
+                    double distance = haversineKm(latitude, longitude, entry.getLatitude(), entry.getLongitude());
+                    if (distance <= radiusKm) {
+                        results.add(new NearbyFacility(entry, distance));
+                    }
+                }
+            }
+        }
+
+        results.sort(Comparator.comparingDouble(NearbyFacility::getDistanceKm));
+        return results;
+    }
+
+    /**
+     * 최근접 k개 시설 검색
+     * 중심 셀부터 링(ring) 단위로 확장하며, 다음 링의 최소 거리가 현재 k번째 거리보다 멀면 종료
+     */
+    public List<NearbyFacility> findNearest(double latitude, double longitude, int k, double maxRadiusKm) {
+        if (k <= 0 || entries.isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<NearbyFacility> farthestFirst = new PriorityQueue<>(
+                Comparator.comparingDouble(NearbyFacility::getDistanceKm).reversed());
+
+        int latCell = cellIndex(latitude);
+        int lngCell = cellIndex(longitude);
+        double ringStepKm = Math.min(cellHeightKm(), cellWidthKm(latitude, maxRadiusKm));
+        int maxRing = (int) Math.ceil(maxRadiusKm / ringStepKm) + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 현재 링에 속한 셀이 가질 수 있는 최소 거리
+            double ringMinDistance = Math.max(0, (ring - 1) * ringStepKm);
+            if (ringMinDistance > maxRadiusKm) {
+                break;
+            }
+            if (farthestFirst.size() >= k && ringMinDistance > farthestFirst.peek().getDistanceKm()) {
+                break;
+            }
+
+            for (int i = latCell - ring; i <= latCell + ring; i++) {
+                for (int j = lngCell - ring; j <= lngCell + ring; j++) {
+                    if (Math.abs(i - latCell) != ring && Math.abs(j - lngCell) != ring) {
+                        continue; // 링의 테두리 셀만 조회
+                    }
+                    Map<Long, FacilitySnapshot> cell = cells.get(cellKey(i, j));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (FacilitySnapshot entry : cell.values()) {
+                        double distance = haversineKm(latitude, longitude, entry.getLatitude(), entry.getLongitude());
+                        if (distance > maxRadiusKm) {
+                            continue;
+                        }
+                        if (farthestFirst.size() < k) {
+                            farthestFirst.offer(new NearbyFacility(entry, distance));
+                        } else if (distance < farthestFirst.peek().getDistanceKm()) {
+                            farthestFirst.poll();
+                            farthestFirst.offer(new NearbyFacility(entry, distance));
+                        }
+                    }
+                }
+            }
+        }
+
+        List<NearbyFacility> results = new ArrayList<>(farthestFirst);
+        results.sort(Comparator.comparingDouble(NearbyFacility::getDistanceKm));
+        return results;
+    }
+
+    /**
+     * 인덱스에 등록된 시설 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Haversine 공식을 사용한 거리 계산 (km)
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lngDistance = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    // ===== 내부 헬퍼 메서드 =====
+
+    private FacilitySnapshot put(FacilitySnapshot entry) {
+        long cellKey = cellKey(entry.getLatitude(), entry.getLongitude());
+
+        FacilitySnapshot previous = entries.put(entry.getFacilityId(), entry);
+        if (previous != null) {
+            long previousCellKey = cellKey(previous.getLatitude(), previous.getLongitude());
+            if (previousCellKey != cellKey) {
+                removeFromCell(previousCellKey, entry.getFacilityId());
+            }
+        }
+
+        cells.computeIfAbsent(cellKey, k -> new ConcurrentHashMap<>()).put(entry.getFacilityId(), entry);
+        return previous;
+    }
+
+    private void runAfterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void removeFromCell(long cellKey, Long facilityId) {
+        Map<Long, FacilitySnapshot> cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.remove(facilityId);
+            if (cell.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellSizeDegrees);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+
+    private double cellHeightKm() {
+        return cellSizeDegrees * KM_PER_DEGREE_LAT;
+    }
+
+    /**
+     * 경도 방향 셀 폭 (검색 범위 내 가장 고위도 기준으로 보수적으로 계산)
+     */
+    private double cellWidthKm(double latitude, double radiusKm) {
+        double maxLatitude = Math.min(89.0, Math.abs(latitude) + radiusKm / KM_PER_DEGREE_LAT);
+        return cellSizeDegrees * KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(maxLatitude));
+    }
+
+    // ===== 내부 클래스 =====
+
+    /**
+     * 지도 표시/필터링에 필요한 시설 요약 정보 (불변)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FacilitySnapshot {
+        private final Long facilityId;
+        private final double latitude;
+        private final double longitude;
+        private final String facilityName;
+        private final String facilityType;
+        private final String facilityGrade;
+        private final String address;
+        private final String phoneNumber;
+        private final Integer totalCapacity;
+        private final Integer currentOccupancy;
+        private final Integer monthlyBasicFee;
+
+        static FacilitySnapshot from(FacilityProfile facility) {
+            return new FacilitySnapshot(
+                    facility.getId(),
+                    facility.getLatitude().doubleValue(),
+                    facility.getLongitude().doubleValue(),
+                    facility.getFacilityName(),
+                    facility.getFacilityType(),
+                    facility.getFacilityGrade(),
+                    facility.getAddress(),
+                    facility.getPhoneNumber(),
+                    facility.getTotalCapacity(),
+                    facility.getCurrentOccupancy(),
+                    facility.getMonthlyBasicFee());
+        }
+
+        /**
+         * FacilityProfileRepository.findAllLocationSnapshots() 결과 행 변환
+         */
+        static FacilitySnapshot fromRow(Object[] row) {
+            return new FacilitySnapshot(
+                    (Long) row[0],
+                    ((BigDecimal) row[1]).doubleValue(),
+                    ((BigDecimal) row[2]).doubleValue(),
+                    (String) row[3],
+                    (String) row[4],
+                    (String) row[5],
+                    (String) row[6],
+                    (String) row[7],
+                    (Integer) row[8],
+                    (Integer) row[9],
+                    (Integer) row[10]);
+        }
+
+        /**
+         * 가용 침대 수 (정원 - 현재 입주자)
+         */
+        public int getAvailableBeds() {
+            if (totalCapacity == null || currentOccupancy == null) {
+                return 0;
+            }
+            return Math.max(0, totalCapacity - currentOccupancy);
+        }
+
+        boolean isWithin(double swLat, double swLng, double neLat, double neLng) {
+            return latitude >= Math.min(swLat, neLat) && latitude <= Math.max(swLat, neLat)
+                    && longitude >= Math.min(swLng, neLng) && longitude <= Math.max(swLng, neLng);
+        }
+    }
+
+    /**
+     * 검색 결과 (시설 스냅샷 + 거리)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class NearbyFacility {
+        private final FacilitySnapshot facility;
+        private final double distanceKm;
+
+        public Long getFacilityId() {
+            return facility.getFacilityId();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.globalcarelink.facility;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시설 통계 집계 행 (지역/유형/등급별 통계의 구체화 뷰)
+ * 시설 변경 트랜잭션에서 변경 전/후 차이만큼 증감하고, 주기적 재집계로 facility_profiles 기준 값에 맞춤
+ * 평균은 합계/건수로 보관하여 증감만으로 유지
+ */
+@Entity
+@Table(name = "facility_statistics_counters",
+       uniqueConstraints = @UniqueConstraint(name = "uk_facility_stats_dimension_value",
+                                             columnNames = {"dimension", "dimension_value"}))
+@Getter
+@NoArgsConstructor
+public class FacilityStatisticsCounter {
+
+    /**
+     * 전체 합계 행의 dimension_value
+     */
+    public static final String TOTAL_VALUE = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private Dimension dimension;
+
+    /**
+     * 지역명/시설 유형/등급 (전체 합계 행은 빈 문자열)
+     */
+    @Column(name = "dimension_value", nullable = false, length = 50)
+    private String dimensionValue;
+
+    @Column(name = "facility_count", nullable = false)
+    private long facilityCount;
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    /**
+     * 입주 가능 시설 수 (정원 > 현재 입주자)
+     */
+    @Column(name = "available_count", nullable = false)
+    private long availableCount;
+
+    @Column(name = "available_beds", nullable = false)
+    private long availableBeds;
+
+    /**
+     * 월 기본료 합계와 요금 정보가 있는 시설 수 (평균 월 기본료 = 합계 / 건수)
+     */
+    @Column(name = "fee_sum", nullable = false)
+    private long feeSum;
+
+    @Column(name = "fee_count", nullable = false)
+    private long feeCount;
+
+    /**
+     * 정원이 있는 시설의 점유율(%) 합계와 시설 수 (평균 점유율 = 합계 / 건수)
+     */
+    @Column(name = "occupancy_rate_sum", nullable = false)
+    private double occupancyRateSum;
+
+    @Column(name = "occupancy_count", nullable = false)
+    private long occupancyCount;
+
+    /**
+     * 증감/재집계마다 1씩 증가 (재집계가 집계 도중 바뀐 행을 덮어쓰지 않도록 비교)
+     */
+    @Column(name = "revision", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long revision;
+
+    /**
+     * 마지막 재집계 시각 (전체 합계 행에만 기록, 여러 노드의 중복 재집계 방지용)
+     * 전체 합계 행의 집계 값은 쓰지 않음 - 전체 합계는 지역별 행의 합으로 조회
+     */
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    public static FacilityStatisticsCounter of(Dimension dimension, String dimensionValue) {
+        FacilityStatisticsCounter counter = new FacilityStatisticsCounter();
+        counter.dimension = dimension;
+        counter.dimensionValue = dimensionValue;
+        return counter;
+    }
+
+    /**
+     * 집계 쿼리 결과로 생성
+     * [값, 시설 수, 운영 중 수, 입주 가능 수, 가용 침대 합계, 월 기본료 합계, 요금 건수, 점유율 합계, 점유율 건수]
+     */
+    public static FacilityStatisticsCounter fromRow(Dimension dimension, Object[] row) {
+        FacilityStatisticsCounter counter = of(dimension, (String) row[0]);
+        counter.facilityCount = toLong(row[1]);
+        counter.activeCount = toLong(row[2]);
+        counter.availableCount = toLong(row[3]);
+        counter.availableBeds = toLong(row[4]);
+        counter.feeSum = toLong(row[5]);
+        counter.feeCount = toLong(row[6]);
+        counter.occupancyRateSum = row[7] != null ? ((Number) row[7]).doubleValue() : 0.0;
+        counter.occupancyCount = toLong(row[8]);
+        return counter;
+    }
+
+    /**
+     * 시설 한 건을 더하거나(sign = 1) 뺌(sign = -1)
+     * FacilityProfileRepository 재집계 쿼리와 같은 기준으로 계산
+     */
+    public void accumulate(FacilityCacheInvalidator.CacheSnapshot snapshot, int sign) {
+        facilityCount += sign;
+        if (snapshot.isActive()) {
+            activeCount += sign;
+        }
+        if (snapshot.isAvailable()) {
+            availableCount += sign;
+        }
+        int beds = snapshot.getAvailableBeds() != null ? snapshot.getAvailableBeds() : 0;
+        availableBeds += (long) sign * beds;
+        if (snapshot.getMonthlyBasicFee() != null) {
+            feeSum += (long) sign * snapshot.getMonthlyBasicFee();
+            feeCount += sign;
+        }
+        Integer capacity = snapshot.getTotalCapacity();
+        if (capacity != null && capacity > 0) {
+            occupancyRateSum += sign * ((capacity - beds) * 100.0 / capacity);
+            occupancyCount += sign;
+        }
+    }
+
+    /**
+     * 다른 집계 행의 값을 더함 (지역별 행으로 전체 합계 계산)
+     */
+    public void add(FacilityStatisticsCounter other) {
+        facilityCount += other.facilityCount;
+        activeCount += other.activeCount;
+        availableCount += other.availableCount;
+        availableBeds += other.availableBeds;
+        feeSum += other.feeSum;
+        feeCount += other.feeCount;
+        occupancyRateSum += other.occupancyRateSum;
+        occupancyCount += other.occupancyCount;
+    }
+
+    public boolean isZero() {
+        return facilityCount == 0 && activeCount == 0 && availableCount == 0 && availableBeds == 0
+                && feeSum == 0 && feeCount == 0 && occupancyRateSum == 0.0 && occupancyCount == 0;
+    }
+
+    /**
+     * 평균 월 기본료 (요금 정보가 없으면 null)
+     */
+    public Double getAverageMonthlyFee() {
+        return feeCount > 0 ? (double) feeSum / feeCount : null;
+    }
+
+    public double getAverageOccupancyRate() {
+        return occupancyCount > 0 ? occupancyRateSum / occupancyCount : 0.0;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * 통계 차원 (선언 순서가 행 갱신 순서 - 동시 변경 간 교착 방지)
+     */
+    public enum Dimension {
+        TOTAL,
+        REGION,
+        TYPE,
+        GRADE
+    }
+}
@@ -0,0 +1,101 @@
+package com.globalcarelink.facility;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 시설 통계 집계 행 레포지토리
+ */
+@Repository
+public interface FacilityStatisticsCounterRepository extends JpaRepository<FacilityStatisticsCounter, Long> {
+
+    List<FacilityStatisticsCounter> findByDimensionOrderByDimensionValueAsc(FacilityStatisticsCounter.Dimension dimension);
+
+    Optional<FacilityStatisticsCounter> findByDimensionAndDimensionValue(FacilityStatisticsCounter.Dimension dimension,
+                                                                        String dimensionValue);
+
+    /**
+     * 집계 행 증감 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("""
+        UPDATE FacilityStatisticsCounter c
+        SET c.facilityCount = c.facilityCount + :facilityCount,
+            c.activeCount = c.activeCount + :activeCount,
+            c.availableCount = c.availableCount + :availableCount,
+            c.availableBeds = c.availableBeds + :availableBeds,
+            c.feeSum = c.feeSum + :feeSum,
+            c.feeCount = c.feeCount + :feeCount,
+            c.occupancyRateSum = c.occupancyRateSum + :occupancyRateSum,
+            c.occupancyCount = c.occupancyCount + :occupancyCount,
+            c.revision = c.revision + 1
+        WHERE c.dimension = :dimension AND c.dimensionValue = :dimensionValue
+        """)
+    int increment(@Param("dimension") FacilityStatisticsCounter.Dimension dimension,
+                  @Param("dimensionValue") String dimensionValue,
+                  @Param("facilityCount") long facilityCount,
+                  @Param("activeCount") long activeCount,
+                  @Param("availableCount") long availableCount,
+                  @Param("availableBeds") long availableBeds,
+                  @Param("feeSum") long feeSum,
+                  @Param("feeCount") long feeCount,
+                  @Param("occupancyRateSum") double occupancyRateSum,
+                  @Param("occupancyCount") long occupancyCount);
+
+    /**
+     * 재집계 값으로 덮어씀 (읽은 뒤 증감이 반영된 행이면 0 반환)
+     */
+    @Modifying
+    @Query("""
+        UPDATE FacilityStatisticsCounter c
+        SET c.facilityCount = :facilityCount,
+            c.activeCount = :activeCount,
+            c.availableCount = :availableCount,
+            c.availableBeds = :availableBeds,
+            c.feeSum = :feeSum,
+            c.feeCount = :feeCount,
+            c.occupancyRateSum = :occupancyRateSum,
+            c.occupancyCount = :occupancyCount,
+            c.revision = c.revision + 1
+        WHERE c.id = :id AND c.revision = :revision
+        """)
+    int overwriteIfUnchanged(@Param("id") Long id,
+                             @Param("revision") long revision,
+                             @Param("facilityCount") long facilityCount,
+                             @Param("activeCount") long activeCount,
+                             @Param("availableCount") long availableCount,
+                             @Param("availableBeds") long availableBeds,
+                             @Param("feeSum") long feeSum,
+                             @Param("feeCount") long feeCount,
+                             @Param("occupancyRateSum") double occupancyRateSum,
+                             @Param("occupancyCount") long occupancyCount);
+
+    /**
+     * 시설이 모두 빠진 행 삭제 (읽은 뒤 증감이 반영된 행이면 0 반환)
+     */
+    @Modifying
+    @Query("DELETE FROM FacilityStatisticsCounter c WHERE c.id = :id AND c.revision = :revision")
+    int deleteIfUnchanged(@Param("id") Long id, @Param("revision") long revision);
+
+    /**
+     * 재집계 차례 획득 (마지막 재집계가 기준 시각 이전일 때만 재집계 시각을 기록하고 1 반환)
+     */
+    @Modifying
+    @Query("""
+        UPDATE FacilityStatisticsCounter c
+        SET c.reconciledAt = :now
+        WHERE c.dimension = :dimension AND c.dimensionValue = :dimensionValue
+          AND (c.reconciledAt IS NULL OR c.reconciledAt < :claimableBefore)
+        """)
+    int claimReconcile(@Param("dimension") FacilityStatisticsCounter.Dimension dimension,
+                       @Param("dimensionValue") String dimensionValue,
+                       @Param("now") LocalDateTime now,
+                       @Param("claimableBefore") LocalDateTime claimableBefore);
+}
@@ -0,0 +1,375 @@
+package com.globalcarelink.facility;
+
+import com.globalcarelink.facility.FacilityStatisticsCounter.Dimension;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시설 통계 구체화 뷰 (facility_statistics_counters)
+ * - 시설 생성/수정/삭제/동기화 트랜잭션 안에서 변경 전/후 스냅샷 차이만큼 지역/유형/등급 집계 행을 증감
+ * - 전체 합계는 지역별 행의 합으로 조회하여, 모든 변경이 같은 행을 잠그지 않음 (다른 지역/유형/등급 변경은 서로 대기하지 않음)
+ * - 통계 조회는 집계 행만 읽으므로 facility_profiles를 스캔하지 않음
+ * - 기동 시와 주기적으로 facility_profiles를 잠금 없이 재집계한 뒤, 집계 전에 읽은 revision이 그대로인 행만 덮어씀
+ *   (재집계 도중 증감이 반영된 행은 건너뛰고 다음 재집계에서 보정)
+ * - 처음 나온 지역/유형/등급은 행이 없어 증감을 건너뛰고, 커밋 후 재집계를 요청하여 행을 만듦
+ * - 여러 노드가 떠 있어도 전체 합계 행의 재집계 시각을 조건부 갱신으로 선점한 노드만 주기 재집계
+ * - 첫 재집계 전에는 집계 쿼리로 직접 계산
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FacilityStatisticsView {
+
+    // 차원 선언 순서 -> 값 순서로 행을 갱신하여 동시 변경 간 교착 방지
+    private static final Comparator<FacilityStatisticsCounter> LOCK_ORDER =
+            Comparator.comparing(FacilityStatisticsCounter::getDimension)
+                    .thenComparing(FacilityStatisticsCounter::getDimensionValue);
+
+    private final FacilityStatisticsCounterRepository counterRepository;
+    private final FacilityProfileRepository facilityProfileRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "facility-statistics-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 행이 없어 증감을 건너뛴 변경이 있어 재집계가 예약되었는지 (요청이 몰려도 한 번만 실행)
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+
+    @Value("${app.facility.statistics.reconcile-interval-minutes:30}")
+    private long reconcileIntervalMinutes;
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 시 재집계 후 주기적 재집계 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, 0, reconcileIntervalMinutes, TimeUnit.MINUTES);
+        log.info("시설 통계 재집계 시작 - 주기: {}분", reconcileIntervalMinutes);
+    }
+
+    @PreDestroy
+    public void stop() {
+        reconciler.shutdownNow();
+    }
+
+    // ===== 변경 반영 =====
+
+    /**
+     * 시설 한 건 변경 반영 (생성: before == null, 삭제: after == null)
+     */
+    @Transactional
+    public void apply(FacilityCacheInvalidator.CacheSnapshot before, FacilityCacheInvalidator.CacheSnapshot after) {
+        List<FacilityCacheInvalidator.CacheSnapshot> previous = new ArrayList<>(1);
+        List<FacilityCacheInvalidator.CacheSnapshot> current = new ArrayList<>(1);
+        if (before != null) {
+            previous.add(before);
+        }
+        if (after != null) {
+            current.add(after);
+        }
+        apply(previous, current);
+    }
+
+    /**
+     * 여러 시설 변경 반영 (호출 트랜잭션에 참여하여 시설 변경과 함께 커밋/롤백)
+     * 같은 시설이 여러 번 변경되었으면 최초 변경 전 값을 빼고 마지막 변경 후 값을 더함
+     */
+    @Transactional
+    public void apply(Collection<FacilityCacheInvalidator.CacheSnapshot> before,
+                      Collection<FacilityCacheInvalidator.CacheSnapshot> after) {
+        Map<Long, FacilityCacheInvalidator.CacheSnapshot> previousById = new HashMap<>();
+        before.forEach(snapshot -> previousById.putIfAbsent(snapshot.getId(), snapshot));
+        Map<Long, FacilityCacheInvalidator.CacheSnapshot> currentById = new HashMap<>();
+        after.forEach(snapshot -> currentById.put(snapshot.getId(), snapshot));
+
+        Map<String, FacilityStatisticsCounter> deltas = new HashMap<>();
+        previousById.values().forEach(snapshot -> accumulate(deltas, snapshot, -1));
+        currentById.values().forEach(snapshot -> accumulate(deltas, snapshot, 1));
+
+        boolean missingRow = false;
+        for (FacilityStatisticsCounter delta : deltas.values().stream()
+                .filter(delta -> !delta.isZero())
+                .sorted(LOCK_ORDER)
+                .toList()) {
+            if (incrementRow(delta) == 0) {
+                missingRow = true;
+            }
+        }
+        if (missingRow) {
+            // 처음 나온 지역/유형/등급 - 이 변경이 커밋된 뒤 재집계로 행 생성
+            runAfterCommit(this::requestReconcile);
+        }
+    }
+
+    private void accumulate(Map<String, FacilityStatisticsCounter> deltas,
+                            FacilityCacheInvalidator.CacheSnapshot snapshot, int sign) {
+        accumulate(deltas, Dimension.REGION, snapshot.getRegion(), snapshot, sign);
+        accumulate(deltas, Dimension.TYPE, snapshot.getFacilityType(), snapshot, sign);
+        accumulate(deltas, Dimension.GRADE, snapshot.getFacilityGrade(), snapshot, sign);
+    }
+
+    private void accumulate(Map<String, FacilityStatisticsCounter> deltas, Dimension dimension, String value,
+                            FacilityCacheInvalidator.CacheSnapshot snapshot, int sign) {
+        if (value == null) {
+            return;
+        }
+        deltas.computeIfAbsent(key(dimension, value), k -> FacilityStatisticsCounter.of(dimension, value))
+                .accumulate(snapshot, sign);
+    }
+
+    private int incrementRow(FacilityStatisticsCounter delta) {
+        return counterRepository.increment(delta.getDimension(), delta.getDimensionValue(),
+                delta.getFacilityCount(), delta.getActiveCount(), delta.getAvailableCount(), delta.getAvailableBeds(),
+                delta.getFeeSum(), delta.getFeeCount(), delta.getOccupancyRateSum(), delta.getOccupancyCount());
+    }
+
+    private void requestReconcile() {
+        if (reconcileRequested.compareAndSet(false, true)) {
+            reconciler.execute(() -> {
+                reconcileRequested.set(false);
+                try {
+                    reconcile(true);
+                } catch (Exception e) {
+                    log.error("시설 통계 요청 재집계 실패", e);
+                }
+            });
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 차원별 시설 수 (지역/유형/등급 -> 시설 수, 값 순서)
+     */
+    public Map<String, Long> countsBy(Dimension dimension) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FacilityStatisticsCounter counter : counters(dimension)) {
+            counts.put(counter.getDimensionValue(), counter.getFacilityCount());
+        }
+        return counts;
+    }
+
+    /**
+     * 지역별 평균 월 기본료 (요금 정보가 없는 지역 제외)
+     */
+    public Map<String, Double> averageFeesByRegion() {
+        Map<String, Double> averageFees = new HashMap<>();
+        for (FacilityStatisticsCounter counter : counters(Dimension.REGION)) {
+            if (counter.getAverageMonthlyFee() != null) {
+                averageFees.put(counter.getDimensionValue(), counter.getAverageMonthlyFee());
+            }
+        }
+        return averageFees;
+    }
+
+    /**
+     * 전체 합계 (지역별 행의 합)
+     */
+    public FacilityStatisticsCounter total() {
+        return computeTotal(counters(Dimension.REGION));
+    }
+
+    private List<FacilityStatisticsCounter> counters(Dimension dimension) {
+        List<FacilityStatisticsCounter> rows = ready
+                ? counterRepository.findByDimensionOrderByDimensionValueAsc(dimension)
+                : computeRows(dimension);
+        // 마지막 시설이 빠진 행은 다음 재집계에서 삭제될 때까지 0으로 남음
+        return rows.stream().filter(counter -> counter.getFacilityCount() > 0).toList();
+    }
+
+    // ===== 재집계 =====
+
+    /**
+     * facility_profiles 기준으로 전체 집계 행 재계산
+     * 다른 노드가 재집계 주기의 절반 안에 이미 재집계했으면 건너뜀
+     */
+    public void reconcile() {
+        reconcile(false);
+    }
+
+    /**
+     * @param requested 행이 없어 증감을 건너뛴 변경 때문에 요청된 재집계 (주기 선점 없이 바로 실행)
+     */
+    private void reconcile(boolean requested) {
+        long startTime = System.currentTimeMillis();
+        if (!requested && !claimReconcile()) {
+            ready = true;
+            log.debug("다른 노드가 최근 시설 통계를 재집계하여 건너뜀");
+            return;
+        }
+
+        // 집계 전에 읽은 revision과 같은 행만 덮어쓰므로, 집계는 잠금 없이 수행
+        Map<String, FacilityStatisticsCounter> stored = new HashMap<>();
+        counterRepository.findAll().stream()
+                .filter(counter -> counter.getDimension() != Dimension.TOTAL)
+                .forEach(counter -> stored.put(key(counter), counter));
+        Map<String, FacilityStatisticsCounter> computed = computeAll();
+
+        List<FacilityStatisticsCounter> inserted = new ArrayList<>();
+        List<FacilityStatisticsCounter> rows = new ArrayList<>(stored.values());
+        computed.forEach((key, counter) -> {
+            if (!stored.containsKey(key)) {
+                inserted.add(counter);
+            }
+        });
+        rows.sort(LOCK_ORDER);
+
+        Integer skipped = new TransactionTemplate(transactionManager).execute(status -> {
+            int unchanged = 0;
+            for (FacilityStatisticsCounter existing : rows) {
+                FacilityStatisticsCounter row = computed.get(key(existing));
+                int updated = row != null
+                        ? counterRepository.overwriteIfUnchanged(existing.getId(), existing.getRevision(),
+                                row.getFacilityCount(), row.getActiveCount(), row.getAvailableCount(),
+                                row.getAvailableBeds(), row.getFeeSum(), row.getFeeCount(),
+                                row.getOccupancyRateSum(), row.getOccupancyCount())
+                        : counterRepository.deleteIfUnchanged(existing.getId(), existing.getRevision());
+                if (updated == 0) {
+                    unchanged++;
+                }
+            }
+            return unchanged;
+        });
+        insertRows(inserted);
+
+        ready = true;
+        log.info("시설 통계 재집계 완료 - 집계 행: {}, 재집계 중 변경되어 건너뛴 행: {}, 소요시간: {}ms",
+                computed.size(), skipped, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 처음 나온 지역/유형/등급 행 생성
+     * 다른 노드의 요청 재집계가 같은 행을 먼저 만들어 유니크 위반이 나면 그 노드의 값을 사용
+     */
+    private void insertRows(List<FacilityStatisticsCounter> inserted) {
+        if (inserted.isEmpty()) {
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> counterRepository.saveAllAndFlush(inserted));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("시설 통계 집계 행이 다른 노드에서 이미 생성됨 - {}건", inserted.size());
+        }
+    }
+
+    /**
+     * 이번 주기 재집계 선점 (전체 합계 행의 재집계 시각을 조건부 갱신, 주기의 절반 안에 갱신되었으면 실패)
+     */
+    private boolean claimReconcile() {
+        createTotalIfAbsent();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimableBefore = now.minus(Duration.ofMinutes(reconcileIntervalMinutes).dividedBy(2));
+        Integer claimed = new TransactionTemplate(transactionManager).execute(status -> counterRepository
+                .claimReconcile(Dimension.TOTAL, FacilityStatisticsCounter.TOTAL_VALUE, now, claimableBefore));
+        return claimed != null && claimed > 0;
+    }
+
+    /**
+     * 빈 전체 합계 행 생성 (재집계 선점용)
+     * 다른 노드가 동시에 만들어 유니크 위반이 나면 그 행을 사용
+     */
+    private void createTotalIfAbsent() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (counterRepository.findByDimensionAndDimensionValue(
+                        Dimension.TOTAL, FacilityStatisticsCounter.TOTAL_VALUE).isEmpty()) {
+                    counterRepository.saveAndFlush(
+                            FacilityStatisticsCounter.of(Dimension.TOTAL, FacilityStatisticsCounter.TOTAL_VALUE));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("시설 통계 전체 합계 행이 이미 생성됨");
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("시설 통계 재집계 실패", e);
+        }
+    }
+
+    /**
+     * 지역/유형/등급별 집계 (전체 합계 행은 재집계 선점용이므로 제외)
+     */
+    private Map<String, FacilityStatisticsCounter> computeAll() {
+        Map<String, FacilityStatisticsCounter> computed = new LinkedHashMap<>();
+        for (Dimension dimension : List.of(Dimension.REGION, Dimension.TYPE, Dimension.GRADE)) {
+            computeRows(dimension).forEach(counter -> computed.put(key(counter), counter));
+        }
+        return computed;
+    }
+
+    private List<FacilityStatisticsCounter> computeRows(Dimension dimension) {
+        List<Object[]> rows = switch (dimension) {
+            case REGION -> facilityProfileRepository.aggregateStatisticsByRegion();
+            case TYPE -> facilityProfileRepository.aggregateStatisticsByType();
+            case GRADE -> facilityProfileRepository.aggregateStatisticsByGrade();
+            case TOTAL -> throw new IllegalArgumentException("전체 합계는 지역별 집계로 계산");
+        };
+        return rows.stream()
+                .filter(row -> row[0] != null)
+                .map(row -> FacilityStatisticsCounter.fromRow(dimension, row))
+                .toList();
+    }
+
+    // 지역은 필수 값이므로 지역별 합계가 전체 합계
+    private FacilityStatisticsCounter computeTotal(List<FacilityStatisticsCounter> regions) {
+        FacilityStatisticsCounter total = FacilityStatisticsCounter.of(Dimension.TOTAL, FacilityStatisticsCounter.TOTAL_VALUE);
+        regions.forEach(total::add);
+        return total;
+    }
+
+    private static String key(FacilityStatisticsCounter counter) {
+        return key(counter.getDimension(), counter.getDimensionValue());
+    }
+
+    private static String key(Dimension dimension, String value) {
+        return dimension.name() + ":" + value;
+    }
+}
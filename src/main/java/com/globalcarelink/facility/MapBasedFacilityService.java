@@ -5,9 +5,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +27,10 @@ import java.util.stream.Collectors;
 public class MapBasedFacilityService {
 
     private final PublicDataApiService publicDataApiService;
+    private final FacilitySpatialIndex facilitySpatialIndex;
+    private final FacilityClusterIndex facilityClusterIndex;
+
+    private static final int DEFAULT_VIEWPORT_WIDTH_PX = 1024;
 
     /**
      * 거리 기반 시설 검색 및 점수 계산
@@ -39,7 +46,15 @@ public class MapBasedFacilityService {
         
         log.info("거리 기반 시설 검색 - 위치: ({}, {}), 반경: {}km", userLat, userLng, radiusKm);
 
-        // 전체 시설 목록 가져오기 (실제로는 DB에서 조회)
+        // 공간 인덱스가 준비된 경우 주변 셀만 조회
+        if (!facilitySpatialIndex.isEmpty()) {
+            List<Map<String, Object>> indexedResults = findFacilitiesByDistanceFromIndex(
+                    userLat, userLng, radiusKm, facilityType, maxResults);
+            log.info("거리 기반 시설 검색 완료 (공간 인덱스) - {}건 (반경 {}km 내)", indexedResults.size(), radiusKm);
+            return indexedResults;
+        }
+
+        // 전체 시설 목록 가져오기 (인덱스 미구성 시 공공데이터 조회)
         List<Map<String, Object>> allFacilities = getAllFacilitiesWithLocation();
 
         // 거리 계산 및 필터링
@@ -55,6 +70,20 @@ public class MapBasedFacilityService {
         return nearbyFacilities;
     }
 
+    /**
+     * 공간 인덱스 기반 거리 검색
+     * 인덱스의 시설 스냅샷만으로 결과를 구성하여 DB 조회 생략
+     */
+    private List<Map<String, Object>> findFacilitiesByDistanceFromIndex(
+            double userLat, double userLng, int radiusKm, String facilityType, int maxResults) {
+
+        return facilitySpatialIndex.findWithinRadius(userLat, userLng, radiusKm).stream()
+                .filter(nearby -> facilityType == null || facilityType.equals(nearby.getFacility().getFacilityType()))
+                .limit(maxResults)
+                .map(nearby -> convertSnapshotToDistanceData(nearby.getFacility(), nearby.getDistanceKm()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 지역별 시설 밀도 및 접근성 분석
      * @param region 분석할 지역
@@ -181,15 +210,31 @@ public class MapBasedFacilityService {
     public List<Map<String, Object>> clusterFacilities(List<Map<String, Object>> facilities, int zoomLevel) {
         log.debug("시설 클러스터링 - 시설 수: {}, 줌 레벨: {}", facilities.size(), zoomLevel);
 
-        // 줌 레벨에 따른 클러스터링 거리 조정
-        double clusterDistance = calculateClusterDistance(zoomLevel);
-        
-        // 실제로는 k-means 또는 DBSCAN 알고리즘 사용
-        // 여기서는 간단한 거리 기반 그룹핑 구현
-        List<Map<String, Object>> clusters = performSimpleClustering(facilities, clusterDistance);
-        
-        log.debug("시설 클러스터링 완료 - 클러스터 수: {}", clusters.size());
-        return clusters;
+        // 시설 ID로 인덱스 스냅샷을 찾아 클러스터 피라미드와 같은 격자 규칙으로 그룹핑
+        List<FacilitySpatialIndex.FacilitySnapshot> snapshots = facilities.stream()
+                .map(facility -> facility.get("facilityId"))
+                .filter(id -> id instanceof Long)
+                .map(id -> facilitySpatialIndex.get((Long) id))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        List<FacilityClusterIndex.Cluster> clusters = facilityClusterIndex.cluster(snapshots, zoomLevel);
+
+        List<Map<String, Object>> result = new ArrayList<>(clusters.size());
+        for (int i = 0; i < clusters.size(); i++) {
+            FacilityClusterIndex.Cluster cluster = clusters.get(i);
+            Map<String, Object> clusterData = new HashMap<>();
+            clusterData.put("clusterId", i + 1);
+            clusterData.put("centerLat", cluster.getLatitude());
+            clusterData.put("centerLng", cluster.getLongitude());
+            clusterData.put("facilityCount", cluster.getCount());
+            clusterData.put("averageGrade", cluster.getDominantGrade());
+            clusterData.put("totalAvailableBeds", cluster.getAvailableBeds());
+            result.add(clusterData);
+        }
+
+        log.debug("시설 클러스터링 완료 - 클러스터 수: {}", result.size());
+        return result;
     }
 
     /**
@@ -216,13 +261,23 @@ public class MapBasedFacilityService {
     // ===== 내부 헬퍼 메서드들 =====
 
     /**
-     * 지도 영역 내 시설 검색 (공공데이터 API 연동)
+     * 지도 영역 내 시설 검색
+     * 로컬 시설 스냅샷 인덱스를 우선 사용하고, 인덱스 미구성 시 공공데이터 API로 대체
+     * @param zoom 지도 줌 레벨 (null이면 영역 크기로 추정)
      */
     public Map<String, Object> searchFacilitiesInMapBounds(
             double neLat, double neLng, double swLat, double swLng,
-            String facilityType, String minGrade, boolean availableBedsOnly) {
+            String facilityType, String minGrade, boolean availableBedsOnly, Integer zoom) {
         
-        log.info("지도 영역 내 시설 검색 - NE({},{}) SW({},{})", neLat, neLng, swLat, swLng);
+        log.info("지도 영역 내 시설 검색 - NE({},{}) SW({},{}), 줌: {}", neLat, neLng, swLat, swLng, zoom);
+
+        if (!facilitySpatialIndex.isEmpty()) {
+            int effectiveZoom = zoom != null
+                    ? zoom
+                    : facilityClusterIndex.estimateZoom(swLng, neLng, DEFAULT_VIEWPORT_WIDTH_PX);
+            return searchFacilitiesInMapBoundsFromIndex(
+                    neLat, neLng, swLat, swLng, facilityType, minGrade, availableBedsOnly, effectiveZoom);
+        }
         
         // 중심점 및 반경 계산
         double centerLat = (neLat + swLat) / 2;
@@ -276,6 +331,136 @@ public class MapBasedFacilityService {
         log.info("지도 영역 내 시설 검색 완료 - {}개 시설 발견", facilitiesInBounds.size());
         return result;
     }
+
+    /**
+     * 로컬 시설 스냅샷 인덱스 기반 지도 영역 검색
+     * - 클러스터 줌 레벨: 필터가 없으면 미리 계산된 클러스터 피라미드를 읽고, 필터가 있으면 필터 결과를 즉석 클러스터링
+     * - 단일 시설 셀만 개별 마커(facilities)로, 나머지는 클러스터 중심점/개수로 반환하여 응답 크기 축소
+     * - 최대 줌 초과 시 영역 내 시설 전체를 개별 마커로 반환
+     */
+    private Map<String, Object> searchFacilitiesInMapBoundsFromIndex(
+            double neLat, double neLng, double swLat, double swLng,
+            String facilityType, String minGrade, boolean availableBedsOnly, int zoom) {
+
+        boolean filtered = (facilityType != null && !facilityType.isEmpty())
+                || (minGrade != null && !minGrade.isEmpty())
+                || availableBedsOnly;
+
+        if (facilityClusterIndex.isClusteredZoom(zoom) && !filtered) {
+            return buildClusteredMapResult(neLat, neLng, swLat, swLng, zoom,
+                    facilityClusterIndex.getClusters(swLat, swLng, neLat, neLng, zoom,
+                            (south, west, north, east) -> facilitySpatialIndex.findWithinBounds(
+                                    south, west, north, east, null)));
+        }
+
+        String gradeLimit = (minGrade != null && !minGrade.isEmpty())
+                ? minGrade.substring(0, 1).toUpperCase()
+                : null;
+
+        Predicate<FacilitySpatialIndex.FacilitySnapshot> filter = snapshot ->
+                (facilityType == null || facilityType.isEmpty() || facilityType.equals(snapshot.getFacilityType()))
+                && (gradeLimit == null || (snapshot.getFacilityGrade() != null
+                        && snapshot.getFacilityGrade().compareTo(gradeLimit) <= 0)) // A가 가장 높음
+                && (!availableBedsOnly || snapshot.getAvailableBeds() > 0);
+
+        List<FacilitySpatialIndex.FacilitySnapshot> snapshots =
+                facilitySpatialIndex.findWithinBounds(swLat, swLng, neLat, neLng, filter);
+
+        if (facilityClusterIndex.isClusteredZoom(zoom)) {
+            return buildClusteredMapResult(neLat, neLng, swLat, swLng, zoom,
+                    facilityClusterIndex.cluster(snapshots, zoom));
+        }
+
+        List<Map<String, Object>> facilitiesInBounds = snapshots.stream()
+                .map(this::convertSnapshotToMapData)
+                .collect(Collectors.toList());
+
+        Map<String, Object> result = createMapResult(neLat, neLng, swLat, swLng, zoom);
+        result.put("totalCount", facilitiesInBounds.size());
+        result.put("facilities", facilitiesInBounds);
+        result.put("clusters", List.of());
+
+        log.info("지도 영역 내 시설 검색 완료 (로컬 스냅샷) - {}개 시설 발견", facilitiesInBounds.size());
+        return result;
+    }
+
+    /**
+     * 클러스터 목록으로 지도 응답 구성 (단일 시설 클러스터는 개별 마커로 변환)
+     */
+    private Map<String, Object> buildClusteredMapResult(
+            double neLat, double neLng, double swLat, double swLng, int zoom,
+            List<FacilityClusterIndex.Cluster> clusters) {
+
+        List<Map<String, Object>> facilities = new ArrayList<>();
+        List<Map<String, Object>> clusterData = new ArrayList<>();
+        int totalCount = 0;
+
+        for (FacilityClusterIndex.Cluster cluster : clusters) {
+            totalCount += cluster.getCount();
+
+            if (cluster.getFacilityId() != null) {
+                FacilitySpatialIndex.FacilitySnapshot snapshot = facilitySpatialIndex.get(cluster.getFacilityId());
+                if (snapshot != null) {
+                    facilities.add(convertSnapshotToMapData(snapshot));
+                    continue;
+                }
+            }
+
+            clusterData.add(Map.of(
+                "lat", cluster.getLatitude(),
+                "lng", cluster.getLongitude(),
+                "count", cluster.getCount(),
+                "dominantGrade", cluster.getDominantGrade(),
+                "gradeDistribution", cluster.getGradeDistribution(),
+                "availableBeds", cluster.getAvailableBeds()
+            ));
+        }
+
+        Map<String, Object> result = createMapResult(neLat, neLng, swLat, swLng, zoom);
+        result.put("totalCount", totalCount);
+        result.put("facilities", facilities);
+        result.put("clusters", clusterData);
+
+        log.info("지도 영역 내 시설 검색 완료 (클러스터, 줌 {}) - {}개 시설, 클러스터 {}개, 개별 마커 {}개",
+                zoom, totalCount, clusterData.size(), facilities.size());
+        return result;
+    }
+
+    private Map<String, Object> createMapResult(double neLat, double neLng, double swLat, double swLng, int zoom) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("boundingBox", Map.of(
+            "northeast", Map.of("lat", neLat, "lng", neLng),
+            "southwest", Map.of("lat", swLat, "lng", swLng)
+        ));
+        result.put("zoom", zoom);
+        result.put("dataSource", "local_snapshot");
+        return result;
+    }
+
+    /**
+     * 시설 스냅샷을 지도 마커용 데이터로 변환 (공공데이터 변환 결과와 동일한 키 사용)
+     */
+    private Map<String, Object> convertSnapshotToMapData(FacilitySpatialIndex.FacilitySnapshot facility) {
+        Map<String, Object> mapData = new HashMap<>();
+        mapData.put("facilityId", facility.getFacilityId());
+        mapData.put("facilityName", facility.getFacilityName());
+        mapData.put("facilityType", facility.getFacilityType());
+        mapData.put("address", facility.getAddress());
+        mapData.put("phoneNumber", facility.getPhoneNumber());
+        mapData.put("latitude", facility.getLatitude());
+        mapData.put("longitude", facility.getLongitude());
+        mapData.put("totalCapacity", facility.getTotalCapacity());
+        mapData.put("currentOccupancy", facility.getCurrentOccupancy());
+
+        int availableBeds = facility.getAvailableBeds();
+        mapData.put("availableBeds", availableBeds);
+        mapData.put("grade", facility.getFacilityGrade() != null ? facility.getFacilityGrade() + "등급" : "미등급");
+        mapData.put("monthlyFee", facility.getMonthlyBasicFee());
+        mapData.put("isRecommended", false);
+        mapData.put("markerColor", availableBeds > 0 ? "green" : "gray");
+
+        return mapData;
+    }
     
     /**
      * 공공데이터 시설 정보를 지도용 데이터로 변환
@@ -447,6 +632,30 @@ public class MapBasedFacilityService {
         return facility;
     }
 
+    /**
+     * 시설 스냅샷을 거리 검색용 데이터로 변환 (거리 점수 포함)
+     */
+    private Map<String, Object> convertSnapshotToDistanceData(FacilitySpatialIndex.FacilitySnapshot facility, double distance) {
+        Map<String, Object> mapData = new HashMap<>();
+        mapData.put("facilityId", facility.getFacilityId());
+        mapData.put("facilityName", facility.getFacilityName());
+        mapData.put("facilityType", facility.getFacilityType());
+        mapData.put("address", facility.getAddress());
+        mapData.put("latitude", facility.getLatitude());
+        mapData.put("longitude", facility.getLongitude());
+        mapData.put("facilityGrade", facility.getFacilityGrade());
+        mapData.put("availableBeds", facility.getAvailableBeds());
+        mapData.put("monthlyFee", facility.getMonthlyBasicFee());
+        mapData.put("contact", facility.getPhoneNumber());
+        mapData.put("distance", Math.round(distance * 100.0) / 100.0);
+
+        // 거리 점수 계산 (가까울수록 높은 점수)
+        double distanceScore = Math.max(0, 100 - (distance * 5));
+        mapData.put("distanceScore", Math.round(distanceScore * 10.0) / 10.0);
+
+        return mapData;
+    }
+
     /**
      * 거리 계산 및 점수 매기기
      */
@@ -529,41 +738,6 @@ public class MapBasedFacilityService {
         return accessibility;
     }
 
-    /**
-     * 줌 레벨에 따른 클러스터링 거리 계산
-     */
-    private double calculateClusterDistance(int zoomLevel) {
-        // 줌 레벨이 높을수록 (확대) 더 작은 거리로 클러스터링
-        return Math.max(0.5, 10.0 / zoomLevel);
-    }
-
-    /**
-     * 간단한 거리 기반 클러스터링
-     */
-    private List<Map<String, Object>> performSimpleClustering(
-            List<Map<String, Object>> facilities, double clusterDistance) {
-        
-        // 실제로는 더 정교한 클러스터링 알고리즘 구현
-        return List.of(
-            Map.of(
-                "clusterId", 1,
-                "centerLat", 37.5665,
-                "centerLng", 126.9780,
-                "facilityCount", 3,
-                "averageGrade", "A",
-                "totalAvailableBeds", 25
-            ),
-            Map.of(
-                "clusterId", 2,
-                "centerLat", 37.5200,
-                "centerLng", 127.0500,
-                "facilityCount", 2,
-                "averageGrade", "B", 
-                "totalAvailableBeds", 8
-            )
-        );
-    }
-
     /**
      * 히트맵 포인트 생성
      */
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -88,6 +90,19 @@ public class HealthAssessmentService {
         return healthAssessmentRepository.findById(assessmentId);
     }
 
+    /**
+     * ID 목록으로 건강 평가 일괄 조회 (없는 ID는 결과에서 제외, 순서 보장 안 함)
+     */
+    public List<HealthAssessment> getAssessmentsByIds(Collection<Long> assessmentIds) {
+        log.debug("건강 평가 일괄 조회 - {}건", assessmentIds.size());
+
+        if (assessmentIds.stream().anyMatch(id -> id == null || id <= 0)) {
+            throw new CustomException.BadRequest("유효하지 않은 평가 ID가 포함되어 있습니다");
+        }
+
+        return healthAssessmentRepository.findAllById(assessmentIds);
+    }
+
     /**
      * 회원별 최신 건강 평가 조회
      */
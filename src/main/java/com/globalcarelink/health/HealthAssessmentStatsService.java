@@ -28,9 +28,9 @@ public class HealthAssessmentStatsService {
 
     /**
      * 종합 건강 평가 통계 조회
-     * 캐시 적용으로 성능 최적화
+     * 캐시 적용으로 성능 최적화 (동시 요청은 한 번만 계산, 만료 전 갱신)
      */
-    @Cacheable(value = "matching-statistics", key = "'health_statistics'")
+    @Cacheable(value = "matching-statistics", key = "'health_statistics'", sync = true)
     public HealthAssessmentStatistics getComprehensiveStatistics() {
         log.info("건강 평가 통계 생성 시작");
         